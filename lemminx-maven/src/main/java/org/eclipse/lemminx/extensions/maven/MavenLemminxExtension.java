@@ -11,26 +11,21 @@
  *******************************************************************************/
 package org.eclipse.lemminx.extensions.maven;
 
-import static org.eclipse.lemminx.extensions.maven.DOMConstants.PARENT_ELT;
-import static org.eclipse.lemminx.extensions.maven.DOMConstants.PROJECT_ELT;
-
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
@@ -55,11 +50,13 @@ import org.apache.maven.execution.MavenSession;
 import org.apache.maven.internal.aether.DefaultRepositorySystemSessionFactory;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Parent;
+import org.apache.maven.model.building.ModelCache;
 import org.apache.maven.plugin.BuildPluginManager;
 import org.apache.maven.plugin.MavenPluginManager;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.properties.internal.EnvironmentUtils;
 import org.apache.maven.repository.RepositorySystem;
+import org.apache.maven.repository.internal.ModelCacheFactory;
 import org.apache.maven.settings.Settings;
 import org.apache.maven.settings.building.DefaultSettingsBuildingRequest;
 import org.apache.maven.settings.building.SettingsBuilder;
@@ -77,11 +74,10 @@ import org.codehaus.plexus.classworlds.realm.NoSuchRealmException;
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.WorkspaceReader;
-import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.commons.progress.ProgressMonitor;
 import org.eclipse.lemminx.commons.progress.ProgressSupport;
 import org.eclipse.lemminx.dom.DOMDocument;
-import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.maven.commands.MavenStatisticsCommand;
 import org.eclipse.lemminx.extensions.maven.participants.codeaction.ExtractPropertyCodeAction;
 import org.eclipse.lemminx.extensions.maven.participants.codeaction.InlinePropertyCodeAction;
 import org.eclipse.lemminx.extensions.maven.participants.codeaction.MavenIdPartRemovalCodeAction;
@@ -93,19 +89,20 @@ import org.eclipse.lemminx.extensions.maven.participants.diagnostics.MavenDiagno
 import org.eclipse.lemminx.extensions.maven.participants.hover.MavenHoverParticipant;
 import org.eclipse.lemminx.extensions.maven.participants.rename.MavenPropertyRenameParticipant;
 import org.eclipse.lemminx.extensions.maven.project.IMavenProjectBuildListener;
+import org.eclipse.lemminx.extensions.maven.project.IMavenProjectConsumer;
 import org.eclipse.lemminx.extensions.maven.project.LoadedMavenProject;
 import org.eclipse.lemminx.extensions.maven.project.MavenProjectCache;
+import org.eclipse.lemminx.extensions.maven.project.MavenProjectTier;
 import org.eclipse.lemminx.extensions.maven.searcher.LocalRepositorySearcher;
 import org.eclipse.lemminx.extensions.maven.searcher.RemoteCentralRepositorySearcher;
 import org.eclipse.lemminx.extensions.maven.settings.XMLMavenGeneralSettings;
 import org.eclipse.lemminx.extensions.maven.settings.XMLMavenSettings;
-import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
 import org.eclipse.lemminx.extensions.maven.utils.LocalRepositoryUtils;
-import org.eclipse.lemminx.extensions.maven.utils.MavenParseUtils;
 import org.eclipse.lemminx.services.IXMLDocumentProvider;
 import org.eclipse.lemminx.services.IXMLValidationService;
 import org.eclipse.lemminx.services.extensions.IXMLExtension;
 import org.eclipse.lemminx.services.extensions.XMLExtensionsRegistry;
+import org.eclipse.lemminx.services.extensions.commands.IXMLCommandService;
 import org.eclipse.lemminx.services.extensions.codeaction.ICodeActionParticipant;
 import org.eclipse.lemminx.services.extensions.completion.ICompletionParticipant;
 import org.eclipse.lemminx.services.extensions.diagnostics.IDiagnosticsParticipant;
@@ -116,6 +113,7 @@ import org.eclipse.lemminx.services.extensions.save.ISaveContext.SaveContextType
 import org.eclipse.lemminx.settings.AllXMLSettings;
 import org.eclipse.lemminx.settings.InitializationOptionsSettings;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+import org.eclipse.lemminx.utils.FilesUtils;
 import org.eclipse.lsp4j.InitializeParams;
 import org.eclipse.lsp4j.WorkspaceFolder;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -133,9 +131,12 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 	private static final Logger LOGGER = Logger.getLogger(MavenLemminxExtension.class.getName());
 	private static final String MAVEN_XMLLS_EXTENSION_REALM_ID = MavenLemminxExtension.class.getName();
 	private static final long WAIT_SAFE_TIMEOUT_SECONDS = 10;
+	private static final String WORKSPACE_INDEX_PATH = "maven/workspace";
+	private static final String LOCAL_REPOSITORY_INDEX_PATH = "maven/repository";
 
 	private XMLExtensionsRegistry currentRegistry;
 	private MavenLemminxWorkspaceReader workspaceReader = new MavenLemminxWorkspaceReader();
+	private WorkspaceFolderWatcher workspaceWatcher;
 
 	private ICompletionParticipant completionParticipant;
 	private IDiagnosticsParticipant diagnosticParticipant;
@@ -184,6 +185,16 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 				this.settings = newSettings;
 				start(null, registry);
 			}
+		} else if (context.getType() == SaveContextType.DOCUMENT) {
+			// The projects depending on a saved pom.xml read it from the disk
+			MavenProjectCache projectCache = cache;
+			String uri = context.getUri();
+			if (projectCache != null && uri != null && uri.startsWith("file:")) {
+				File file = FilesUtils.toFile(uri);
+				if (match(file.toPath())) {
+					projectCache.fileChanged(file);
+				}
+			}
 		}
 	}
 
@@ -221,6 +232,10 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 			registerCodeActionParticipants(registry);
 			propertyRenameParticipant = new MavenPropertyRenameParticipant(this);
 			registry.registerRenameParticipant(propertyRenameParticipant);
+			IXMLCommandService commandService = registry.getCommandService();
+			if (commandService != null) {
+				commandService.registerCommand(MavenStatisticsCommand.COMMAND_ID, new MavenStatisticsCommand(this));
+			}
 		} catch (Exception ex) {
 			LOGGER.log(Level.SEVERE, ex.getCause().toString(), ex);
 		}
@@ -286,6 +301,10 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 						percentage, null);
 			}
 			this.container = newPlexusContainer();
+			// The models cached by Maven are never checked for changes, so the editor-aware
+			// model cache is to be registered before any component building the models (the
+			// Project Builder, the Artifact Descriptor Reader) is instantiated
+			container.addComponent((ModelCacheFactory) this::createModelCache, ModelCacheFactory.class, "default");
 
 			// Step2 : initialize Maven request
 			cancelChecker.checkCanceled();
@@ -325,7 +344,9 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 			MavenExecutionResult mavenResult = new DefaultMavenExecutionResult();
 			// TODO: MavenSession is deprecated. Investigate for alternative
 			mavenSession = new MavenSession(container, repositorySystemSession, mavenRequest, mavenResult);
-			cache = new MavenProjectCache(this, mavenSession, documentProvider);
+			cache = new MavenProjectCache(this, mavenSession, documentProvider, settings.getBuild());
+			// The workspace modules are resolved to the build directories of their cached projects
+			workspaceReader.setProjectLookup(pomFile -> cache != null ? cache.getCachedMavenProject(pomFile) : null);
 
 			// Step5 : create local repository searcher
 			cancelChecker.checkCanceled();
@@ -338,7 +359,8 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 			}
 			Set<File> dirs = new HashSet<>(localRepositoryDirs);
 			dirs.add(mavenRequest.getLocalRepositoryPath());
-			localRepositorySearcher = new LocalRepositorySearcher(dirs, progressSupport);
+			localRepositorySearcher = new LocalRepositorySearcher(dirs, getIndexDirectory(LOCAL_REPOSITORY_INDEX_PATH),
+					progressSupport);
 			mavenProjectBuildListeners.add(localRepositorySearcher);
 			
 			if (!skipCentralRepository) {
@@ -536,6 +558,10 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 		this.hoverParticipant = null;
 		registry.unregisterDefinitionParticipant(definitionParticipant);
 		this.definitionParticipant = null;
+		IXMLCommandService commandService = registry.getCommandService();
+		if (commandService != null) {
+			commandService.unregisterCommand(MavenStatisticsCommand.COMMAND_ID);
+		}
 		if (localRepositorySearcher != null) {
 			localRepositorySearcher.stop();
 			localRepositorySearcher = null;
@@ -544,6 +570,10 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 			centralSearcher.stop();
 			centralSearcher = null;
 		}
+		if (workspaceWatcher != null) {
+			workspaceWatcher.stop();
+			workspaceWatcher = null;
+		}
 		if (cache != null) {
 			cache.stop();
 			cache = null;
@@ -596,6 +626,11 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 		return validationService;
 	}
 
+	private ModelCache createModelCache(RepositorySystemSession session) {
+		MavenProjectCache projectCache = cache;
+		return projectCache != null ? projectCache.createModelCache(session) : null;
+	}
+
 	/**
 	 * Returns the cache of collected Maven Projects
 	 * 
@@ -606,6 +641,23 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 		return this.cache;
 	}
 
+	/**
+	 * Returns the statistics of the Maven Project builds and of the workspace
+	 * resolution, without initializing Maven
+	 * 
+	 * @return the statistics by name
+	 */
+	public Map<String, Object> getStatistics() {
+		Map<String, Object> statistics = new LinkedHashMap<>();
+		MavenProjectCache projectCache = cache;
+		if (projectCache != null) {
+			statistics.put("projectCache", projectCache.getStatistics());
+			statistics.put("buildQueue", projectCache.getBuildQueueDepths());
+		}
+		statistics.put("workspaceReader", workspaceReader.getStatistics());
+		return statistics;
+	}
+
 	/**
 	 * Returns the Maven Session object
 	 * 
@@ -705,72 +757,74 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 		currentWorkspaceFolders.removeAll(List.of(removed != null ? removed : new URI[0]));
 		WorkspaceReader workspaceReader = mavenRequest.getWorkspaceReader();
 		if (workspaceReader instanceof MavenLemminxWorkspaceReader reader) {
-			Collection<URI> projectsToAdd = computeAddedWorkspaceProjects(added != null ? added : new URI[0]);
+			Collection<URI> projectsToAdd = computeAddedWorkspaceProjects(added != null ? added : new URI[0], reader);
 			Collection<URI> projectsToRemove = computeRemovedWorkspaceProjects(removed != null ? removed : new URI[0]);
 
-			reader.addToWorkspace(sortProjects(projectsToAdd));
+			reader.addToWorkspace(sortProjects(reader, projectsToAdd), progressSupport);
 			projectsToRemove.stream().forEach(reader::remove);
+			watchWorkspaceFolders(added != null ? added : new URI[0], removed != null ? removed : new URI[0]);
 		}
 	}
 
-	private Collection<URI> sortProjects(Collection<URI> projectsUris) {
-		HashMap<URI, String> depByUri = new HashMap<>();
-		HashMap<String, URI> uriByDep = new HashMap<>();
-		LinkedHashMap<String, String> parentByDep = new LinkedHashMap<>();
-		LinkedHashSet<URI> resultUris = new LinkedHashSet<>();
-
-		Optional.ofNullable(projectsUris).ifPresent(uris -> {
-			uris.stream().filter(Objects::nonNull).forEach(uri -> {
-				Optional.ofNullable(createDOMDocument(uri)).ifPresent(doc -> {
-					if (doc.getDocumentElement() != null
-							&& PROJECT_ELT.equals(doc.getDocumentElement().getNodeName())) {
-						Optional.ofNullable(MavenParseUtils.parseArtifact(doc.getDocumentElement())).ifPresent(a -> {
-							Parent p = MavenParseUtils.parseParent(
-									DOMUtils.findChildElement(doc.getDocumentElement(), PARENT_ELT).orElse(null));
-							// If artifact groupId is null - set it from parent
-							if (a.getGroupId() == null && p != null) {
-								a.setGroupId(p.getGroupId());
-							}
-							// If artifact version is null - set it from parent
-							if (a.getVersion() == null && p != null) {
-								a.setVersion(p.getVersion());
-							}
-
-							String key = key(a);
-							depByUri.put(uri, key);
-							uriByDep.put(key, uri);
-							if (p != null) {
-								parentByDep.put(key, key(p));
-							}
-						});
-					}
-				});
-			});
-
-			LinkedHashSet<URI> skippedUris = new LinkedHashSet<>();
-			uris.stream().filter(Objects::nonNull).forEach(uri -> {
-				String a = depByUri.get(uri);
-				if (a != null) {
-					adUrisdParentFirst(a, parentByDep, uriByDep, resultUris);
-				} else {
-					skippedUris.add(uri);
-				}
-			});
-			// Add skipped IRIs to the end of the collection
-			resultUris.addAll(skippedUris);
-		});
-		return resultUris;
-	}
-
-	private static DOMDocument createDOMDocument(URI uri) {
-		File pomFile = new File(uri);
+	private synchronized void watchWorkspaceFolders(URI[] added, URI[] removed) {
+		if (unitTestMode) {
+			return;
+		}
 		try {
-			String fileContent = String.join(System.lineSeparator(), Files.readAllLines(pomFile.toPath()));
-			return DOMParser.getInstance().parse(new TextDocument(fileContent, pomFile.toURI().toString()), null);
+			if (workspaceWatcher == null) {
+				workspaceWatcher = new WorkspaceFolderWatcher(settings.getWorkspace(), this::workspaceFilesChanged);
+				workspaceWatcher.start();
+			}
+			Arrays.stream(removed).map(uri -> new File(uri).toPath()).forEach(workspaceWatcher::removeRoot);
+			Arrays.stream(added).map(uri -> new File(uri).toPath()).forEach(workspaceWatcher::addRoot);
 		} catch (IOException e) {
-			LOGGER.log(Level.SEVERE, e.getMessage(), e);
+			LOGGER.log(Level.WARNING, "Cannot watch the workspace folders: " + e.getMessage(), e);
 		}
-		return null;
+	}
+
+	/**
+	 * Updates the workspace and the cached projects with the pom.xml files
+	 * changed on disk, outside of the editor
+	 */
+	private void workspaceFilesChanged(Set<Path> changedPomFiles, Set<Path> removedPaths,
+			Set<Path> rescannedFolders) {
+		if (mavenRequest == null || !(mavenRequest.getWorkspaceReader() instanceof MavenLemminxWorkspaceReader reader)) {
+			return;
+		}
+		MavenProjectCache projectCache = cache;
+		List<File> removedProjects = reader.getCurrentWorkspaceArtifactFiles().stream()
+				.filter(file -> removedPaths.stream().anyMatch(file.toPath()::startsWith)
+						|| (!file.isFile() && rescannedFolders.stream().anyMatch(file.toPath()::startsWith)))
+				.toList();
+		for (File file : removedProjects) {
+			reader.remove(file.toURI());
+			if (projectCache != null) {
+				projectCache.fileRemoved(file);
+			}
+		}
+		if (!changedPomFiles.isEmpty()) {
+			reader.updateInWorkspace(sortProjects(reader, changedPomFiles.stream().map(Path::toUri).toList()),
+					progressSupport);
+			if (projectCache != null) {
+				changedPomFiles.stream().map(Path::toFile).forEach(projectCache::fileChanged);
+			}
+		}
+	}
+
+	/**
+	 * Orders the projects parents and aggregators first, updating the workspace
+	 * project graph with the headers of the project files
+	 */
+	private Collection<URI> sortProjects(MavenLemminxWorkspaceReader reader, Collection<URI> projectsUris) {
+		if (projectsUris == null) {
+			return Collections.emptyList();
+		}
+		Map<File, URI> uriByFile = new LinkedHashMap<>();
+		projectsUris.stream().filter(Objects::nonNull)
+				.forEach(uri -> uriByFile.putIfAbsent(new File(uri).getAbsoluteFile(), uri));
+		WorkspaceProjectGraph graph = reader.getProjectGraph();
+		graph.update(uriByFile.keySet());
+		return graph.sort(uriByFile.keySet()).stream().map(uriByFile::get).toList();
 	}
 
 	/**
@@ -809,20 +863,6 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 				+ Optional.ofNullable(project.getVersion()).orElse("");
 	}
 
-	private void adUrisdParentFirst(String artifactKey, LinkedHashMap<String, String> parentByDep,
-			HashMap<String, URI> uriByDep, LinkedHashSet<URI> resultUris) {
-
-		String pKey = parentByDep.get(artifactKey);
-		if (pKey != null) {
-			adUrisdParentFirst(pKey, parentByDep, uriByDep, resultUris);
-		}
-
-		URI uri = uriByDep.get(artifactKey);
-		if (uri != null) {
-			resultUris.add(uri);
-		}
-	}
-
 	private Collection<URI> computeRemovedWorkspaceProjects(URI[] removed) {
 		return workspaceReader.getCurrentWorkspaceArtifactFiles().stream()
 				.filter(f -> Arrays.stream(removed).anyMatch(uri -> {
@@ -831,35 +871,51 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 				})).map(File::toURI).collect(Collectors.toUnmodifiableList());
 	}
 
-	private List<URI> computeAddedWorkspaceProjects(URI[] added) {
+	/**
+	 * Returns the projects of the added workspace folders to be parsed. If the
+	 * persistent cache is enabled, the projects known by the workspace module
+	 * index and unchanged since are added to the workspace right away.
+	 */
+	private List<URI> computeAddedWorkspaceProjects(URI[] added, MavenLemminxWorkspaceReader reader) {
+		Path indexDirectory = getIndexDirectory(WORKSPACE_INDEX_PATH);
+		if (indexDirectory == null) {
+			return walkWorkspaceProjects(added);
+		}
 		List<URI> projectsToAdd = new ArrayList<>();
-		Arrays.asList(added).stream().forEach(uri -> {
-			Path addedPath = new File(uri).toPath();
-			try {
-				Files.walkFileTree(addedPath, Collections.emptySet(), 10, new SimpleFileVisitor<Path>() {
-					@Override
-					public FileVisitResult preVisitDirectory(Path file, BasicFileAttributes attrs) throws IOException {
-						String fileName = file.getFileName().toString();
-						// Skip hidden files and directories as well as 'target' directories
-						if (fileName.charAt(0) == '.' || "target".equals(fileName)) {
-							return FileVisitResult.SKIP_SUBTREE;
-						}
-						return FileVisitResult.CONTINUE;
-					}
-
-					@Override
-					public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-						if (match(file)) {
-							projectsToAdd.add(file.toUri());
-						}
-						return FileVisitResult.CONTINUE;
-					}
-				});
-			} catch (IOException e) {
-				LOGGER.log(Level.SEVERE, e.getMessage(), e);
-			}
-		});
+		for (URI uri : added) {
+			WorkspaceModuleIndex index = WorkspaceModuleIndex.load(new File(uri).toPath(), indexDirectory);
+			Map<File, Dependency> gavs = new LinkedHashMap<>();
+			index.scan(settings.getWorkspace()).forEach((pomFile, gav) -> gavs.put(pomFile.toFile(), gav));
+			// The graph is to know the indexed projects, even if they're not parsed
+			index.updateGraph(reader.getProjectGraph());
+			projectsToAdd.addAll(reader.addIndexedToWorkspace(gavs));
+			index.save();
+		}
+		return projectsToAdd;
+	}
 
+	/**
+	 * Returns the directory to store the indexes of the workspace folders or of
+	 * the local repositories in, or null if the persistent cache is disabled
+	 */
+	private Path getIndexDirectory(String indexPath) {
+		// Tests always start from scratch
+		if (unitTestMode || (settings.getBuild() != null && !settings.getBuild().isPersistentCache())) {
+			return null;
+		}
+		try {
+			return FilesUtils.getDeployedPath(Paths.get(indexPath));
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Cannot locate the " + indexPath + " index: " + e.getMessage(), e);
+			return null;
+		}
+	}
+
+	private List<URI> walkWorkspaceProjects(URI[] added) {
+		WorkspaceProjectWalker walker = new WorkspaceProjectWalker(settings.getWorkspace());
+		List<URI> projectsToAdd = new ArrayList<>();
+		Arrays.asList(added).stream().forEach(
+				uri -> walker.walk(new File(uri).toPath()).forEach(file -> projectsToAdd.add(file.toUri())));
 		return projectsToAdd;
 	}
 
@@ -874,17 +930,37 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 	 * @return List of Maven Projects
 	 */
 	public List<MavenProject> getCurrentWorkspaceProjects(boolean wait) {
+		return getCurrentWorkspaceProjects(wait, () -> MavenProjectTier.EFFECTIVE);
+	}
+
+	/**
+	 * Returns the list of Maven Projects currently added to the Workspace, 
+	 * providing at least the tier of each project required by the consumer
+	 * 
+	 * @param wait A boolean 'true' indicates that all projects are to be returned,
+	 *             not only the cached ones at the moment, method should wait for
+	 *             the final build result, otherwise the only project that are
+	 *             already built and cached are to be returned, the rest of the
+	 *             projects are to be built in background
+	 * @param consumer The consumer of the Maven Projects, declaring the minimum 
+	 *             tier it needs, f.i. a RAW tier is enough to get the GAVs of the
+	 *             projects
+	 * @return List of Maven Projects
+	 */
+	public List<MavenProject> getCurrentWorkspaceProjects(boolean wait, IMavenProjectConsumer consumer) {
+		MavenProjectTier minimumTier = consumer.getMinimumProjectTier();
 		return workspaceReader.getCurrentWorkspaceArtifactFiles().stream().map(file -> {
 			try {
 				CompletableFuture<LoadedMavenProject> loadedProject = getProjectCache()
-						.getLoadedMavenProject(toUriASCIIString(file));
+						.getLoadedMavenProject(toUriASCIIString(file), minimumTier);
 				return wait ? loadedProject.get(WAIT_SAFE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
 						: loadedProject.getNow(null);
 			} catch (InterruptedException | ExecutionException | TimeoutException e) {
 				LOGGER.log(Level.SEVERE, e.getMessage(), e);
 				return null;
 			}
-		}).filter(Objects::nonNull).map(LoadedMavenProject::getMavenProject).toList();
+		}).filter(Objects::nonNull).filter(loadedProject -> loadedProject.getTier().satisfies(minimumTier))
+				.map(LoadedMavenProject::getMavenProject).toList();
 	}
 
 	/**
@@ -9,52 +9,47 @@
 package org.eclipse.lemminx.extensions.maven;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.logging.Level;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.apache.maven.RepositoryUtils;
-import org.apache.maven.artifact.repository.ArtifactRepositoryPolicy;
-import org.apache.maven.artifact.repository.MavenArtifactRepository;
-import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
 import org.apache.maven.model.Build;
-import org.apache.maven.model.Model;
-import org.apache.maven.model.building.FileModelSource;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.apache.maven.model.Dependency;
 import org.apache.maven.project.MavenProject;
-import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.repository.WorkspaceReader;
 import org.eclipse.aether.repository.WorkspaceRepository;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
-import org.eclipse.lemminx.commons.TextDocument;
-import org.eclipse.lemminx.dom.DOMDocument;
-import org.eclipse.lemminx.dom.DOMElement;
-import org.eclipse.lemminx.dom.DOMParser;
-import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
+import org.eclipse.lemminx.commons.progress.ProgressMonitor;
+import org.eclipse.lemminx.commons.progress.ProgressSupport;
+import org.eclipse.lemminx.extensions.maven.utils.LatencyHistogram;
+import org.eclipse.lemminx.extensions.maven.utils.PomHeaderReader;
+import org.eclipse.lemminx.extensions.maven.utils.PomHeaderReader.PomHeader;
 
 /**
  * This workspace reader allows to resolve GAV to local workspaceFolders that match
@@ -62,12 +57,18 @@ import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
  */
 public class MavenLemminxWorkspaceReader implements WorkspaceReader {
 
-	private static final int POLLING_INTERVAL = 30;
+	// The maximum time a lookup waits for the workspace to be processed
+	private static final long WAIT_TIMEOUT_SECONDS = 60;
+	private static final int POPULATION_WORKERS = Math.max(1,
+			Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+	private static final String POM_EXTENSION = "pom";
+	private static final String JAR_EXTENSION = "jar";
+	private static final String TESTS_CLASSIFIER = "tests";
+	private static final String DEFAULT_BUILD_DIRECTORY = "target";
 
 	private static final Logger LOGGER = Logger.getLogger(MavenLemminxExtension.class.getName());
 	
-	private static MavenXpp3Reader mavenReader = new MavenXpp3Reader();
-	
 	private final class ResolveArtifactsAndPopulateWorkspaceRunnable implements Runnable {
 		final File pomFile;
 
@@ -78,95 +79,46 @@ public class MavenLemminxWorkspaceReader implements WorkspaceReader {
 		@Override
 		public void run() {
 			// already processed, don't repeat operation
-			if (!workspaceArtifacts.containsValue(pomFile)) {
+			if (toProcess.contains(pomFile)) {
 				LOGGER.finest("Trying to add " + pomFile + "to workspace...");
-				Optional<MavenProject> snapshotProject = Optional.empty();
-				skipFlushBeforeResult.set(true); // avoid deadlock as building project will go through this workspace reader
+				long start = System.nanoTime();
+				boolean registered = false;
 				try {
-					snapshotProject = getMinimalMavenProject(pomFile);
+					// Only the coordinates are needed, the groupId and the version
+					// may be inherited from the parent
+					PomHeader header = PomHeaderReader.read(pomFile);
+					Dependency gav = header != null ? header.getArtifact() : null;
+					if (gav != null && gav.getGroupId() != null && gav.getArtifactId() != null
+							&& gav.getVersion() != null && toProcess.contains(pomFile)) {
+						registerArtifact(new DefaultArtifact(gav.getGroupId(), gav.getArtifactId(), null,
+								gav.getVersion()), pomFile);
+						registered = true;
+					}
 				} catch (Exception e) {
 					// We shouldn't fail here, otherwise, the pomFile will never be processed 
 					// causing a possible deadlock in "Flush Before Result" loops
 					LOGGER.fine(e.getMessage());
-				} finally {
-					skipFlushBeforeResult.set(false);
 				}
-				snapshotProject.ifPresentOrElse(project -> {
-					while (project != null) { 
-						File pom = project.getFile();
-						if (toProcess.contains(pom)) {
-							DefaultArtifact artifact = new DefaultArtifact(project.getGroupId(), project.getArtifactId(), null, project.getVersion());
-							workspaceArtifacts.put(artifact, pom);
-							LOGGER.finest("Registered" + artifact + " -> " + pom + " into workspace...");
-						}
-						propagateProcessed(pom);
-						project = project.getParent();
-					}
-				}, () -> { // Fallback to try reading GAV at least
-					try {
-						String fileContent = String.join(System.lineSeparator(), Files.readAllLines(pomFile.toPath()));
-						DOMDocument doc = DOMParser.getInstance().parse(new TextDocument(fileContent, pomFile.toURI().toString()), null);
-						doc.getChildren().stream() //
-							.filter(DOMElement.class::isInstance) //
-							.map(DOMElement.class::cast) //
-							.filter(node -> DOMConstants.PROJECT_ELT.equals(node.getLocalName())) //
-							.forEach(projectNode -> {
-								Optional<DOMElement> parentElement = DOMUtils.findChildElement(projectNode, DOMConstants.PARENT_ELT);
-								Optional<String> groupId = DOMUtils.findChildElementText(projectNode, DOMConstants.GROUP_ID_ELT)
-										.or(() -> parentElement.flatMap(parent -> DOMUtils.findChildElementText(parent, DOMConstants.GROUP_ID_ELT)));
-								Optional<String> artifactId = DOMUtils.findChildElementText(projectNode, DOMConstants.ARTIFACT_ID_ELT);
-								Optional<String> version = DOMUtils.findChildElementText(projectNode, DOMConstants.VERSION_ELT)
-										.or(() -> parentElement.flatMap(parent -> DOMUtils.findChildElementText(parent, DOMConstants.VERSION_ELT)));
-								if (groupId.isPresent() && !groupId.get().contains("$") && //
-									artifactId.isPresent() && !artifactId.get().contains("$") &&
-									version.isPresent() && !version.get().contains("$")) {
-									DefaultArtifact artifact = new DefaultArtifact(groupId.get(), artifactId.get(), null, version.get());
-									workspaceArtifacts.put(artifact, pomFile);
-									LOGGER.finest("Registered" + artifact + " -> " + pomFile + " into workspace...");
-								}
-							});
-					} catch (IOException ex) {
-						LOGGER.fine(ex.getMessage());
-					}
-				});
+				populationTimes.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+				if (!registered) {
+					unresolvedCount.increment();
+				}
 			}
 			LOGGER.finest("Done adding " + pomFile + "to workspace...");
 			// ensure we remove it from further processing even in case no MavenProject can be built
 			propagateProcessed(pomFile);
 		}
 
-		private Optional<MavenProject> getMinimalMavenProject(File file) {
-			// Try to manually build a minimal project from the document to collect lower-level
-			// errors and to have something usable in cache for most basic operations
-			try (InputStream documentStream = new FileModelSource(file).getInputStream()) {
-				Model model = mavenReader.read(documentStream);
-				MavenProject project = new MavenProject(model);
-				project.setRemoteArtifactRepositories(model.getRepositories().stream()
-						.map(repo -> new MavenArtifactRepository(repo.getId(), repo.getUrl(),
-								new DefaultRepositoryLayout(),
-								new ArtifactRepositoryPolicy(true,
-										ArtifactRepositoryPolicy.UPDATE_POLICY_INTERVAL,
-										ArtifactRepositoryPolicy.CHECKSUM_POLICY_WARN),
-								new ArtifactRepositoryPolicy(true,
-										ArtifactRepositoryPolicy.UPDATE_POLICY_INTERVAL,
-										ArtifactRepositoryPolicy.CHECKSUM_POLICY_WARN)))
-						.distinct().collect(Collectors.toList()));
-				project.setFile(file);
-				project.setBuild(new Build());
-				return Optional.of(project);
-			} catch (XmlPullParserException parserException) {
-				// XML document is invalid fo parsing (eg user is typing), it's a valid state that shouldn't log
-				// exceptions
-			} catch (IOException ex) {
-				LOGGER.log(Level.SEVERE, "Couldn't read Maven project: " + file.getAbsolutePath() + " : " + ex.getMessage(), ex);
-			}
-			return Optional.empty();
-		}
-	
 		private void propagateProcessed(File pom) {
-			toProcess.remove(pom); // mark this POM done 
-			// remove all other scheduled runnable for the given file
-			runnables.removeIf(runnable -> ((ResolveArtifactsAndPopulateWorkspaceRunnable)runnable).pomFile.equals(pom));
+			synchronized (toProcess) {
+				toProcess.remove(pom); // mark this POM done 
+				if (toProcess.isEmpty()) {
+					workspaceProcessed.complete(null);
+					// Wake up the lookups of the artifacts not found in the workspace
+					artifactWaiters.values().forEach(waiter -> waiter.complete(null));
+					artifactWaiters.clear();
+				}
+			}
 		}
 
 		@Override
@@ -186,12 +138,71 @@ public class MavenLemminxWorkspaceReader implements WorkspaceReader {
 		}
 	}
 
-	private static final Comparator<Runnable> DEEPEST_FIRST = (o1, o2) -> {
-		if (!(o1 instanceof ResolveArtifactsAndPopulateWorkspaceRunnable && o2 instanceof ResolveArtifactsAndPopulateWorkspaceRunnable)) {
-			return 0;
+	/**
+	 * Populates the workspace with the pom.xml files of a module tree (a pom.xml
+	 * file and the ones found in the subfolders of its folder), in the order they
+	 * were added. The independent trees are populated in parallel.
+	 */
+	private final class PopulateModuleTreeRunnable implements Runnable {
+		final List<File> pomFiles;
+		final PopulationProgress progress;
+
+		private PopulateModuleTreeRunnable(List<File> pomFiles, PopulationProgress progress) {
+			this.pomFiles = pomFiles;
+			this.progress = progress;
+		}
+
+		@Override
+		public void run() {
+			for (File pomFile : pomFiles) {
+				try {
+					// Skip the files already processed by another tree
+					if (toProcess.contains(pomFile)) {
+						new ResolveArtifactsAndPopulateWorkspaceRunnable(pomFile).run();
+					}
+				} finally {
+					progress.processed(pomFile);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reports the progress of populating the workspace with a set of pom.xml files
+	 */
+	private static final class PopulationProgress {
+		private final ProgressMonitor monitor;
+		private final int total;
+		private final AtomicInteger completed = new AtomicInteger();
+		private volatile int lastReportedPercentage = -1;
+
+		private PopulationProgress(ProgressSupport progressSupport, int total) {
+			this.total = total;
+			this.monitor = progressSupport != null && total > 0 ? progressSupport.createProgressMonitor() : null;
+			if (monitor != null) {
+				monitor.begin("Loading workspace projects...", null, 0, null);
+			}
+		}
+
+		void processed(File pomFile) {
+			int newCompleted = completed.incrementAndGet();
+			if (monitor == null) {
+				return;
+			}
+			int percentage = 100 * newCompleted / total;
+			// Limiting report counts to 10 (one after each 10%-progress)
+			synchronized (this) {
+				if (percentage / 10 > lastReportedPercentage / 10 || lastReportedPercentage < 0) {
+					monitor.report("Loading ''" + pomFile.getParentFile().getName() + "'' (" + newCompleted + " / "
+							+ total + ")...", percentage, null);
+					lastReportedPercentage = percentage;
+				}
+			}
+			if (newCompleted == total) {
+				monitor.end("Finished loading workspace projects.");
+			}
 		}
-		return ((ResolveArtifactsAndPopulateWorkspaceRunnable)o2).pomFile.getAbsolutePath().length() - ((ResolveArtifactsAndPopulateWorkspaceRunnable)o1).pomFile.getAbsolutePath().length();
-	};
+	}
 
 	private final WorkspaceRepository repository;
 	
@@ -201,10 +212,34 @@ public class MavenLemminxWorkspaceReader implements WorkspaceReader {
 	private Set<File> toProcess = Collections.synchronizedSet(new LinkedHashSet<File>());
 	
 	private ThreadLocal<Boolean> skipFlushBeforeResult = new ThreadLocal<>();
-	private final PriorityBlockingQueue</*ResolveArtifactsAndPopulateWorkspaceRunnable*/Runnable> runnables = new PriorityBlockingQueue<>(1, DEEPEST_FIRST);
-	private final ExecutorService executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, runnables);
+	private final ExecutorService executor = new ThreadPoolExecutor(POPULATION_WORKERS, POPULATION_WORKERS, 0,
+			TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "Maven workspace population");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	private final WorkspaceArtifactRegistry workspaceArtifacts = new WorkspaceArtifactRegistry();
+	private volatile Function<File, MavenProject> projectLookup;
+
+	// Statistics
+	private final LongAccumulator maximumQueueDepth = new LongAccumulator(Math::max, 0);
+	private final LongAdder artifactLookupCount = new LongAdder();
+	private final LatencyHistogram artifactWaits = new LatencyHistogram();
+	private final LongAdder versionLookupCount = new LongAdder();
+	private final LatencyHistogram versionWaits = new LatencyHistogram();
+	private final LongAdder waitTimeoutCount = new LongAdder();
+	private final LatencyHistogram populationTimes = new LatencyHistogram();
+	private final LongAdder indexedCount = new LongAdder();
+	private final LongAdder unresolvedCount = new LongAdder();
+	private final WorkspaceProjectGraph projectGraph = new WorkspaceProjectGraph();
 
-	private Map<Artifact, File> workspaceArtifacts = new ConcurrentHashMap<>();
+	// Completed when all the files to process are processed, replaced by a new
+	// future as soon as new files are to be processed. Guarded by toProcess
+	private CompletableFuture<Void> workspaceProcessed = CompletableFuture.completedFuture(null);
+	// groupId:artifactId:version -> future completed when the artifact is registered or when 
+	// all the files to process are processed
+	private final Map<String, CompletableFuture<File>> artifactWaiters = new ConcurrentHashMap<>();
 	
 	public MavenLemminxWorkspaceReader() {
 		repository = new WorkspaceRepository("workspace");
@@ -218,52 +253,150 @@ public class MavenLemminxWorkspaceReader implements WorkspaceReader {
 
 	@Override
 	public File findArtifact(Artifact artifact) {		
-		if (skipFlushBeforeResult.get() != Boolean.TRUE) {
+		artifactLookupCount.increment();
+		if (skipFlushBeforeResult.get() != Boolean.TRUE && getCurrentWorkspaceArtifact(artifact).isEmpty()) {
 			String artifactId = ArtifactIdUtils.toId(artifact);
-			LOGGER.finest("Waiting for " + artifactId + " to be avilable; processing workspace in the meantime...");
-			while (!toProcess.isEmpty() && getCurrentWorkspaceArtifact(artifact).isEmpty()) {
-				try {
-					Thread.sleep(POLLING_INTERVAL);
-				} catch (InterruptedException e) {
-					LOGGER.severe(e.getMessage());
+			CompletableFuture<File> waiter = null;
+			synchronized (toProcess) {
+				if (!toProcess.isEmpty()) {
+					waiter = artifactWaiters.computeIfAbsent(toGAV(artifact), gav -> new CompletableFuture<>());
 				}
 			}
-			LOGGER.finest("Done waiting from " + artifactId + ". Either found, or all workspace processed.");
+			// The artifact may have been registered before the waiter is created
+			if (waiter != null && getCurrentWorkspaceArtifact(artifact).isEmpty()) {
+				LOGGER.finest("Waiting for " + artifactId + " to be avilable; processing workspace in the meantime...");
+				await(waiter, artifactId, artifactWaits);
+				LOGGER.finest("Done waiting from " + artifactId + ". Either found, or all workspace processed.");
+			}
+		}
+		return getCurrentWorkspaceArtifact(artifact).map(pomFile -> findArtifactFile(pomFile, artifact)).orElse(null);
+	}
+
+	/**
+	 * Sets the lookup of the Maven Projects already built for the workspace
+	 * pom.xml files, used to find the build directories of the projects
+	 * 
+	 * @param projectLookup A function returning the built Maven Project of a
+	 * 		pom.xml file, or <code>null</code> if not built (it must not build it)
+	 */
+	public void setProjectLookup(Function<File, MavenProject> projectLookup) {
+		this.projectLookup = projectLookup;
+	}
+
+	/**
+	 * Returns the file of an artifact of a workspace module: the pom.xml file, the
+	 * existing output directories for the main and the test jars or the packaged
+	 * artifacts. A module not built yet is resolved to its pom.xml file, so it's
+	 * never looked up in the repositories.
+	 */
+	private File findArtifactFile(File pomFile, Artifact artifact) {
+		if (POM_EXTENSION.equals(artifact.getExtension())) {
+			return pomFile;
+		}
+		Function<File, MavenProject> lookup = projectLookup;
+		MavenProject project = lookup != null ? lookup.apply(pomFile) : null;
+		Build build = project != null ? project.getBuild() : null;
+		File folder = pomFile.getAbsoluteFile().getParentFile();
+		File buildDirectory = build != null && build.getDirectory() != null ? new File(build.getDirectory())
+				: new File(folder, DEFAULT_BUILD_DIRECTORY);
+
+		File outputDirectory = null;
+		if (JAR_EXTENSION.equals(artifact.getExtension())) {
+			if (artifact.getClassifier().isEmpty()) {
+				outputDirectory = build != null && build.getOutputDirectory() != null
+						? new File(build.getOutputDirectory())
+						: new File(buildDirectory, "classes");
+			} else if (TESTS_CLASSIFIER.equals(artifact.getClassifier())) {
+				outputDirectory = build != null && build.getTestOutputDirectory() != null
+						? new File(build.getTestOutputDirectory())
+						: new File(buildDirectory, "test-classes");
+			}
 		}
+		if (outputDirectory != null && outputDirectory.isDirectory()) {
+			return outputDirectory;
+		}
+
+		File packaged = project != null ? find(project, artifact) : null;
+		if (packaged == null) {
+			String finalName = build != null && build.getFinalName() != null ? build.getFinalName()
+					: artifact.getArtifactId() + '-' + artifact.getBaseVersion();
+			String classifier = artifact.getClassifier().isEmpty() ? "" : '-' + artifact.getClassifier();
+			File file = new File(buildDirectory, finalName + classifier + '.' + artifact.getExtension());
+			packaged = file.isFile() ? file : null;
+		}
+		if (packaged != null) {
+			return packaged;
+		}
+		// Not built yet: the module is still served by the workspace
+		return pomFile;
+	}
+
+	private void registerArtifact(Artifact artifact, File pom) {
+		workspaceArtifacts.register(artifact, pom);
+		LOGGER.finest("Registered" + artifact + " -> " + pom + " into workspace...");
+		CompletableFuture<File> waiter = artifactWaiters.remove(toGAV(artifact));
+		if (waiter != null) {
+			waiter.complete(pom);
+		}
+	}
+
+	/**
+	 * Waits, at most {@value #WAIT_TIMEOUT_SECONDS} seconds, for a future 
+	 * completed by the workspace processing, recording the time waited if the
+	 * future is not completed yet
+	 */
+	private void await(CompletableFuture<?> future, String artifactId, LatencyHistogram waits) {
+		if (future.isDone()) {
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			future.get(WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (TimeoutException e) {
+			waitTimeoutCount.increment();
+			LOGGER.warning("Timed out waiting for the workspace to be processed while looking up " + artifactId);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			LOGGER.fine(e.getMessage());
+		} finally {
+			waits.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+	}
+
+	/**
+	 * Returns the file of an artifact currently found in the workspace, without
+	 * waiting for the workspace to be processed
+	 * 
+	 * @param artifact An artifact to find
+	 * @return The artifact file or <code>null</code> if the artifact is not (yet)
+	 *         found in the workspace
+	 */
+	public File findCurrentWorkspaceArtifact(Artifact artifact) {
 		return getCurrentWorkspaceArtifact(artifact).orElse(null);
 	}
 
 	private Optional<File> getCurrentWorkspaceArtifact(Artifact artifact) {
-		return workspaceArtifacts.entrySet().stream() //
-			.filter(entry -> equalsId(artifact, entry.getKey()))
-			.map(Entry::getValue)
-			.findAny();
+		return Optional.ofNullable(workspaceArtifacts.find(artifact));
 	}
 
 	@Override
 	public List<String> findVersions(Artifact artifact) {
+		versionLookupCount.increment();
 		if (skipFlushBeforeResult.get() != Boolean.TRUE) {
 			String artifactId = ArtifactIdUtils.toId(artifact);
 			LOGGER.finest("Lookup available versions for " + artifactId + "; processing workspace in the meantime...");
-			while (!toProcess.isEmpty()) {
-				try {
-					Thread.sleep(POLLING_INTERVAL);
-				} catch (InterruptedException e) {
-					LOGGER.severe(e.getMessage());
-				}
+			CompletableFuture<Void> processed;
+			synchronized (toProcess) {
+				processed = workspaceProcessed;
 			}
+			await(processed, artifactId, versionWaits);
 			LOGGER.finest("Workspace processing complete");
 		}
-		SortedSet<String> res = new TreeSet<>(Comparator.reverseOrder());
-		workspaceArtifacts.entrySet().stream() //
-				.filter(entry -> equalsVersionlessId(artifact, entry.getKey()))
-				.map(Entry::getKey)
-				.map(Artifact::getVersion)
-				.forEach(res::add);
-		return new ArrayList<>(res);
+		return workspaceArtifacts.findVersions(artifact);
 	}
 	private File find(MavenProject project, Artifact artifact) {
-		if ("pom".equals(artifact.getExtension())) {
+		if (POM_EXTENSION.equals(artifact.getExtension())) {
 			return project.getFile();
 		}
 
@@ -309,52 +442,147 @@ public class MavenLemminxWorkspaceReader implements WorkspaceReader {
 	 * @param documents documents to add
 	 */
 	public void addToWorkspace(Collection<URI> uris) {
-		uris.stream()
-			.map(File::new)
-			.filter(File::isFile)
-			.filter(file -> !workspaceArtifacts.values().contains(file)) // ignore already processed
-			.forEach(toProcess::add);
-		for (File file : toProcess.stream().collect(Collectors.toList())) {
-			executor.execute(new ResolveArtifactsAndPopulateWorkspaceRunnable(file));
-		}
+		addToWorkspace(uris, null);
 	}
 
-	public void remove(URI uri) {
-		workspaceArtifacts.values().remove(new File(uri));
+	/**
+	 * Parses and adds a document for a given URI into the projects cache
+	 * Any sorting is to be done before the method is invoked.
+	 * <p>
+	 * The files are split in module trees (a pom.xml file with all the ones found
+	 * in the subfolders of its folder), the trees are populated in parallel, the 
+	 * files of a tree are populated in the order they are added.
+	 * </p>
+	 * 
+	 * @param uris URIs of the documents to add
+	 * @param progressSupport A ProgressSupport used to report the progress, may be
+	 * 		<code>null</code>
+	 */
+	public void addToWorkspace(Collection<URI> uris, ProgressSupport progressSupport) {
+		populate(uris, progressSupport, false);
 	}
-	
-	List<File> getCurrentWorkspaceArtifactFiles() {
-		return workspaceArtifacts.values().stream()
-				.filter(Objects::nonNull).toList();
+
+	/**
+	 * Adds the projects, whose coordinates are already known, into the projects
+	 * cache without parsing their documents
+	 * 
+	 * @param gavs The pom.xml files with their coordinates (the groupId and the 
+	 * 		version being inherited from the parent if not specified)
+	 * @return The pom.xml files whose coordinates are incomplete, to be parsed
+	 */
+	public List<URI> addIndexedToWorkspace(Map<File, Dependency> gavs) {
+		List<URI> incomplete = new ArrayList<>();
+		gavs.forEach((file, gav) -> {
+			if (gav.getGroupId() != null && gav.getArtifactId() != null && gav.getVersion() != null) {
+				registerArtifact(new DefaultArtifact(gav.getGroupId(), gav.getArtifactId(), null, gav.getVersion()),
+						file);
+				indexedCount.increment();
+			} else {
+				incomplete.add(file.toURI());
+			}
+		});
+		return incomplete;
 	}
 
-	private static boolean equalsId(Artifact artifact1, Artifact artifact2) {
-		if (artifact1 == null || artifact2 == null) {
-			return false;
-		}
-		if (!Objects.equals(artifact1.getArtifactId(), artifact2.getArtifactId())) {
-			return false;
-		}
-		if (!Objects.equals(artifact1.getGroupId(), artifact2.getGroupId())) {
-			return false;
-		}
+	/**
+	 * Parses again the documents for the given URIs, f.i. when they're changed
+	 * on disk, adding them into the projects cache if not added yet.
+	 * Any sorting is to be done before the method is invoked.
+	 * 
+	 * @param uris URIs of the documents to update
+	 * @param progressSupport A ProgressSupport used to report the progress, may be
+	 * 		<code>null</code>
+	 */
+	public void updateInWorkspace(Collection<URI> uris, ProgressSupport progressSupport) {
+		populate(uris, progressSupport, true);
+	}
 
-		if (!Objects.equals(artifact1.getVersion(), artifact2.getVersion())) {
-			return false;
+	private void populate(Collection<URI> uris, ProgressSupport progressSupport, boolean update) {
+		List<File> files;
+		synchronized (toProcess) {
+			// The files already queued are populated by their own trees
+			files = uris.stream()
+				.map(File::new)
+				.filter(File::isFile)
+				.filter(file -> update || !workspaceArtifacts.contains(file)) // ignore already processed
+				.filter(toProcess::add)
+				.collect(Collectors.toList());
+			if (!toProcess.isEmpty() && workspaceProcessed.isDone()) {
+				workspaceProcessed = new CompletableFuture<>();
+			}
+			maximumQueueDepth.accumulate(toProcess.size());
 		}
-		return true;
+		Collection<List<File>> trees = splitModuleTrees(files);
+		PopulationProgress progress = new PopulationProgress(progressSupport, files.size());
+		// The largest trees are started first
+		trees.stream().sorted(Comparator.comparingInt((List<File> tree) -> tree.size()).reversed())
+				.forEach(tree -> executor.execute(new PopulateModuleTreeRunnable(tree, progress)));
 	}
 
-	private static boolean equalsVersionlessId(Artifact artifact1, Artifact artifact2) {
-		if (artifact1 == null || artifact2 == null) {
-			return false;
-		}
-		if (!Objects.equals(artifact1.getArtifactId(), artifact2.getArtifactId())) {
-			return false;
+	/**
+	 * Splits the pom.xml files in module trees, each one rooted at the top most
+	 * folder containing one of the files, keeping the order of the files
+	 */
+	static Collection<List<File>> splitModuleTrees(List<File> files) {
+		Set<File> folders = files.stream().map(File::getAbsoluteFile).map(File::getParentFile)
+				.filter(Objects::nonNull).collect(Collectors.toSet());
+		Map<File, List<File>> trees = new LinkedHashMap<>();
+		for (File file : files) {
+			File root = file.getAbsoluteFile().getParentFile();
+			for (File folder = root; folder != null; folder = folder.getParentFile()) {
+				if (folders.contains(folder)) {
+					root = folder;
+				}
+			}
+			trees.computeIfAbsent(root, folder -> new ArrayList<>()).add(file);
 		}
-		if (!Objects.equals(artifact1.getGroupId(), artifact2.getGroupId())) {
-			return false;
+		return trees.values();
+	}
+
+	public void remove(URI uri) {
+		workspaceArtifacts.remove(new File(uri));
+		projectGraph.remove(new File(uri));
+	}
+
+	/**
+	 * Returns the workspace reader statistics
+	 * 
+	 * @return the workspace reader statistics
+	 */
+	public WorkspaceReaderStatistics getStatistics() {
+		int queueDepth;
+		synchronized (toProcess) {
+			queueDepth = toProcess.size();
 		}
-		return true;
+		return new WorkspaceReaderStatistics(queueDepth, maximumQueueDepth.get(), artifactLookupCount.sum(),
+				artifactWaits.getSnapshot(), versionLookupCount.sum(), versionWaits.getSnapshot(),
+				waitTimeoutCount.sum(), populationTimes.getSnapshot(), indexedCount.sum(), unresolvedCount.sum());
+	}
+
+	/**
+	 * Returns the number of the artifacts looked up while not registered yet,
+	 * which are waiting for the workspace to be processed
+	 * 
+	 * @return the number of the waited artifacts
+	 */
+	int getWaitedArtifactCount() {
+		return artifactWaiters.size();
+	}
+
+	/**
+	 * Returns the graph of the parents and the modules of the workspace projects
+	 * 
+	 * @return the workspace project graph
+	 */
+	public WorkspaceProjectGraph getProjectGraph() {
+		return projectGraph;
+	}
+	
+	List<File> getCurrentWorkspaceArtifactFiles() {
+		return workspaceArtifacts.getFiles();
+	}
+
+	private static String toGAV(Artifact artifact) {
+		return artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getVersion();
 	}
 }
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.eclipse.aether.artifact.Artifact;
+
+/**
+ * The artifacts found in the workspace, indexed by GAV, by GA and by pom.xml
+ * file, so the lookups made while resolving the dependencies of the projects
+ * don't depend on the number of workspace artifacts.
+ * <p>
+ * A pom.xml file is registered with a single GAV: registering a file again
+ * replaces its previous GAV. The lookups may run concurrently, the
+ * registrations and removals update all the indexes atomically.
+ * </p>
+ */
+public class WorkspaceArtifactRegistry {
+
+	// The equivalent versions (f.i. "1" and "1.0") are kept apart in text order
+	private static final Comparator<String> VERSION_ORDER = Comparator
+			.comparing((String version) -> new ComparableVersion(version)).thenComparing(Comparator.naturalOrder());
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// groupId:artifactId:version -> pom.xml file
+	private final Map<String, File> filesByGAV = new HashMap<>();
+	// groupId:artifactId -> versions, in version order
+	private final Map<String, NavigableSet<String>> versionsByGA = new HashMap<>();
+	// pom.xml file -> groupId:artifactId:version
+	private final Map<File, Artifact> artifactsByFile = new HashMap<>();
+
+	/**
+	 * Registers a workspace artifact
+	 *
+	 * @param artifact The artifact (only its GAV is used)
+	 * @param file     The pom.xml file of the artifact
+	 */
+	public void register(Artifact artifact, File file) {
+		lock.writeLock().lock();
+		try {
+			Artifact previous = artifactsByFile.remove(file);
+			if (previous != null) {
+				unindex(previous, file);
+			}
+			File previousFile = filesByGAV.put(toGAV(artifact), file);
+			if (previousFile != null && !previousFile.equals(file)) {
+				// The GAV is now provided by another file
+				artifactsByFile.remove(previousFile);
+			}
+			artifactsByFile.put(file, artifact);
+			versionsByGA.computeIfAbsent(toGA(artifact), ga -> new TreeSet<>(VERSION_ORDER)).add(artifact.getVersion());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the artifact of a pom.xml file
+	 *
+	 * @param file A pom.xml file
+	 */
+	public void remove(File file) {
+		lock.writeLock().lock();
+		try {
+			Artifact artifact = artifactsByFile.remove(file);
+			if (artifact != null) {
+				unindex(artifact, file);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void unindex(Artifact artifact, File file) {
+		String gav = toGAV(artifact);
+		if (filesByGAV.remove(gav, file)) {
+			String ga = toGA(artifact);
+			NavigableSet<String> versions = versionsByGA.get(ga);
+			if (versions != null) {
+				versions.remove(artifact.getVersion());
+				if (versions.isEmpty()) {
+					versionsByGA.remove(ga);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the pom.xml file of an artifact
+	 *
+	 * @param artifact An artifact (only its GAV is used)
+	 * @return The pom.xml file or <code>null</code> if the artifact is not in the
+	 *         workspace
+	 */
+	public File find(Artifact artifact) {
+		if (artifact == null) {
+			return null;
+		}
+		lock.readLock().lock();
+		try {
+			return filesByGAV.get(toGAV(artifact));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the versions of an artifact found in the workspace
+	 *
+	 * @param artifact An artifact (only its groupId and artifactId are used)
+	 * @return The versions, in descending order
+	 */
+	public List<String> findVersions(Artifact artifact) {
+		if (artifact == null) {
+			return Collections.emptyList();
+		}
+		lock.readLock().lock();
+		try {
+			NavigableSet<String> versions = versionsByGA.get(toGA(artifact));
+			return versions != null ? new ArrayList<>(versions.descendingSet()) : new ArrayList<>();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Checks if a pom.xml file is registered
+	 *
+	 * @param file A pom.xml file
+	 * @return <code>true</code> if an artifact is registered for the file
+	 */
+	public boolean contains(File file) {
+		lock.readLock().lock();
+		try {
+			return artifactsByFile.containsKey(file);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the registered pom.xml files
+	 *
+	 * @return The pom.xml files
+	 */
+	public List<File> getFiles() {
+		lock.readLock().lock();
+		try {
+			return new ArrayList<>(artifactsByFile.keySet());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static String toGA(Artifact artifact) {
+		return artifact.getGroupId() + ':' + artifact.getArtifactId();
+	}
+
+	private static String toGAV(Artifact artifact) {
+		return toGA(artifact) + ':' + artifact.getVersion();
+	}
+}
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lemminx.extensions.maven.settings.XMLMavenWorkspaceSettings;
+
+/**
+ * Watches the workspace folders for the pom.xml files created, modified or
+ * removed outside of the editor, f.i. by a <code>git checkout</code>.
+ * <p>
+ * The events are coalesced: the listener is notified once the file system is
+ * quiet for a short time, with the final state of all the touched paths. When
+ * the events are lost (the event queue of the OS overflows) the affected folder
+ * is rescanned.
+ * </p>
+ * <p>
+ * The watched folders are the ones walked by a {@link WorkspaceProjectWalker}
+ * with the same workspace settings, so the folders skipped by the discovery of
+ * the workspace projects (f.i. the excluded or the git ignored ones, or the
+ * ones deeper than the maximum depth) are not watched.
+ * </p>
+ */
+public class WorkspaceFolderWatcher {
+	private static final Logger LOGGER = Logger.getLogger(WorkspaceFolderWatcher.class.getName());
+
+	// The listener is notified after this quiet period...
+	private static final long QUIET_PERIOD_MILLIS = 300;
+	// ... or after this time if the events never stop
+	private static final long MAX_BURST_MILLIS = 3_000;
+
+	/**
+	 * A listener of the changes of the workspace pom.xml files
+	 */
+	@FunctionalInterface
+	public interface WorkspaceChangeListener {
+
+		/**
+		 * Called with the coalesced changes of a burst of file system events
+		 *
+		 * @param changedPomFiles   The existing pom.xml files created or modified
+		 * @param removedPaths      The removed files and folders
+		 * @param rescannedFolders  The folders whose events were lost, all their
+		 *                          existing pom.xml files are in changedPomFiles
+		 */
+		void workspaceChanged(Set<Path> changedPomFiles, Set<Path> removedPaths, Set<Path> rescannedFolders);
+	}
+
+	private final WorkspaceChangeListener listener;
+	private final WorkspaceProjectWalker walker;
+	private final Set<Path> roots = ConcurrentHashMap.newKeySet();
+	private final Map<WatchKey, Path> folders = new ConcurrentHashMap<>();
+	private final Set<Path> watchedFolders = ConcurrentHashMap.newKeySet();
+	private WatchService watchService;
+	private Thread thread;
+
+	/**
+	 * Creates a watcher of the workspace folders
+	 *
+	 * @param settings The workspace settings, selecting the folders to watch
+	 * @param listener The listener of the changes
+	 */
+	public WorkspaceFolderWatcher(XMLMavenWorkspaceSettings settings, WorkspaceChangeListener listener) {
+		this.walker = new WorkspaceProjectWalker(settings);
+		this.listener = listener;
+	}
+
+	/**
+	 * Starts watching the file system
+	 *
+	 * @throws IOException if the watch service cannot be created
+	 */
+	public synchronized void start() throws IOException {
+		if (watchService != null) {
+			return;
+		}
+		watchService = FileSystems.getDefault().newWatchService();
+		thread = new Thread(this::processEvents, "Maven workspace watcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stops watching the file system
+	 */
+	public synchronized void stop() {
+		if (watchService == null) {
+			return;
+		}
+		try {
+			watchService.close();
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, e.getMessage(), e);
+		}
+		thread.interrupt();
+		watchService = null;
+		thread = null;
+		folders.clear();
+		watchedFolders.clear();
+		roots.clear();
+	}
+
+	/**
+	 * Starts watching a workspace folder and all its subfolders
+	 *
+	 * @param root A workspace folder
+	 */
+	public void addRoot(Path root) {
+		if (roots.add(root)) {
+			registerFolders(root, null);
+		}
+	}
+
+	/**
+	 * Stops watching a workspace folder
+	 *
+	 * @param root A workspace folder
+	 */
+	public void removeRoot(Path root) {
+		if (roots.remove(root)) {
+			folders.entrySet().removeIf(entry -> {
+				if (entry.getValue().startsWith(root) && roots.stream().noneMatch(entry.getValue()::startsWith)) {
+					entry.getKey().cancel();
+					watchedFolders.remove(entry.getValue());
+					return true;
+				}
+				return false;
+			});
+		}
+	}
+
+	/**
+	 * Registers a folder and the subfolders walked by the walker, and collects
+	 * the pom.xml files found
+	 *
+	 * @return true if the folder is watched, false if it's skipped by the walker
+	 */
+	private boolean registerFolders(Path folder, Set<Path> pomFiles) {
+		WatchService service = watchService;
+		// The closest workspace folder, for nested workspace folders
+		Path root = roots.stream().filter(folder::startsWith).max(Comparator.comparingInt(Path::getNameCount))
+				.orElse(null);
+		if (service == null || root == null || !Files.isDirectory(folder)) {
+			return false;
+		}
+		Set<Path> registered = ConcurrentHashMap.newKeySet();
+		try {
+			List<Path> found = walker.walk(root, folder, dir -> {
+				try {
+					folders.put(dir.register(service, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), dir);
+					watchedFolders.add(dir);
+					registered.add(dir);
+				} catch (IOException | ClosedWatchServiceException e) {
+					LOGGER.log(Level.FINE, "Cannot watch " + dir + ": " + e.getMessage(), e);
+				}
+			});
+			if (pomFiles != null) {
+				pomFiles.addAll(found);
+			}
+		} catch (RuntimeException e) {
+			LOGGER.log(Level.FINE, "Cannot watch " + folder + ": " + e.getMessage(), e);
+		}
+		return registered.contains(folder);
+	}
+
+	private void processEvents() {
+		WatchService service = watchService;
+		while (service != null && !Thread.currentThread().isInterrupted()) {
+			try {
+				WatchKey key = service.take();
+				Set<Path> touched = new LinkedHashSet<>();
+				Set<Path> rescanned = new LinkedHashSet<>();
+				long burstEnd = System.currentTimeMillis() + MAX_BURST_MILLIS;
+				while (key != null) {
+					collectEvents(key, touched, rescanned);
+					key = System.currentTimeMillis() < burstEnd
+							? service.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)
+							: null;
+				}
+				notifyListener(touched, rescanned);
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			} catch (RuntimeException e) {
+				LOGGER.log(Level.SEVERE, e.getMessage(), e);
+			}
+		}
+	}
+
+	private void collectEvents(WatchKey key, Set<Path> touched, Set<Path> rescanned) {
+		Path folder = folders.get(key);
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (folder == null) {
+				continue;
+			}
+			if (event.kind() == OVERFLOW) {
+				LOGGER.fine("File system events lost, rescanning " + folder);
+				rescanned.add(folder);
+			} else if (event.context() instanceof Path name) {
+				touched.add(folder.resolve(name));
+			}
+		}
+		if (!key.reset()) {
+			// The folder is removed
+			folders.remove(key);
+			if (folder != null) {
+				watchedFolders.remove(folder);
+			}
+		}
+	}
+
+	/**
+	 * Classifies the touched paths by their final state, so a file created and
+	 * removed within a burst is only reported as removed
+	 */
+	private void notifyListener(Set<Path> touched, Set<Path> rescanned) {
+		Set<Path> changedPomFiles = new LinkedHashSet<>();
+		Set<Path> removedPaths = new LinkedHashSet<>();
+		for (Path path : touched) {
+			if (Files.isDirectory(path)) {
+				if (!watchedFolders.contains(path)) {
+					// A created or moved folder
+					rescanned.add(path);
+				}
+			} else if (!Files.exists(path)) {
+				removedPaths.add(path);
+			} else if (MavenLemminxExtension.match(path)) {
+				changedPomFiles.add(path);
+			}
+		}
+		// The folders skipped by the walker are neither watched nor rescanned
+		rescanned.removeIf(folder -> !registerFolders(folder, changedPomFiles));
+		if (changedPomFiles.isEmpty() && removedPaths.isEmpty() && rescanned.isEmpty()) {
+			return;
+		}
+		try {
+			listener.workspaceChanged(changedPomFiles, removedPaths, rescanned);
+		} catch (RuntimeException e) {
+			LOGGER.log(Level.SEVERE, e.getMessage(), e);
+		}
+	}
+}
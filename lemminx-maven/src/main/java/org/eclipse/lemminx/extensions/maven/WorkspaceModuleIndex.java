@@ -0,0 +1,376 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Parent;
+import org.eclipse.lemminx.extensions.maven.WorkspaceProjectWalker.FolderListing;
+import org.eclipse.lemminx.extensions.maven.settings.XMLMavenWorkspaceSettings;
+import org.eclipse.lemminx.extensions.maven.utils.PomHeaderReader;
+import org.eclipse.lemminx.extensions.maven.utils.PomHeaderReader.PomHeader;
+
+/**
+ * An on-disk index of the pom.xml files of a workspace folder, with their
+ * coordinates, used to discover the workspace projects at startup without
+ * walking and parsing the whole workspace folder again.
+ * <p>
+ * The listing of a folder is reused as long as the modification time of the
+ * folder is unchanged (a file or a subfolder created, removed or renamed in a
+ * folder changes its modification time). The coordinates of a pom.xml file are
+ * reused as long as its modification time and its length are unchanged, with
+ * its parent and its modules, so the {@link WorkspaceProjectGraph} is updated
+ * without parsing the unchanged files either.
+ * </p>
+ * <p>
+ * The index only caches the folder listings, the folders to walk are selected
+ * by a {@link WorkspaceProjectWalker} on each scan.
+ * </p>
+ */
+public class WorkspaceModuleIndex {
+	private static final Logger LOGGER = Logger.getLogger(WorkspaceModuleIndex.class.getName());
+
+	private static final int FORMAT_VERSION = 3;
+	private static final String POM_PACKAGING = "pom";
+	private static final String INDEX_EXTENSION = ".idx";
+
+	private static final class PomEntry {
+		final long lastModified;
+		final long length;
+		final String groupId;
+		final String artifactId;
+		final String version;
+		final Parent parent;
+		final List<String> modules;
+
+		PomEntry(long lastModified, long length, String groupId, String artifactId, String version, Parent parent,
+				List<String> modules) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.groupId = groupId;
+			this.artifactId = artifactId;
+			this.version = version;
+			this.parent = parent;
+			this.modules = modules;
+		}
+
+		Dependency toDependency() {
+			Dependency gav = new Dependency();
+			gav.setGroupId(groupId);
+			gav.setArtifactId(artifactId);
+			gav.setVersion(version);
+			return gav;
+		}
+	}
+
+	private static final class FolderEntry {
+		final long lastModified;
+		final FolderListing listing;
+
+		FolderEntry(long lastModified, FolderListing listing) {
+			this.lastModified = lastModified;
+			this.listing = listing;
+		}
+	}
+
+	private final Path root;
+	private final Path indexFile;
+	// Folder path, relative to the root -> folder entry
+	private Map<String, FolderEntry> folders = new ConcurrentHashMap<>();
+	// pom.xml file path, relative to the root -> pom entry
+	private Map<String, PomEntry> pomFiles = new ConcurrentHashMap<>();
+	private final AtomicInteger listedFolders = new AtomicInteger();
+	private final AtomicInteger parsedFiles = new AtomicInteger();
+
+	private WorkspaceModuleIndex(Path root, Path indexFile) {
+		this.root = root;
+		this.indexFile = indexFile;
+	}
+
+	/**
+	 * Loads the index of a workspace folder, or creates an empty index if there
+	 * is no valid index stored yet
+	 *
+	 * @param root           A workspace folder
+	 * @param indexDirectory The directory to store the indexes in
+	 * @return The index of the workspace folder
+	 */
+	public static WorkspaceModuleIndex load(Path root, Path indexDirectory) {
+		Path absoluteRoot = root.toAbsolutePath().normalize();
+		WorkspaceModuleIndex index = new WorkspaceModuleIndex(absoluteRoot,
+				indexDirectory.resolve(sha256(absoluteRoot.toString()) + INDEX_EXTENSION));
+		if (Files.isRegularFile(index.indexFile)) {
+			try (DataInputStream in = new DataInputStream(
+					new BufferedInputStream(Files.newInputStream(index.indexFile)))) {
+				index.read(in);
+			} catch (IOException | RuntimeException e) {
+				LOGGER.log(Level.FINE, "Cannot read workspace index of " + absoluteRoot + ": " + e.getMessage(), e);
+				index.folders = new ConcurrentHashMap<>();
+				index.pomFiles = new ConcurrentHashMap<>();
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Finds the pom.xml files of the workspace folder, listing only the folders
+	 * and parsing only the files changed since the previous scan. The walk
+	 * settings are applied on each scan, whatever the settings of the previous
+	 * scans.
+	 *
+	 * @param settings The workspace settings
+	 * @return The pom.xml files with their coordinates, the groupId and the
+	 *         version being inherited from the parent if not specified. The
+	 *         coordinates may be incomplete.
+	 */
+	public Map<Path, Dependency> scan(XMLMavenWorkspaceSettings settings) {
+		Map<String, FolderEntry> previousFolders = folders;
+		Map<String, PomEntry> previousPomFiles = pomFiles;
+		Map<String, FolderEntry> newFolders = new ConcurrentHashMap<>();
+		Map<String, PomEntry> newPomFiles = new ConcurrentHashMap<>();
+		listedFolders.set(0);
+		parsedFiles.set(0);
+		List<Path> found = new WorkspaceProjectWalker(settings,
+				folder -> listFolder(folder, previousFolders, newFolders)).walk(root);
+		found.parallelStream().forEach(pomFile -> {
+			String key = toKey(pomFile);
+			PomEntry entry = readPomFile(pomFile, previousPomFiles.get(key));
+			if (entry != null) {
+				newPomFiles.put(key, entry);
+			}
+		});
+		Map<Path, Dependency> result = new LinkedHashMap<>();
+		for (Path pomFile : found) {
+			PomEntry entry = newPomFiles.get(toKey(pomFile));
+			if (entry != null) {
+				result.put(pomFile, entry.toDependency());
+			}
+		}
+		folders = newFolders;
+		pomFiles = newPomFiles;
+		LOGGER.fine("Scanned workspace folder " + root + ": " + newFolders.size() + " folders, " + listedFolders
+				+ " listed, " + result.size() + " pom files, " + parsedFiles + " parsed");
+		return result;
+	}
+
+	/**
+	 * Adds the pom.xml files found by the last scan to a workspace project graph,
+	 * with the parents and the modules read when they were parsed
+	 *
+	 * @param graph A workspace project graph
+	 */
+	public void updateGraph(WorkspaceProjectGraph graph) {
+		pomFiles.forEach((key, entry) -> {
+			// The files without a project header are not in the graph
+			if (entry.artifactId != null) {
+				graph.put(root.resolve(key).toFile(), entry.toDependency(), entry.parent, entry.modules);
+			}
+		});
+	}
+
+	/**
+	 * Returns the number of folders listed by the last scan, the other ones
+	 * being reused from the index
+	 */
+	int getListedFolders() {
+		return listedFolders.get();
+	}
+
+	/**
+	 * Returns the number of pom.xml files parsed by the last scan, the other
+	 * ones being reused from the index
+	 */
+	int getParsedFiles() {
+		return parsedFiles.get();
+	}
+
+	private String toKey(Path path) {
+		return root.relativize(path).toString();
+	}
+
+	private FolderListing listFolder(Path folder, Map<String, FolderEntry> previousFolders,
+			Map<String, FolderEntry> newFolders) throws IOException {
+		String key = toKey(folder);
+		long lastModified = Files.readAttributes(folder, BasicFileAttributes.class).lastModifiedTime().toMillis();
+		FolderEntry entry = previousFolders.get(key);
+		if (entry == null || entry.lastModified != lastModified) {
+			listedFolders.incrementAndGet();
+			entry = new FolderEntry(lastModified, WorkspaceProjectWalker.listFolder(folder));
+		}
+		newFolders.put(key, entry);
+		return entry.listing;
+	}
+
+	private PomEntry readPomFile(Path file, PomEntry previous) {
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		} catch (IOException e) {
+			return null;
+		}
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		if (previous != null && previous.lastModified == lastModified && previous.length == attributes.size()) {
+			return previous;
+		}
+		parsedFiles.incrementAndGet();
+		PomHeader header = PomHeaderReader.read(file.toFile());
+		Dependency gav = header != null ? header.getArtifact() : new Dependency();
+		// The modules are only read from the files with a 'pom' packaging, like the graph does
+		List<String> modules = header != null && POM_PACKAGING.equals(header.getPackaging())
+				? PomHeaderReader.readModules(file.toFile())
+				: Collections.emptyList();
+		return new PomEntry(lastModified, attributes.size(), gav.getGroupId(), gav.getArtifactId(), gav.getVersion(),
+				header != null ? header.getParent() : null, modules);
+	}
+
+	/**
+	 * Stores the index, as of the last scan
+	 */
+	public void save() {
+		try {
+			Files.createDirectories(indexFile.getParent());
+			Path temp = Files.createTempFile(indexFile.getParent(), "workspace", ".tmp");
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				write(out);
+			}
+			Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException | RuntimeException e) {
+			LOGGER.log(Level.FINE, "Cannot store workspace index of " + root + ": " + e.getMessage(), e);
+		}
+	}
+
+	private void read(DataInputStream in) throws IOException {
+		if (in.readInt() != FORMAT_VERSION || !root.toString().equals(in.readUTF())) {
+			return;
+		}
+		Map<String, FolderEntry> readFolders = new ConcurrentHashMap<>();
+		int folderCount = in.readInt();
+		for (int i = 0; i < folderCount; i++) {
+			String key = in.readUTF();
+			long lastModified = in.readLong();
+			boolean gitIgnore = in.readBoolean();
+			List<String> subfolders = readStrings(in);
+			List<String> pomNames = readStrings(in);
+			readFolders.put(key, new FolderEntry(lastModified, new FolderListing(subfolders, pomNames, gitIgnore)));
+		}
+		Map<String, PomEntry> readPomFiles = new ConcurrentHashMap<>();
+		int pomCount = in.readInt();
+		for (int i = 0; i < pomCount; i++) {
+			readPomFiles.put(in.readUTF(), new PomEntry(in.readLong(), in.readLong(), readString(in), readString(in),
+					readString(in), readParent(in), readStrings(in)));
+		}
+		folders = readFolders;
+		pomFiles = readPomFiles;
+	}
+
+	private void write(DataOutputStream out) throws IOException {
+		out.writeInt(FORMAT_VERSION);
+		out.writeUTF(root.toString());
+		out.writeInt(folders.size());
+		for (Map.Entry<String, FolderEntry> folder : folders.entrySet()) {
+			FolderEntry entry = folder.getValue();
+			out.writeUTF(folder.getKey());
+			out.writeLong(entry.lastModified);
+			out.writeBoolean(entry.listing.gitIgnore);
+			writeStrings(out, entry.listing.subfolders);
+			writeStrings(out, entry.listing.pomFiles);
+		}
+		out.writeInt(pomFiles.size());
+		for (Map.Entry<String, PomEntry> pomFile : pomFiles.entrySet()) {
+			PomEntry entry = pomFile.getValue();
+			out.writeUTF(pomFile.getKey());
+			out.writeLong(entry.lastModified);
+			out.writeLong(entry.length);
+			writeString(out, entry.groupId);
+			writeString(out, entry.artifactId);
+			writeString(out, entry.version);
+			writeParent(out, entry.parent);
+			writeStrings(out, entry.modules);
+		}
+	}
+
+	private static List<String> readStrings(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		List<String> values = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			values.add(in.readUTF());
+		}
+		return values;
+	}
+
+	private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+		out.writeInt(values.size());
+		for (String value : values) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static Parent readParent(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		Parent parent = new Parent();
+		parent.setGroupId(readString(in));
+		parent.setArtifactId(readString(in));
+		parent.setVersion(readString(in));
+		return parent;
+	}
+
+	private static void writeParent(DataOutputStream out, Parent parent) throws IOException {
+		out.writeBoolean(parent != null);
+		if (parent != null) {
+			writeString(out, parent.getGroupId());
+			writeString(out, parent.getArtifactId());
+			writeString(out, parent.getVersion());
+		}
+	}
+
+	private static String sha256(String value) {
+		try {
+			return HexFormat.of()
+					.formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
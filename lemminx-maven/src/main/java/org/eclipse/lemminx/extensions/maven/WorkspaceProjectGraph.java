@@ -0,0 +1,383 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Parent;
+import org.eclipse.lemminx.extensions.maven.utils.PomHeaderReader;
+import org.eclipse.lemminx.extensions.maven.utils.PomHeaderReader.PomHeader;
+
+/**
+ * A graph of the parents and the modules of the workspace projects, identified
+ * by their pom.xml files, as read from the header of the files.
+ * <p>
+ * A project is ordered after its parent, which is a hard constraint as the
+ * parent is needed to resolve the project, and after the aggregator declaring
+ * it as a module, which is only honoured if it doesn't conflict with the
+ * parents (f.i. an aggregator whose parent is one of its modules). The
+ * projects are ordered iteratively (Kahn's algorithm), so deep hierarchies
+ * can't overflow the stack, and the cycles in the parents are reported and
+ * broken.
+ * </p>
+ */
+public class WorkspaceProjectGraph {
+	private static final Logger LOGGER = Logger.getLogger(WorkspaceProjectGraph.class.getName());
+
+	private static final String POM_PACKAGING = "pom";
+	private static final String POM_XML = "pom.xml";
+
+	private static final class Node {
+		final File file;
+		final String key;
+		final String parentKey;
+		final List<File> modules;
+
+		Node(File file, String key, String parentKey, List<File> modules) {
+			this.file = file;
+			this.key = key;
+			this.parentKey = parentKey;
+			this.modules = modules;
+		}
+	}
+
+	// pom.xml file -> node
+	private final Map<File, Node> nodes = new HashMap<>();
+	// groupId:artifactId:version -> pom.xml files
+	private final Map<String, Set<File>> filesByKey = new HashMap<>();
+	// groupId:artifactId:version of a parent -> pom.xml files of its children
+	private final Map<String, Set<File>> childrenByParentKey = new HashMap<>();
+	// pom.xml file of a module -> pom.xml files of the aggregators
+	private final Map<File, Set<File>> aggregatorsByModule = new HashMap<>();
+
+	/**
+	 * Reads the headers of pom.xml files and updates their nodes. The modules are
+	 * only read from the files with a 'pom' packaging.
+	 *
+	 * @param files pom.xml files
+	 */
+	public void update(Collection<File> files) {
+		for (File file : files) {
+			PomHeader header = PomHeaderReader.read(file);
+			if (header == null) {
+				remove(file);
+			} else {
+				List<String> modules = POM_PACKAGING.equals(header.getPackaging())
+						? PomHeaderReader.readModules(file)
+						: Collections.emptyList();
+				put(file, header.getArtifact(), header.getParent(), modules);
+			}
+		}
+	}
+
+	/**
+	 * Adds or replaces the node of a pom.xml file
+	 *
+	 * @param file     A pom.xml file
+	 * @param artifact The coordinates of the project
+	 * @param parent   The coordinates of the parent, may be <code>null</code>
+	 * @param modules  The module paths declared by the project, relative to the
+	 *                 folder of the file
+	 */
+	public synchronized void put(File file, Dependency artifact, Parent parent, List<String> modules) {
+		File pomFile = file.getAbsoluteFile();
+		unlink(nodes.remove(pomFile));
+		File folder = pomFile.getParentFile();
+		List<File> moduleFiles = modules.stream().map(module -> toModuleFile(folder, module)).distinct().toList();
+		Node node = new Node(pomFile, MavenLemminxExtension.key(artifact),
+				parent != null ? MavenLemminxExtension.key(parent) : null, moduleFiles);
+		nodes.put(pomFile, node);
+		filesByKey.computeIfAbsent(node.key, k -> new LinkedHashSet<>()).add(pomFile);
+		if (node.parentKey != null) {
+			childrenByParentKey.computeIfAbsent(node.parentKey, k -> new LinkedHashSet<>()).add(pomFile);
+		}
+		for (File module : moduleFiles) {
+			aggregatorsByModule.computeIfAbsent(module, k -> new LinkedHashSet<>()).add(pomFile);
+		}
+	}
+
+	/**
+	 * Removes the node of a pom.xml file
+	 *
+	 * @param file A pom.xml file
+	 */
+	public synchronized void remove(File file) {
+		unlink(nodes.remove(file.getAbsoluteFile()));
+	}
+
+	private void unlink(Node node) {
+		if (node == null) {
+			return;
+		}
+		removeFrom(filesByKey, node.key, node.file);
+		if (node.parentKey != null) {
+			removeFrom(childrenByParentKey, node.parentKey, node.file);
+		}
+		for (File module : node.modules) {
+			removeFrom(aggregatorsByModule, module, node.file);
+		}
+	}
+
+	private static <K> void removeFrom(Map<K, Set<File>> map, K key, File file) {
+		Set<File> files = map.get(key);
+		if (files != null) {
+			files.remove(file);
+			if (files.isEmpty()) {
+				map.remove(key);
+			}
+		}
+	}
+
+	private static File toModuleFile(File folder, String module) {
+		File moduleFile = new File(folder, module).toPath().normalize().toFile();
+		return module.endsWith(".xml") ? moduleFile : new File(moduleFile, POM_XML);
+	}
+
+	/**
+	 * Returns the pom.xml file of the parent of a project, if in the workspace
+	 *
+	 * @param file A pom.xml file
+	 * @return the pom.xml file of the parent or <code>null</code>
+	 */
+	public synchronized File getParent(File file) {
+		Node node = nodes.get(file.getAbsoluteFile());
+		return node != null ? findParent(node) : null;
+	}
+
+	private File findParent(Node node) {
+		if (node.parentKey == null) {
+			return null;
+		}
+		Set<File> parents = filesByKey.get(node.parentKey);
+		return parents == null || parents.isEmpty() ? null : parents.iterator().next();
+	}
+
+	/**
+	 * Returns the pom.xml files of the modules declared by a project
+	 *
+	 * @param file A pom.xml file
+	 * @return the pom.xml files of the modules, existing or not
+	 */
+	public synchronized List<File> getModules(File file) {
+		Node node = nodes.get(file.getAbsoluteFile());
+		return node != null ? node.modules : Collections.emptyList();
+	}
+
+	/**
+	 * Returns the pom.xml files of the projects declaring a project as a module
+	 *
+	 * @param file A pom.xml file
+	 * @return the pom.xml files of the aggregators
+	 */
+	public synchronized Set<File> getAggregators(File file) {
+		return new LinkedHashSet<>(aggregatorsByModule.getOrDefault(file.getAbsoluteFile(), Collections.emptySet()));
+	}
+
+	/**
+	 * Returns the projects having a project as parent or as aggregator, directly
+	 * or transitively, ordered from the nearest to the farthest
+	 *
+	 * @param file A pom.xml file
+	 * @return the pom.xml files of the downstream projects, excluding the
+	 *         project itself
+	 */
+	public synchronized Set<File> getDownstream(File file) {
+		File start = file.getAbsoluteFile();
+		Set<File> result = new LinkedHashSet<>();
+		Deque<File> toVisit = new ArrayDeque<>();
+		toVisit.add(start);
+		while (!toVisit.isEmpty()) {
+			Node node = nodes.get(toVisit.poll());
+			if (node == null) {
+				continue;
+			}
+			List<File> next = new ArrayList<>(childrenByParentKey.getOrDefault(node.key, Collections.emptySet()));
+			next.addAll(node.modules);
+			for (File downstream : next) {
+				if (!downstream.equals(start) && nodes.containsKey(downstream) && result.add(downstream)) {
+					toVisit.add(downstream);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Orders pom.xml files so that the parents and the aggregators come before
+	 * their children and modules. The files are kept in their original order
+	 * otherwise, the files unknown by the graph being added at the end.
+	 * Any cycle in the parents is reported and broken.
+	 *
+	 * @param files pom.xml files
+	 * @return the ordered absolute files
+	 */
+	public synchronized List<File> sort(Collection<File> files) {
+		Map<File, Integer> indexes = new LinkedHashMap<>();
+		List<File> unknown = new ArrayList<>();
+		for (File file : files) {
+			File pomFile = file.getAbsoluteFile();
+			if (!nodes.containsKey(pomFile)) {
+				unknown.add(pomFile);
+			} else if (!indexes.containsKey(pomFile)) {
+				indexes.put(pomFile, indexes.size());
+			}
+		}
+		Node[] sorted = indexes.keySet().stream().map(nodes::get).toArray(Node[]::new);
+		int count = sorted.length;
+		int[] parents = new int[count];
+		int[] hardInDegree = new int[count];
+		int[] softInDegree = new int[count];
+		List<List<Integer>> hardSuccessors = new ArrayList<>(count);
+		List<List<Integer>> softSuccessors = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			hardSuccessors.add(new ArrayList<>());
+			softSuccessors.add(new ArrayList<>());
+		}
+		for (int i = 0; i < count; i++) {
+			File parent = findParent(sorted[i]);
+			Integer parentIndex = parent != null ? indexes.get(parent) : null;
+			parents[i] = parentIndex != null && parentIndex != i ? parentIndex : -1;
+			if (parents[i] >= 0) {
+				hardSuccessors.get(parents[i]).add(i);
+				hardInDegree[i]++;
+			}
+		}
+		for (int i = 0; i < count; i++) {
+			for (File module : sorted[i].modules) {
+				Integer moduleIndex = indexes.get(module);
+				if (moduleIndex != null && moduleIndex != i && parents[moduleIndex] != i) {
+					softSuccessors.get(i).add(moduleIndex);
+					softInDegree[moduleIndex]++;
+				}
+			}
+		}
+
+		List<File> result = new ArrayList<>(files.size());
+		boolean[] emitted = new boolean[count];
+		boolean[] queued = new boolean[count];
+		PriorityQueue<Integer> ready = new PriorityQueue<>();
+		for (int i = 0; i < count; i++) {
+			if (hardInDegree[i] == 0 && softInDegree[i] == 0) {
+				ready.add(i);
+				queued[i] = true;
+			}
+		}
+		while (result.size() < count) {
+			if (ready.isEmpty()) {
+				int forced = relaxModules(hardInDegree, queued);
+				if (forced < 0) {
+					forced = breakCycle(sorted, parents, emitted);
+				}
+				ready.add(forced);
+				queued[forced] = true;
+			}
+			int current = ready.poll();
+			emitted[current] = true;
+			result.add(sorted[current].file);
+			for (int successor : hardSuccessors.get(current)) {
+				hardInDegree[successor]--;
+			}
+			for (int successor : softSuccessors.get(current)) {
+				softInDegree[successor]--;
+			}
+			for (List<Integer> successors : List.of(hardSuccessors.get(current), softSuccessors.get(current))) {
+				for (int successor : successors) {
+					if (!queued[successor] && hardInDegree[successor] == 0 && softInDegree[successor] == 0) {
+						ready.add(successor);
+						queued[successor] = true;
+					}
+				}
+			}
+		}
+		result.addAll(unknown);
+		return result;
+	}
+
+	/**
+	 * Returns the first remaining file whose parent is ordered, only waiting for
+	 * its aggregators: the module declarations conflict with the parents, so the
+	 * ones of this file are ignored
+	 */
+	private static int relaxModules(int[] hardInDegree, boolean[] queued) {
+		for (int i = 0; i < hardInDegree.length; i++) {
+			if (!queued[i] && hardInDegree[i] == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Reports the cycle of parents reached from the first remaining file, and
+	 * returns the file of the cycle to be ordered first
+	 */
+	private static int breakCycle(Node[] sorted, int[] parents, boolean[] emitted) {
+		int start = 0;
+		while (emitted[start]) {
+			start++;
+		}
+		// All the remaining files have a remaining parent, so following the
+		// parents necessarily leads to a cycle
+		Map<Integer, Integer> positions = new HashMap<>();
+		List<Integer> path = new ArrayList<>();
+		int current = start;
+		while (!positions.containsKey(current)) {
+			positions.put(current, path.size());
+			path.add(current);
+			current = parents[current];
+		}
+		List<Integer> cycle = path.subList(positions.get(current), path.size());
+		LOGGER.warning("Cycle in the parents of the workspace projects: " + cycle.stream()
+				.map(i -> sorted[i].file.getPath()).collect(Collectors.joining(" -> ")));
+		return Collections.min(cycle);
+	}
+
+	/**
+	 * Finds the cycles in the parents of the workspace projects
+	 *
+	 * @return the cycles, each as a list of pom.xml files, a file having the next
+	 *         one as parent and the last one having the first one as parent
+	 */
+	public synchronized List<List<File>> findCycles() {
+		List<List<File>> cycles = new ArrayList<>();
+		Set<File> visited = new HashSet<>();
+		for (Node node : nodes.values()) {
+			Map<File, Integer> positions = new HashMap<>();
+			List<File> path = new ArrayList<>();
+			File current = node.file;
+			while (current != null && !visited.contains(current) && !positions.containsKey(current)) {
+				positions.put(current, path.size());
+				path.add(current);
+				Node currentNode = nodes.get(current);
+				current = currentNode != null ? findParent(currentNode) : null;
+			}
+			if (current != null && positions.containsKey(current)) {
+				cycles.add(new ArrayList<>(path.subList(positions.get(current), path.size())));
+			}
+			visited.addAll(path);
+		}
+		return cycles;
+	}
+}
@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lemminx.extensions.maven.settings.XMLMavenWorkspaceSettings;
+import org.eclipse.lemminx.extensions.maven.utils.GitIgnoreRules;
+import org.eclipse.lemminx.extensions.maven.utils.PomHeaderReader;
+
+/**
+ * Finds the pom.xml files of a workspace folder, walking the subfolders in
+ * parallel.
+ * <p>
+ * The hidden folders, the 'target' folders, the folders ignored by the
+ * <code>.gitignore</code> files and the folders matching the configured
+ * exclude patterns are skipped, unless they are declared as modules by the
+ * pom.xml file of their parent folder.
+ * </p>
+ */
+public class WorkspaceProjectWalker {
+	private static final Logger LOGGER = Logger.getLogger(WorkspaceProjectWalker.class.getName());
+
+	private static final String POM_XML = "pom.xml";
+	private static final String TARGET = "target";
+
+	/**
+	 * The content of a folder, as needed by the walker
+	 */
+	static final class FolderListing {
+		final List<String> subfolders;
+		final List<String> pomFiles;
+		final boolean gitIgnore;
+
+		/**
+		 * @param subfolders The names of the subfolders, the hidden ones excluded
+		 * @param pomFiles   The names of the pom.xml files
+		 * @param gitIgnore  true if the folder contains a .gitignore file
+		 */
+		FolderListing(List<String> subfolders, List<String> pomFiles, boolean gitIgnore) {
+			this.subfolders = subfolders;
+			this.pomFiles = pomFiles;
+			this.gitIgnore = gitIgnore;
+		}
+	}
+
+	/**
+	 * Lists the content of a folder, f.i. from a cache
+	 */
+	@FunctionalInterface
+	interface FolderLister {
+		FolderListing list(Path folder) throws IOException;
+	}
+
+	/**
+	 * The statistics of the walks
+	 */
+	public static final class Statistics {
+		private final long folders;
+		private final long skippedFolders;
+		private final long pomFiles;
+		private final long elapsedMillis;
+
+		private Statistics(long folders, long skippedFolders, long pomFiles, long elapsedMillis) {
+			this.folders = folders;
+			this.skippedFolders = skippedFolders;
+			this.pomFiles = pomFiles;
+			this.elapsedMillis = elapsedMillis;
+		}
+
+		public long getFolders() {
+			return folders;
+		}
+
+		public long getSkippedFolders() {
+			return skippedFolders;
+		}
+
+		public long getPomFiles() {
+			return pomFiles;
+		}
+
+		public long getElapsedMillis() {
+			return elapsedMillis;
+		}
+
+		@Override
+		public String toString() {
+			return folders + " folders walked, " + skippedFolders + " skipped, " + pomFiles + " pom files found in "
+					+ elapsedMillis + " ms";
+		}
+	}
+
+	private final int maxDepth;
+	private final boolean gitIgnore;
+	private final List<PathMatcher> excludes;
+	private final FolderLister lister;
+
+	private final LongAdder folders = new LongAdder();
+	private final LongAdder skippedFolders = new LongAdder();
+	private final LongAdder pomFiles = new LongAdder();
+	private final LongAdder elapsedMillis = new LongAdder();
+
+	/**
+	 * Creates a walker listing the folders from the file system
+	 *
+	 * @param settings The workspace settings
+	 */
+	public WorkspaceProjectWalker(XMLMavenWorkspaceSettings settings) {
+		this(settings, WorkspaceProjectWalker::listFolder);
+	}
+
+	WorkspaceProjectWalker(XMLMavenWorkspaceSettings settings, FolderLister lister) {
+		XMLMavenWorkspaceSettings workspaceSettings = settings != null ? settings : new XMLMavenWorkspaceSettings();
+		this.maxDepth = workspaceSettings.getMaxDepth();
+		this.gitIgnore = workspaceSettings.isGitIgnore();
+		this.excludes = createMatchers(workspaceSettings.getExcludes());
+		this.lister = lister;
+	}
+
+	/**
+	 * Finds the pom.xml files of a workspace folder
+	 *
+	 * @param root A workspace folder
+	 * @return The pom.xml files found, in the walk order
+	 */
+	public List<Path> walk(Path root) {
+		long start = System.currentTimeMillis();
+		long foldersBefore = folders.sum();
+		long pomFilesBefore = pomFiles.sum();
+		List<Path> result;
+		if (Files.isDirectory(root)) {
+			result = ForkJoinPool.commonPool().invoke(new WalkFolderTask(root, root, 0, GitIgnoreRules.EMPTY, null));
+		} else {
+			result = Collections.emptyList();
+		}
+		long elapsed = System.currentTimeMillis() - start;
+		elapsedMillis.add(elapsed);
+		LOGGER.info("Walked workspace folder " + root + ": " + (folders.sum() - foldersBefore) + " folders, "
+				+ (pomFiles.sum() - pomFilesBefore) + " pom files in " + elapsed + " ms");
+		return result;
+	}
+
+	/**
+	 * Finds the pom.xml files of a subfolder of a workspace folder, skipping the
+	 * same folders as a walk of the whole workspace folder
+	 *
+	 * @param root          A workspace folder
+	 * @param folder        The root or one of its subfolders
+	 * @param folderVisitor Called with each walked folder, from the walking
+	 *                      threads
+	 * @return The pom.xml files found, in the walk order, or an empty list if
+	 *         the folder is skipped
+	 */
+	public List<Path> walk(Path root, Path folder, Consumer<Path> folderVisitor) {
+		if (!folder.startsWith(root) || !Files.isDirectory(folder)) {
+			return Collections.emptyList();
+		}
+		// The rules and the depth of the folder, as if walked from the root
+		GitIgnoreRules rules = GitIgnoreRules.EMPTY;
+		Path parent = root;
+		int depth = 0;
+		for (Path name : root.relativize(folder)) {
+			if (name.toString().isEmpty()) {
+				break;
+			}
+			if (gitIgnore) {
+				rules = GitIgnoreRules.read(parent, rules);
+			}
+			Path subfolder = parent.resolve(name);
+			String fileName = name.toString();
+			// The subfolders of the folder at depth are walked if depth + 2 <= maxDepth
+			if (depth + 2 > maxDepth || fileName.charAt(0) == '.' || (isSkipped(root, subfolder, rules)
+					&& !(Files.isRegularFile(parent.resolve(POM_XML)) && readModules(parent).contains(fileName)))) {
+				return Collections.emptyList();
+			}
+			parent = subfolder;
+			depth++;
+		}
+		return ForkJoinPool.commonPool().invoke(new WalkFolderTask(root, folder, depth, rules, folderVisitor));
+	}
+
+	/**
+	 * Returns the statistics of all the walks of this walker
+	 *
+	 * @return the statistics
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(folders.sum(), skippedFolders.sum(), pomFiles.sum(), elapsedMillis.sum());
+	}
+
+	private class WalkFolderTask extends RecursiveTask<List<Path>> {
+		private static final long serialVersionUID = 1L;
+
+		private final Path root;
+		private final Path folder;
+		private final int depth;
+		private final transient GitIgnoreRules parentRules;
+		private final transient Consumer<Path> folderVisitor;
+
+		WalkFolderTask(Path root, Path folder, int depth, GitIgnoreRules parentRules, Consumer<Path> folderVisitor) {
+			this.root = root;
+			this.folder = folder;
+			this.depth = depth;
+			this.parentRules = parentRules;
+			this.folderVisitor = folderVisitor;
+		}
+
+		@Override
+		protected List<Path> compute() {
+			FolderListing listing;
+			try {
+				listing = lister.list(folder);
+			} catch (IOException e) {
+				// The folder is removed or not readable
+				LOGGER.log(Level.FINE, "Cannot list " + folder + ": " + e.getMessage(), e);
+				return Collections.emptyList();
+			}
+			folders.increment();
+			if (folderVisitor != null) {
+				folderVisitor.accept(folder);
+			}
+			GitIgnoreRules rules = gitIgnore && listing.gitIgnore ? GitIgnoreRules.read(folder, parentRules)
+					: parentRules;
+			List<Path> result = new ArrayList<>();
+			for (String name : listing.pomFiles) {
+				Path pomFile = folder.resolve(name);
+				if (!rules.isIgnored(pomFile, false)) {
+					result.add(pomFile);
+				}
+			}
+			pomFiles.add(result.size());
+			// The files of the subfolders are at depth + 2
+			if (depth + 2 > maxDepth || listing.subfolders.isEmpty()) {
+				return result;
+			}
+			Set<String> modules = null;
+			List<WalkFolderTask> subtasks = new ArrayList<>();
+			for (String name : listing.subfolders) {
+				Path subfolder = folder.resolve(name);
+				if (isSkipped(root, subfolder, rules)) {
+					if (modules == null) {
+						modules = listing.pomFiles.contains(POM_XML) ? readModules(folder) : Collections.emptySet();
+					}
+					if (!modules.contains(name)) {
+						skippedFolders.increment();
+						continue;
+					}
+				}
+				subtasks.add(new WalkFolderTask(root, subfolder, depth + 1, rules, folderVisitor));
+			}
+			for (WalkFolderTask subtask : invokeAll(subtasks)) {
+				result.addAll(subtask.join());
+			}
+			return result;
+		}
+	}
+
+	private boolean isSkipped(Path root, Path folder, GitIgnoreRules rules) {
+		if (TARGET.equals(folder.getFileName().toString())) {
+			return true;
+		}
+		Path relativePath = root.relativize(folder);
+		for (PathMatcher exclude : excludes) {
+			if (exclude.matches(relativePath)) {
+				return true;
+			}
+		}
+		return rules.isIgnored(folder, true);
+	}
+
+	/**
+	 * Returns the names of the subfolders declared as modules by the pom.xml file
+	 * of a folder
+	 */
+	private static Set<String> readModules(Path folder) {
+		Set<String> names = new HashSet<>();
+		for (String module : PomHeaderReader.readModules(folder.resolve(POM_XML).toFile())) {
+			try {
+				Path modulePath = folder.resolve(module).normalize();
+				if (modulePath.startsWith(folder) && !modulePath.equals(folder)) {
+					names.add(folder.relativize(modulePath).getName(0).toString());
+				}
+			} catch (RuntimeException e) {
+				// An invalid path
+				LOGGER.log(Level.FINEST, e.getMessage(), e);
+			}
+		}
+		return names;
+	}
+
+	private static List<PathMatcher> createMatchers(List<String> patterns) {
+		FileSystem fileSystem = FileSystems.getDefault();
+		List<PathMatcher> matchers = new ArrayList<>();
+		for (String pattern : patterns) {
+			if (pattern == null || pattern.isBlank()) {
+				continue;
+			}
+			try {
+				matchers.add(fileSystem.getPathMatcher("glob:" + pattern));
+				if (pattern.startsWith("**/")) {
+					// "**/name" matches a folder at the root as well
+					matchers.add(fileSystem.getPathMatcher("glob:" + pattern.substring(3)));
+				}
+			} catch (IllegalArgumentException e) {
+				LOGGER.log(Level.WARNING, "Invalid workspace exclude pattern '" + pattern + "': " + e.getMessage(), e);
+			}
+		}
+		return matchers;
+	}
+
+	/**
+	 * Lists a folder from the file system
+	 */
+	static FolderListing listFolder(Path folder) throws IOException {
+		List<String> subfolders = new ArrayList<>();
+		List<String> pomNames = new ArrayList<>();
+		boolean hasGitIgnore = false;
+		try (DirectoryStream<Path> children = Files.newDirectoryStream(folder)) {
+			for (Path child : children) {
+				String name = child.getFileName().toString();
+				if (Files.isDirectory(child)) {
+					// Skip hidden directories
+					if (!name.isEmpty() && name.charAt(0) != '.') {
+						subfolders.add(name);
+					}
+				} else if (GitIgnoreRules.GITIGNORE.equals(name)) {
+					hasGitIgnore = true;
+				} else if (MavenLemminxExtension.match(child)) {
+					pomNames.add(name);
+				}
+			}
+		}
+		subfolders.sort(null);
+		pomNames.sort(null);
+		return new FolderListing(subfolders, pomNames, hasGitIgnore);
+	}
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import org.eclipse.lemminx.extensions.maven.utils.LatencyHistogram.Snapshot;
+
+/**
+ * A snapshot of the Maven workspace reader counters: how often and how long
+ * the artifact resolutions wait for the workspace to be populated, and how
+ * long populating the workspace takes
+ */
+public class WorkspaceReaderStatistics {
+
+	private final int queueDepth;
+	private final long maximumQueueDepth;
+	private final long artifactLookupCount;
+	private final Snapshot artifactWaits;
+	private final long versionLookupCount;
+	private final Snapshot versionWaits;
+	private final long waitTimeoutCount;
+	private final Snapshot populationTimes;
+	private final long indexedCount;
+	private final long unresolvedCount;
+
+	public WorkspaceReaderStatistics(int queueDepth, long maximumQueueDepth, long artifactLookupCount,
+			Snapshot artifactWaits, long versionLookupCount, Snapshot versionWaits, long waitTimeoutCount,
+			Snapshot populationTimes, long indexedCount, long unresolvedCount) {
+		this.queueDepth = queueDepth;
+		this.maximumQueueDepth = maximumQueueDepth;
+		this.artifactLookupCount = artifactLookupCount;
+		this.artifactWaits = artifactWaits;
+		this.versionLookupCount = versionLookupCount;
+		this.versionWaits = versionWaits;
+		this.waitTimeoutCount = waitTimeoutCount;
+		this.populationTimes = populationTimes;
+		this.indexedCount = indexedCount;
+		this.unresolvedCount = unresolvedCount;
+	}
+
+	/**
+	 * Returns the number of pom.xml files waiting to be added to the workspace
+	 *
+	 * @return the current depth of the population queue
+	 */
+	public int getQueueDepth() {
+		return queueDepth;
+	}
+
+	/**
+	 * Returns the highest number of pom.xml files waiting to be added to the
+	 * workspace at once
+	 *
+	 * @return the maximum depth of the population queue
+	 */
+	public long getMaximumQueueDepth() {
+		return maximumQueueDepth;
+	}
+
+	/**
+	 * Returns the number of artifacts looked up in the workspace
+	 *
+	 * @return the number of artifact lookups
+	 */
+	public long getArtifactLookupCount() {
+		return artifactLookupCount;
+	}
+
+	/**
+	 * Returns the times the artifact lookups waited for the workspace to be
+	 * populated, only the lookups that waited are recorded
+	 *
+	 * @return the artifact lookup waits
+	 */
+	public Snapshot getArtifactWaits() {
+		return artifactWaits;
+	}
+
+	/**
+	 * Returns the number of artifact versions looked up in the workspace
+	 *
+	 * @return the number of version lookups
+	 */
+	public long getVersionLookupCount() {
+		return versionLookupCount;
+	}
+
+	/**
+	 * Returns the times the version lookups waited for the workspace to be
+	 * populated, only the lookups that waited are recorded
+	 *
+	 * @return the version lookup waits
+	 */
+	public Snapshot getVersionWaits() {
+		return versionWaits;
+	}
+
+	/**
+	 * Returns the number of lookups that gave up waiting for the workspace to be
+	 * populated
+	 *
+	 * @return the number of wait timeouts
+	 */
+	public long getWaitTimeoutCount() {
+		return waitTimeoutCount;
+	}
+
+	/**
+	 * Returns the times spent adding each parsed pom.xml file to the workspace
+	 *
+	 * @return the population times
+	 */
+	public Snapshot getPopulationTimes() {
+		return populationTimes;
+	}
+
+	/**
+	 * Returns the number of pom.xml files added to the workspace from the
+	 * workspace module index, without being parsed
+	 *
+	 * @return the number of indexed pom.xml files
+	 */
+	public long getIndexedCount() {
+		return indexedCount;
+	}
+
+	/**
+	 * Returns the number of parsed pom.xml files whose coordinates couldn't be
+	 * read from their header, so they're not added to the workspace
+	 *
+	 * @return the number of unresolved pom.xml files
+	 */
+	public long getUnresolvedCount() {
+		return unresolvedCount;
+	}
+
+	@Override
+	public String toString() {
+		return "WorkspaceReaderStatistics [queue=" + queueDepth + ", maxQueue=" + maximumQueueDepth
+				+ ", artifactLookups=" + artifactLookupCount + ", artifactWaits=" + artifactWaits
+				+ ", versionLookups=" + versionLookupCount + ", versionWaits=" + versionWaits + ", timeouts="
+				+ waitTimeoutCount + ", population=" + populationTimes + ", indexed=" + indexedCount
+				+ ", unresolved=" + unresolvedCount + "]";
+	}
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.commands;
+
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.services.extensions.commands.IXMLCommandService.IDelegateCommandHandler;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.ExecuteCommandParams;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * A command dumping the statistics of the Maven project builds and of the
+ * workspace resolution. The statistics are returned to the client and logged.
+ */
+public class MavenStatisticsCommand implements IDelegateCommandHandler {
+	private static final Logger LOGGER = Logger.getLogger(MavenStatisticsCommand.class.getName());
+
+	public static final String COMMAND_ID = "maven.statistics";
+
+	private final MavenLemminxExtension plugin;
+
+	public MavenStatisticsCommand(MavenLemminxExtension plugin) {
+		this.plugin = plugin;
+	}
+
+	@Override
+	public Object executeCommand(ExecuteCommandParams params, SharedSettings sharedSettings,
+			CancelChecker cancelChecker) throws Exception {
+		Map<String, Object> statistics = plugin.getStatistics();
+		LOGGER.info("Maven statistics: " + statistics);
+		return statistics;
+	}
+}
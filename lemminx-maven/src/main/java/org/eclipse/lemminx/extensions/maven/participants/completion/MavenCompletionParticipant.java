@@ -102,6 +102,9 @@ import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.MavenModelOutOfDatedException;
 import org.eclipse.lemminx.extensions.maven.MojoParameter;
 import org.eclipse.lemminx.extensions.maven.participants.ArtifactWithDescription;
+import org.eclipse.lemminx.extensions.maven.project.IMavenProjectConsumer;
+import org.eclipse.lemminx.extensions.maven.project.MavenProjectTier;
+import org.eclipse.lemminx.extensions.maven.searcher.LocalRepositorySearcher;
 import org.eclipse.lemminx.extensions.maven.searcher.RemoteCentralRepositorySearcher.OngoingOperationException;
 import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
 import org.eclipse.lemminx.extensions.maven.utils.MavenParseUtils;
@@ -128,7 +131,7 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
-public class MavenCompletionParticipant extends CompletionParticipantAdapter {
+public class MavenCompletionParticipant extends CompletionParticipantAdapter implements IMavenProjectConsumer {
 	private static final Logger LOGGER = Logger.getLogger(MavenCompletionParticipant.class.getName());
 
 	private static final Pattern ARTIFACT_ID_PATTERN = Pattern.compile("[-.a-zA-Z0-9]+");
@@ -172,6 +175,15 @@ public class MavenCompletionParticipant extends CompletionParticipantAdapter {
 		this.plugin = plugin;
 	}
 
+	/**
+	 * The workspace projects are only used for their GAVs, which the raw models
+	 * provide without waiting for the parents and dependencies to be resolved
+	 */
+	@Override
+	public MavenProjectTier getMinimumProjectTier() {
+		return MavenProjectTier.RAW;
+	}
+
 	@Override
 	public void onTagOpen(ICompletionRequest request, ICompletionResponse response, CancelChecker cancelChecker) throws Exception {
 		if (!MavenLemminxExtension.match(request.getXMLDocument())) {
@@ -312,8 +324,7 @@ public class MavenCompletionParticipant extends CompletionParticipantAdapter {
 					// TODO if artifactId is set and match existing content, suggest only matching
 					// groupId
 					collectSimpleCompletionItems(
-							isPlugin ? plugin.getLocalRepositorySearcher().searchPluginGroupIds()
-									: plugin.getLocalRepositorySearcher().searchGroupIds(),
+							plugin.getLocalRepositorySearcher().searchGroupIds(getTypedPrefix(request), isPlugin),
 							Function.identity(), Function.identity(), request, cancelChecker).stream()
 								.filter(completionItem -> !nonArtifactCollector.containsKey(completionItem.getLabel()))
 								.forEach(completionItem -> nonArtifactCollector.put(completionItem.getLabel(), completionItem));
@@ -333,9 +344,11 @@ public class MavenCompletionParticipant extends CompletionParticipantAdapter {
 						filesystem.map(ArtifactWithDescription::new).ifPresent(allArtifactInfos::add);
 					}
 				} else {
-					allArtifactInfos.addAll((isPlugin ? plugin.getLocalRepositorySearcher().getLocalPluginArtifacts()
-							: plugin.getLocalRepositorySearcher().getLocalArtifactsLastVersion()).stream()
-									.filter(gav -> !groupId.isPresent() || gav.getGroupId().equals(groupId.get()))
+					LocalRepositorySearcher localRepositorySearcher = plugin.getLocalRepositorySearcher();
+					allArtifactInfos.addAll((groupId.isPresent()
+							? localRepositorySearcher.getLocalArtifactsLastVersion(groupId.get(), "", isPlugin)
+							: isPlugin ? localRepositorySearcher.getLocalPluginArtifacts()
+									: localRepositorySearcher.getLocalArtifactsLastVersion()).stream()
 									// TODO pass description as documentation
 									.map(ArtifactWithDescription::new).collect(Collectors.toList()));
 					internalCollectRemoteGAVCompletion(request, isPlugin, allArtifactInfos, nonArtifactCollector, cancelChecker);
@@ -353,13 +366,20 @@ public class MavenCompletionParticipant extends CompletionParticipantAdapter {
 					}
 				} else {
 					if (artifactId.isPresent()) {
-						plugin.getLocalRepositorySearcher().getLocalArtifactsLastVersion().stream()
-								.filter(gav -> gav.getArtifactId().equals(artifactId.get()))
-								.filter(gav -> !groupId.isPresent() || gav.getGroupId().equals(groupId.get())).findAny()
-								.map(Artifact::getVersion).map(DefaultArtifactVersion::new)
-								.map(version -> toCompletionItem(version.toString(), null, request.getReplaceRange()))
-								.filter(completionItem -> !nonArtifactCollector.containsKey(completionItem.getLabel()))
-								.ifPresent(completionItem -> nonArtifactCollector.put(completionItem.getLabel(), completionItem));
+						if (groupId.isPresent()) {
+							// All the versions available locally
+							plugin.getLocalRepositorySearcher().getLocalArtifactVersions(groupId.get(), artifactId.get()).stream()
+									.map(version -> toCompletionItem(version, null, request.getReplaceRange()))
+									.filter(completionItem -> !nonArtifactCollector.containsKey(completionItem.getLabel()))
+									.forEach(completionItem -> nonArtifactCollector.put(completionItem.getLabel(), completionItem));
+						} else {
+							plugin.getLocalRepositorySearcher().getLocalArtifactsLastVersion().stream()
+									.filter(gav -> gav.getArtifactId().equals(artifactId.get())).findAny()
+									.map(Artifact::getVersion).map(DefaultArtifactVersion::new)
+									.map(version -> toCompletionItem(version.toString(), null, request.getReplaceRange()))
+									.filter(completionItem -> !nonArtifactCollector.containsKey(completionItem.getLabel()))
+									.ifPresent(completionItem -> nonArtifactCollector.put(completionItem.getLabel(), completionItem));
+						}
 						internalCollectRemoteGAVCompletion(request, isPlugin, allArtifactInfos, nonArtifactCollector, cancelChecker);
 					}
 				}
@@ -512,6 +532,19 @@ public class MavenCompletionParticipant extends CompletionParticipantAdapter {
 		cancelChecker.checkCanceled();
 	}
 	
+	/**
+	 * Returns the text typed in the element before the completion offset, which
+	 * the items of {@link #collectSimpleCompletionItems} replace
+	 */
+	private static String getTypedPrefix(ICompletionRequest request) {
+		int start = request.getParentElement().getStartTagCloseOffset() + 1;
+		int offset = request.getOffset();
+		if (start <= 0 || offset < start) {
+			return "";
+		}
+		return request.getXMLDocument().getText().substring(start, offset).strip();
+	}
+
 	private static boolean isMatchCompletionPrefix(String completionItemText, char[] completionPrefix) {
 		if (completionPrefix == null || completionPrefix.length == 0) {
 			return true;
@@ -886,7 +919,7 @@ public class MavenCompletionParticipant extends CompletionParticipantAdapter {
 
 	private Collection<CompletionItem> completeProperties(ICompletionRequest request, CancelChecker cancelChecker) {
 		cancelChecker.checkCanceled();
-		MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(request.getXMLDocument());
+		MavenProject project = plugin.getProjectCache().getLastMavenProject(request.getXMLDocument());
 		if (project == null) {
 			cancelChecker.checkCanceled();
 			return Collections.emptySet();
@@ -1394,20 +1427,20 @@ public class MavenCompletionParticipant extends CompletionParticipantAdapter {
 		cancelChecker.checkCanceled();
 		switch (parent.getLocalName()) {
 		case ARTIFACT_ID_ELT:
-			plugin.getCurrentWorkspaceProjects(false).stream() //
+			plugin.getCurrentWorkspaceProjects(false, this).stream() //
 				.filter(a -> groupIdFilter == null || groupIdFilter.equals(a.getGroupId()))
 				.map(ArtifactWithDescription::new) //
 				.forEach(artifactInfosCollector::add);
 			break;
 		case GROUP_ID_ELT:
-			plugin.getCurrentWorkspaceProjects(false).stream() //
+			plugin.getCurrentWorkspaceProjects(false, this).stream() //
 				.filter(p -> artifactIdFilter == null || artifactIdFilter.equals(p.getArtifactId())) //
 				.map(p -> toCompletionItem(p.getGroupId(), null, range)) //
 				.filter(completionItem -> !nonArtifactCollector.containsKey(completionItem.getLabel()))
 				.forEach(completionItem -> nonArtifactCollector.put(completionItem.getLabel(), completionItem));			
 			break;
 		case VERSION_ELT:
-			plugin.getCurrentWorkspaceProjects(false).stream() //
+			plugin.getCurrentWorkspaceProjects(false, this).stream() //
 				.filter(p -> artifactIdFilter == null || artifactIdFilter.equals(p.getArtifactId())) //
 				.map(p -> toCompletionItem(p.getVersion(), null, range)) //
 				.filter(completionItem -> !nonArtifactCollector.containsKey(completionItem.getLabel()))
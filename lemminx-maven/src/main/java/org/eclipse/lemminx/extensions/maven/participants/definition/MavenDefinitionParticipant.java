@@ -86,7 +86,7 @@ public class MavenDefinitionParticipant implements IDefinitionParticipant {
 			}
 			
 			cancelChecker.checkCanceled();
-			MavenProject p = plugin.getProjectCache().getLastSuccessfulMavenProject(element.getOwnerDocument());
+			MavenProject p = plugin.getProjectCache().getLastMavenProject(element.getOwnerDocument());
 			Dependency dependency = ParticipantUtils.getArtifactToSearch(p, request.getNode());
 	
 			cancelChecker.checkCanceled();
@@ -134,7 +134,7 @@ public class MavenDefinitionParticipant implements IDefinitionParticipant {
 						return;
 					} else {
 						// those next lines may actually be more generic and suit parent definition in any case
-						MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(request.getXMLDocument());
+						MavenProject project = plugin.getProjectCache().getLastMavenProject(request.getXMLDocument());
 						if (project != null && project.getParentFile() != null) {
 							cancelChecker.checkCanceled();
 							locations.add(toLocationNoRange(project.getParentFile(), parentNode));
@@ -194,7 +194,7 @@ public class MavenDefinitionParticipant implements IDefinitionParticipant {
 
 		cancelChecker.checkCanceled();
 		DOMDocument xmlDocument = request.getXMLDocument();
-		MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(xmlDocument);
+		MavenProject project = plugin.getProjectCache().getLastMavenProject(xmlDocument);
 		if (project == null) {
 			return null;
 		}
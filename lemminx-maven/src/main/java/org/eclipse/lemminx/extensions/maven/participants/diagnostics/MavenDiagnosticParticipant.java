@@ -31,7 +31,6 @@ import javax.annotation.Nonnull;
 
 import org.apache.maven.model.building.ModelProblem;
 import org.apache.maven.model.building.ModelProblem.Severity;
-import org.apache.maven.project.DependencyResolutionResult;
 import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
@@ -74,23 +73,26 @@ public class MavenDiagnosticParticipant implements IDiagnosticsParticipant {
 					LOGGER.log(Level.SEVERE, e.getMessage(), e);
 				}
 			}
+			LoadedMavenProject loadedMavenProject;
 			if (!project.isDone()) {
 				// The pom.xml takes some times to load it, to avoid blocking the XML syntax validation, XML validation based on XSD
 				// we retrigger the validation when the pom.xml is loaded.
 				project.thenAccept( unused -> plugin.getValidationService()
 						.validate(xmlDocument));
-				return;
+				// Meanwhile, the project restored from the disk for the same document text is validated
+				loadedMavenProject = plugin.getProjectCache().getRestoredMavenProject(xmlDocument);
+				if (loadedMavenProject == null) {
+					return;
+				}
+			} else {
+				loadedMavenProject = project.getNow(null);
 			}
 
-			LoadedMavenProject loadedMavenProject = project.getNow(null);
 			Collection<ModelProblem> problems = loadedMavenProject != null ? loadedMavenProject.getProblems() : null;
 			if (problems != null) {
 				problems.stream().map(problem -> toDiagnostic(problem, xmlDocument))
 					.forEach(diagnostics::add);
 			}
-			DependencyResolutionResult dependencyResolutionResult = 
-					loadedMavenProject != null ?
-							loadedMavenProject.getDependencyResolutionResult() : null;
 
 			cancelChecker.checkCanceled();
 			DOMElement documentElement = xmlDocument.getDocumentElement();
@@ -103,7 +105,7 @@ public class MavenDiagnosticParticipant implements IDiagnosticsParticipant {
 			// Validate project element
 			cancelChecker.checkCanceled();
 			if (PROJECT_ELT.equals(documentElement.getNodeName())) {
-				ProjectValidator projectValidator = new ProjectValidator(plugin, dependencyResolutionResult, cancelChecker);
+				ProjectValidator projectValidator = new ProjectValidator(plugin, loadedMavenProject, cancelChecker);
 				projectValidator.validateProject(new DiagnosticRequest(documentElement, xmlDocument))
 						.ifPresent(diagnosticList -> {
 							cancelChecker.checkCanceled();
@@ -113,6 +115,11 @@ public class MavenDiagnosticParticipant implements IDiagnosticsParticipant {
 						});
 			}
 
+			if (loadedMavenProject != null && loadedMavenProject.isStale()) {
+				// The tag validators would wait for the build of the project
+				return;
+			}
+
 			cancelChecker.checkCanceled();
 			Deque<DOMNode> nodes = new ArrayDeque<>();
 			documentElement.getChildren().stream().filter(DOMElement.class::isInstance).forEach(nodes::push);
@@ -48,6 +48,7 @@ import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.project.LoadedMavenProject;
 import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
 import org.eclipse.lemminx.extensions.maven.utils.MavenParseUtils;
 import org.eclipse.lemminx.utils.XMLPositionUtility;
@@ -69,13 +70,16 @@ public class ProjectValidator {
 	public static String MARKER_IGNORE_MANAGED = "$NO-MVN-MAN-VER$";//$NON-NLS-1$
 
 	private final MavenLemminxExtension plugin;
+	private final LoadedMavenProject loadedMavenProject;
 	private final DependencyResolutionResult dependencyResolutionResult;
 	
 	private final CancelChecker cancelChecker;
 
-	public ProjectValidator(MavenLemminxExtension plugin, DependencyResolutionResult dependencyResolutionResult, @Nonnull CancelChecker cancelChecker) {
+	public ProjectValidator(MavenLemminxExtension plugin, LoadedMavenProject loadedMavenProject, @Nonnull CancelChecker cancelChecker) {
 		this.plugin = plugin;
-		this.dependencyResolutionResult = dependencyResolutionResult;
+		this.loadedMavenProject = loadedMavenProject;
+		this.dependencyResolutionResult = loadedMavenProject != null
+				? loadedMavenProject.getDependencyResolutionResult() : null;
 		this.cancelChecker = cancelChecker;
 	}
 
@@ -92,8 +96,10 @@ public class ProjectValidator {
 			return Optional.empty();
 		}
 
-		MavenProject project = plugin.getProjectCache()
-				.getLastSuccessfulMavenProject(diagnosticRequest.getXMLDocument());
+		// The managed versions of a stale project may have changed since, so their
+		// overrides are only validated against an up to date project
+		MavenProject project = loadedMavenProject != null && !loadedMavenProject.isStale()
+				? loadedMavenProject.getMavenProject() : null;
 		cancelChecker.checkCanceled();
 		List<Diagnostic> diagnostics = new ArrayList<>();
 		diagnostics.addAll(validateParentMatchingGroupIdVersion(diagnosticRequest).get());
@@ -122,7 +122,7 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 		
 			cancelChecker.checkCanceled();
 			boolean isParentDeclaration = ParticipantUtils.isParentDeclaration(parent);
-			MavenProject p = plugin.getProjectCache().getLastSuccessfulMavenProject(request.getXMLDocument());
+			MavenProject p = plugin.getProjectCache().getLastMavenProject(request.getXMLDocument());
 			Dependency artifactToSearch = ParticipantUtils.getArtifactToSearch(p, tag);
 	
 			return switch (parent.getLocalName()) {
@@ -217,7 +217,7 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 		
 		cancelChecker.checkCanceled();
 		boolean isPlugin = PLUGIN_ELT.equals(element.getLocalName());
-		MavenProject p = plugin.getProjectCache().getLastSuccessfulMavenProject(element.getOwnerDocument());
+		MavenProject p = plugin.getProjectCache().getLastMavenProject(element.getOwnerDocument());
 		Dependency dependency = ParticipantUtils.getArtifactToSearch(p, request.getNode());
 
 		cancelChecker.checkCanceled();
@@ -233,7 +233,7 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 			}
 
 			cancelChecker.checkCanceled();
-			MavenProject parentMavenProject = plugin.getProjectCache().getLastSuccessfulMavenProject(parentXmlDocument);
+			MavenProject parentMavenProject = plugin.getProjectCache().getLastMavenProject(parentXmlDocument);
 
 			List<DOMElement> elements = findDependencyOrPluginElement(parentXmlDocument, isPlugin, dependency.getGroupId(), dependency.getArtifactId());
 			for (DOMElement e : elements) {
@@ -380,7 +380,7 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 		boolean supportsMarkdown = request.canSupportMarkupKind(MarkupKind.MARKDOWN);
 
 		cancelChecker.checkCanceled();
-		MavenProject p = plugin.getProjectCache().getLastSuccessfulMavenProject(request.getXMLDocument());
+		MavenProject p = plugin.getProjectCache().getLastMavenProject(request.getXMLDocument());
 		Dependency dependency = ParticipantUtils.getArtifactToSearch(p, request.getNode());
 		boolean wellDefined = ParticipantUtils.isWellDefinedDependency(dependency);
 		DOMElement element = ParticipantUtils.findInterestingElement(request.getNode());
@@ -554,7 +554,7 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 		DOMDocument doc = request.getXMLDocument();
 		
 		cancelChecker.checkCanceled();
-		MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(doc);
+		MavenProject project = plugin.getProjectCache().getLastMavenProject(doc);
 		if (project != null) {
 			cancelChecker.checkCanceled();
 			Map<String, String> allProps = ParticipantUtils.getMavenProjectProperties(project);
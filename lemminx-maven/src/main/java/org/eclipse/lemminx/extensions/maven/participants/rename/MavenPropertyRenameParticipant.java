@@ -90,7 +90,7 @@ public class MavenPropertyRenameParticipant implements IRenameParticipant {
 	
 			// Check Maven property
 			cancelChecker.checkCanceled();
-			MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(document);
+			MavenProject project = plugin.getProjectCache().getLastMavenProject(document);
 	
 			cancelChecker.checkCanceled();
 			Map<String, String> properties = ParticipantUtils.getMavenProjectProperties(project);
@@ -132,7 +132,9 @@ public class MavenPropertyRenameParticipant implements IRenameParticipant {
 				return;
 			}
 	
-			// Check Maven property
+			// Check Maven property. Unlike the prepare rename, the rename waits for the
+			// project built from the latest document: the edits are applied to the
+			// parents and the children found from its current properties
 			cancelChecker.checkCanceled();
 			MavenProject thisProject = plugin.getProjectCache().getLastSuccessfulMavenProject(document);
 			if (thisProject == null) {
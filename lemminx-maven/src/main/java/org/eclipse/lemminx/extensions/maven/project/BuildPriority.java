@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+/**
+ * The priority classes of the Maven Project builds, from the most to the least
+ * urgent one.
+ * <p>
+ * A queued build is given a deadline, that is its submission time plus the
+ * maximum delay of its class, and the queued builds are started in deadline
+ * order. So a build of a more urgent class overtakes the less urgent builds,
+ * but only those submitted less than the difference of the class delays ago:
+ * a build waiting long enough is started whatever is submitted later, so it's
+ * never starved.
+ * </p>
+ */
+public enum BuildPriority {
+
+	/**
+	 * The document being edited
+	 */
+	ACTIVE_EDITOR(0),
+
+	/**
+	 * The other documents opened in the editor
+	 */
+	OPEN_DOCUMENT(500),
+
+	/**
+	 * The projects to be rebuilt because a parent or an imported BOM has changed
+	 */
+	DEPENDENT(2_000),
+
+	/**
+	 * The projects of the workspace, not opened in the editor
+	 */
+	BACKGROUND(10_000);
+
+	private final long maximumDelay;
+
+	private BuildPriority(long maximumDelay) {
+		this.maximumDelay = maximumDelay;
+	}
+
+	/**
+	 * Returns the time (in milliseconds) a build of this class may be overtaken by
+	 * the builds of more urgent classes
+	 *
+	 * @return the maximum delay of the class
+	 */
+	public long getMaximumDelay() {
+		return maximumDelay;
+	}
+
+	/**
+	 * Returns the most urgent of this and the specified priority classes
+	 *
+	 * @param other A priority class, may be <code>null</code>
+	 * @return the most urgent priority class
+	 */
+	public BuildPriority mostUrgent(BuildPriority other) {
+		return other != null && other.compareTo(this) < 0 ? other : this;
+	}
+}
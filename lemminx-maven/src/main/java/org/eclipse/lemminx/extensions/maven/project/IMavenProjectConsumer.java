@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+/**
+ * A feature reading the Maven Projects, f.i. a language service participant,
+ * which declares the minimum tier of the projects it needs. The consumer is
+ * served as soon as a tier satisfying its needs is published, instead of
+ * waiting for the effective build.
+ *
+ * @see MavenProjectTier#satisfies(MavenProjectTier)
+ */
+public interface IMavenProjectConsumer {
+
+	/**
+	 * Returns the minimum tier of the Maven Projects required by the consumer
+	 *
+	 * @return the minimum required tier
+	 */
+	MavenProjectTier getMinimumProjectTier();
+}
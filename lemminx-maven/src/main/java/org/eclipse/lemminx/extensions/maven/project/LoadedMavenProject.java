@@ -10,6 +10,7 @@ package org.eclipse.lemminx.extensions.maven.project;
 
 import java.util.Collection;
 
+import org.apache.maven.model.Model;
 import org.apache.maven.model.building.ModelProblem;
 import org.apache.maven.project.DependencyResolutionResult;
 import org.apache.maven.project.MavenProject;
@@ -32,12 +33,56 @@ public class LoadedMavenProject {
 	private int lastCheckedVersion;
 	private final Collection<ModelProblem> problems;
 	private final DependencyResolutionResult dependencyResolutionResult;
+	private final MavenProjectTier tier;
+	private final boolean stale;
+	private long estimatedWeight = -1;
 
 	public LoadedMavenProject(MavenProject mavenProject, Collection<ModelProblem> problems,
 			DependencyResolutionResult dependencyResolutionResult) {
+		this(mavenProject, problems, dependencyResolutionResult, MavenProjectTier.EFFECTIVE);
+	}
+
+	public LoadedMavenProject(MavenProject mavenProject, Collection<ModelProblem> problems,
+			DependencyResolutionResult dependencyResolutionResult, MavenProjectTier tier) {
+		this(mavenProject, problems, dependencyResolutionResult, tier, false);
+	}
+
+	private LoadedMavenProject(MavenProject mavenProject, Collection<ModelProblem> problems,
+			DependencyResolutionResult dependencyResolutionResult, MavenProjectTier tier, boolean stale) {
 		this.mavenProject = mavenProject;
 		this.problems = problems;
 		this.dependencyResolutionResult = dependencyResolutionResult;
+		this.tier = tier;
+		this.stale = stale;
+	}
+
+	/**
+	 * Returns a copy of this loaded maven project marked as stale.
+	 * 
+	 * @return a stale copy of this loaded maven project
+	 */
+	LoadedMavenProject toStale() {
+		return stale ? this : new LoadedMavenProject(mavenProject, problems, dependencyResolutionResult, tier, true);
+	}
+
+	/**
+	 * Returns the tier of the loaded maven project: either the raw model read from
+	 * the pom.xml or the effective model built by the Maven Project Builder.
+	 * 
+	 * @return the tier of the loaded maven project.
+	 */
+	public MavenProjectTier getTier() {
+		return tier;
+	}
+
+	/**
+	 * Returns true if the loaded maven project was built from a former version of
+	 * the pom.xml while a build of the latest version is pending.
+	 * 
+	 * @return true if the loaded maven project is out of date and false otherwise.
+	 */
+	public boolean isStale() {
+		return stale;
 	}
 
 	/**
@@ -83,4 +128,46 @@ public class LoadedMavenProject {
 	public int getLastCheckedVersion() {
 		return lastCheckedVersion;
 	}
+
+	/**
+	 * Returns the estimated weight of the loaded maven project, that is a rough
+	 * estimation of the memory retained by the project: the number of model
+	 * entries (dependencies, managed dependencies, plugins, properties) of the
+	 * project and of its parents plus the number of resolved artifacts.
+	 * 
+	 * @return the estimated weight of the loaded maven project
+	 */
+	public long getEstimatedWeight() {
+		if (estimatedWeight < 0) {
+			long weight = 1 + (problems != null ? problems.size() : 0);
+			if (dependencyResolutionResult != null) {
+				weight += dependencyResolutionResult.getDependencies().size();
+			}
+			if (mavenProject != null) {
+				weight += mavenProject.getArtifacts().size();
+				for (MavenProject project = mavenProject; project != null; project = project.getParent()) {
+					weight += getModelWeight(project.getModel());
+				}
+			}
+			estimatedWeight = weight;
+		}
+		return estimatedWeight;
+	}
+
+	private static long getModelWeight(Model model) {
+		if (model == null) {
+			return 0;
+		}
+		long weight = 1 + model.getDependencies().size() + model.getProperties().size();
+		if (model.getDependencyManagement() != null) {
+			weight += model.getDependencyManagement().getDependencies().size();
+		}
+		if (model.getBuild() != null) {
+			weight += model.getBuild().getPlugins().size();
+			if (model.getBuild().getPluginManagement() != null) {
+				weight += model.getBuild().getPluginManagement().getPlugins().size();
+			}
+		}
+		return weight;
+	}
 }
@@ -9,6 +9,9 @@
 package org.eclipse.lemminx.extensions.maven.project;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -30,9 +33,23 @@ public class LoadedMavenProjectProvider {
 	private final String uri;
 	private final IXMLDocumentProvider documentProvider;
 	private final ProjectBuildManager buildManager;
+	private final Consumer<LoadedMavenProject> loadedListener;
+
+	private final long debounceDelay;
 
 	private int lastCheckedVersion;
-	private CompletableFuture<LoadedMavenProject> future;
+	// Written under the provider lock, read without it by the cache eviction
+	private volatile CompletableFuture<LoadedMavenProject> future;
+	// Completed with the RAW tier of the project being built by the future
+	private CompletableFuture<LoadedMavenProject> rawFuture;
+	// The scheduled (debounced) load and the build it started, if any
+	private CompletableFuture<Void> scheduledLoad;
+	private CompletableFuture<LoadedMavenProject> buildFuture;
+	private int loadCount;
+	private LoadedMavenProject lastLoadedProject;
+	// A stale project restored from the disk, provided until the project is built
+	private LoadedMavenProject restoredProject;
+	private boolean restoreAttempted;
 	
 	/**
 	 * Creates a LoadedMavenProjectProvider using provided URI String identifying the 
@@ -46,19 +63,44 @@ public class LoadedMavenProjectProvider {
 	 * @param buildManager A MavenProject builder
 	 */
 	public LoadedMavenProjectProvider(String uri, IXMLDocumentProvider documentProvider, ProjectBuildManager buildManager) {
+		this(uri, documentProvider, buildManager, null, 0);
+	}
+
+	/**
+	 * Creates a LoadedMavenProjectProvider notifying the specified listener each time 
+	 * a Maven Project build is completed.
+	 * 
+	 * @param uri A URI String identifying the document
+	 * @param documentProvider An IXMLDocumentProvider instance used to find the latest 
+	 * 		version of the document
+	 * @param buildManager A MavenProject builder
+	 * @param loadedListener A listener to be called with the built project when a Maven 
+	 * 		Project build is completed, may be <code>null</code>
+	 * @param debounceDelay A delay in milliseconds to wait for the document to stop changing 
+	 * 		before a new build is started
+	 */
+	LoadedMavenProjectProvider(String uri, IXMLDocumentProvider documentProvider, ProjectBuildManager buildManager,
+			Consumer<LoadedMavenProject> loadedListener, long debounceDelay) {
 		this.uri = uri;
 		this.documentProvider = documentProvider;
 		this.buildManager = buildManager;
+		this.loadedListener = loadedListener;
+		this.debounceDelay = debounceDelay;
 		this.lastCheckedVersion = -1;
 	}
 	
 	/**
 	 * Returns a `CompletableFuture<LoadedMavenProject>` for asynchronous access
 	 * to the Maven Project built from the latest version of the document.
+	 * <p>
+	 * When the document is changed while a build is pending, the pending build is 
+	 * replaced by the build of the latest document version (started after a debounce 
+	 * delay) and the same future is completed with its result.
+	 * </p>
 	 *  
 	 * @return CompletableFuture of LoadedMavenProject object 
 	 */
-	public CompletableFuture<LoadedMavenProject> getLoadedMavenProject() {
+	public synchronized CompletableFuture<LoadedMavenProject> getLoadedMavenProject() {
 		DOMDocument document = documentProvider.getDocument(uri);
 		// Check if future must be created
 		// 1. is the future exist?
@@ -73,18 +115,251 @@ public class LoadedMavenProjectProvider {
 		}
 		
 		if (shouldLoad) {
-			if (future != null) {
-				future.cancel(true);
-			}
 			if (document != null) {
 				lastCheckedVersion = document.getTextDocument().getVersion();
 			}
-			future = load(uri, document);
+			if (future == null || future.isDone()) {
+				future = new CompletableFuture<>();
+				rawFuture = new CompletableFuture<>();
+			}
+			// Debounce only the rebuilds caused by editing the document
+			boolean edited = document != null && lastLoadedProject != null;
+			scheduleLoad(document, edited ? debounceDelay : 0,
+					document == null ? BuildPriority.BACKGROUND
+							: edited || !isLoaded() ? BuildPriority.ACTIVE_EDITOR : BuildPriority.OPEN_DOCUMENT);
+		}
+		return future;
+	}
+
+	/**
+	 * Rebuilds the Maven Project from the latest version of the document in
+	 * background (with a dependent build priority, or an open document one if the 
+	 * document is opened), f.i. when a parent of the project has been changed. 
+	 * 
+	 * @return CompletableFuture of the rebuilt LoadedMavenProject object
+	 */
+	synchronized CompletableFuture<LoadedMavenProject> reload() {
+		DOMDocument document = documentProvider.getDocument(uri);
+		if (document != null) {
+			lastCheckedVersion = document.getTextDocument().getVersion();
+		}
+		if (future == null || future.isDone()) {
+			future = new CompletableFuture<>();
+			rawFuture = new CompletableFuture<>();
 		}
+		scheduleLoad(document, 0, document != null ? BuildPriority.OPEN_DOCUMENT : BuildPriority.DEPENDENT);
 		return future;
 	}
+
+	/**
+	 * Returns a `CompletableFuture<LoadedMavenProject>` for asynchronous access
+	 * to the Maven Project built from the latest version of the document, that is 
+	 * completed as soon as the specified tier of the project is available.
+	 * <p>
+	 * A RAW tier request is completed when the pom.xml is read, without waiting for 
+	 * the parents to be resolved, so it suits the features requiring only the GAV 
+	 * or the properties declared in the document. If the raw model cannot be read, 
+	 * the future is completed with the EFFECTIVE tier once it's built.
+	 * </p>
+	 * 
+	 * @param minimumTier The minimum required tier of the Maven Project
+	 * @return CompletableFuture of LoadedMavenProject object
+	 * @see LoadedMavenProject#getTier()
+	 */
+	public CompletableFuture<LoadedMavenProject> getLoadedMavenProject(MavenProjectTier minimumTier) {
+		CompletableFuture<LoadedMavenProject> effective = getLoadedMavenProject();
+		// The effective project, once built, also satisfies the raw tier requests
+		if (effective.isDone() || !MavenProjectTier.RAW.satisfies(minimumTier)) {
+			return effective;
+		}
+		synchronized (this) {
+			return effective == future && rawFuture != null ? rawFuture : effective;
+		}
+	}
+
+	/**
+	 * Returns the Maven Project built from the latest version of the document if
+	 * it's available, otherwise the last successfully built Maven Project marked
+	 * as stale (or <code>null</code> if the project was never built).
+	 * 
+	 * @return the up to date or a stale LoadedMavenProject, can be <code>null</code>
+	 */
+	public LoadedMavenProject getLastLoadedMavenProject() {
+		CompletableFuture<LoadedMavenProject> current = getLoadedMavenProject();
+		if (current.isDone() && !current.isCompletedExceptionally()) {
+			return current.getNow(null);
+		}
+		synchronized (this) {
+			return lastLoadedProject != null ? lastLoadedProject.toStale() : restoredProject;
+		}
+	}
+
+	/**
+	 * Returns the Maven Project built from the latest version of the document if
+	 * it's available, otherwise the last successfully built Maven Project marked
+	 * as stale. If the project was never built, the project restored by the 
+	 * specified restorer (once per provider) is returned.
+	 * 
+	 * @param restorer A function restoring a stale Maven Project from the disk
+	 * @return the up to date or a stale LoadedMavenProject, can be <code>null</code>
+	 */
+	LoadedMavenProject getLastLoadedMavenProject(Supplier<LoadedMavenProject> restorer) {
+		LoadedMavenProject loadedProject = getLastLoadedMavenProject();
+		if (loadedProject != null || restorer == null) {
+			return loadedProject;
+		}
+		synchronized (this) {
+			return lastLoadedProject != null ? lastLoadedProject.toStale() : getRestoredMavenProject(restorer);
+		}
+	}
+
+	/**
+	 * Returns the Maven Project restored by the specified restorer (once per
+	 * provider), as long as no build of the project has completed yet
+	 * 
+	 * @param restorer A function restoring a stale Maven Project from the disk
+	 * @return the restored stale LoadedMavenProject, can be <code>null</code>
+	 */
+	synchronized LoadedMavenProject getRestoredMavenProject(Supplier<LoadedMavenProject> restorer) {
+		if (lastLoadedProject != null) {
+			return null;
+		}
+		if (!restoreAttempted) {
+			restoreAttempted = true;
+			restoredProject = restorer.get();
+		}
+		return restoredProject;
+	}
+
+	private void scheduleLoad(DOMDocument document, long delay, BuildPriority priority) {
+		cancelPendingLoad();
+		loadCount++;
+		final int load = loadCount;
+		final CompletableFuture<LoadedMavenProject> result = future;
+		final CompletableFuture<LoadedMavenProject> rawResult = rawFuture;
+		Runnable startBuild = () -> {
+			CompletableFuture<LoadedMavenProject> build;
+			synchronized (this) {
+				if (load != loadCount) {
+					return; // Replaced by a newer load
+				}
+				build = load(uri, document, rawResult, priority);
+				buildFuture = build;
+			}
+			result.whenComplete((project, error) -> {
+				if (result.isCancelled()) {
+					build.cancel(true);
+				}
+			});
+			build.whenComplete((project, error) -> {
+				synchronized (this) {
+					if (load != loadCount) {
+						return; // The result is to be provided by a newer build
+					}
+					buildFuture = null;
+					scheduledLoad = null;
+					if (error == null && project != null) {
+						lastLoadedProject = project;
+						restoredProject = null;
+					}
+				}
+				if (error != null) {
+					rawResult.completeExceptionally(error);
+					result.completeExceptionally(error);
+				} else {
+					rawResult.complete(project);
+					result.complete(project);
+					if (loadedListener != null && project != null) {
+						loadedListener.accept(project);
+					}
+				}
+			});
+		};
+		if (delay > 0) {
+			scheduledLoad = CompletableFuture.runAsync(startBuild,
+					CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+		} else {
+			startBuild.run();
+		}
+	}
+
+	private void cancelPendingLoad() {
+		if (scheduledLoad != null) {
+			scheduledLoad.cancel(false);
+			scheduledLoad = null;
+		}
+		if (buildFuture != null) {
+			buildFuture.cancel(true);
+			buildFuture = null;
+		}
+	}
+	
+	/**
+	 * Returns the number of the Maven Project loads scheduled by this provider
+	 * 
+	 * @return the number of scheduled loads
+	 */
+	synchronized int getLoadCount() {
+		return loadCount;
+	}
+
+	/**
+	 * Returns the Maven Project built by the current build if it's successfully
+	 * completed, otherwise the last successfully built one. Never starts a build.
+	 * 
+	 * @return the built LoadedMavenProject or <code>null</code> if the project is
+	 * 		not built yet
+	 */
+	LoadedMavenProject getBuiltMavenProject() {
+		CompletableFuture<LoadedMavenProject> current = future;
+		if (isLoaded(current)) {
+			return current.getNow(null);
+		}
+		synchronized (this) {
+			return lastLoadedProject;
+		}
+	}
+
+	/**
+	 * Checks if the Maven Project is successfully built
+	 * 
+	 * @return true if the Maven Project build is successfully completed
+	 */
+	boolean isLoaded() {
+		return isLoaded(future);
+	}
+
+	private static boolean isLoaded(CompletableFuture<LoadedMavenProject> current) {
+		return current != null && current.isDone() && !current.isCompletedExceptionally();
+	}
+
+	/**
+	 * Checks if the document is currently opened in the editor
+	 * 
+	 * @return true if the document is opened
+	 */
+	boolean isOpened() {
+		return documentProvider.getDocument(uri) != null;
+	}
+
+	/**
+	 * Returns the estimated weight of the built Maven Project
+	 * 
+	 * @return the estimated weight of the built Maven Project, or 0 if the project 
+	 * 		is not built yet
+	 * @see LoadedMavenProject#getEstimatedWeight()
+	 */
+	long getEstimatedWeight() {
+		CompletableFuture<LoadedMavenProject> current = future;
+		if (!isLoaded(current)) {
+			return 0;
+		}
+		LoadedMavenProject loadedProject = current.getNow(null);
+		return loadedProject != null ? loadedProject.getEstimatedWeight() : 0;
+	}
 	
-	private CompletableFuture<LoadedMavenProject> load(String uri, DOMDocument document) {
+	private CompletableFuture<LoadedMavenProject> load(String uri, DOMDocument document,
+			CompletableFuture<LoadedMavenProject> rawProject, BuildPriority priority) {
 		try {
 			FileModelSource source = null;			
 			if (document != null) {
@@ -92,7 +367,7 @@ public class LoadedMavenProjectProvider {
 			} else {
 				source = new FileModelSource(FilesUtils.toFile(uri));
 			}
-			return buildManager.build(uri, source);
+			return buildManager.build(uri, source, rawProject, priority);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, e.getMessage() + ": " + uri, e);
 			throw e;
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.ParseException;
+import org.apache.maven.cli.CLIManager;
+import org.apache.maven.project.ProjectBuildingRequest;
+
+/**
+ * Caches the multi-module project directories (the nearest parent directories
+ * containing a <code>.mvn</code> folder) of the project directories and the
+ * user properties and profiles parsed from their <code>.mvn/maven.config</code>
+ * files.
+ * <p>
+ * A multi-module project directory is kept for a short time only, as a
+ * <code>.mvn</code> folder may be created or removed at any time. A parsed
+ * <code>maven.config</code> is kept as long as the modification time and the
+ * length of the file are unchanged.
+ * </p>
+ */
+public class MavenConfigCache {
+
+	static final String MVN_FOLDER = ".mvn";
+	static final String MAVEN_CONFIG = "maven.config";
+
+	// A found root is still checked for its .mvn folder on each access
+	private static final long ROOT_EXPIRY_MILLIS = 60_000;
+	private static final long NO_ROOT_EXPIRY_MILLIS = 5_000;
+
+	private static final class CachedRoot {
+		final File root;
+		final long expires;
+
+		CachedRoot(File root, long expires) {
+			this.root = root;
+			this.expires = expires;
+		}
+	}
+
+	/**
+	 * The user properties and profiles of a <code>.mvn/maven.config</code> file
+	 */
+	public static final class MavenConfig {
+		private static final MavenConfig EMPTY = new MavenConfig(null, 0, -1, new Properties(),
+				Collections.emptyList(), Collections.emptyList(), null);
+
+		private final File file;
+		private final long lastModified;
+		private final long length;
+		private final Properties userProperties;
+		private final List<String> activeProfileIds;
+		private final List<String> inactiveProfileIds;
+		private final Exception problem;
+
+		private MavenConfig(File file, long lastModified, long length, Properties userProperties,
+				List<String> activeProfileIds, List<String> inactiveProfileIds, Exception problem) {
+			this.file = file;
+			this.lastModified = lastModified;
+			this.length = length;
+			this.userProperties = userProperties;
+			this.activeProfileIds = activeProfileIds;
+			this.inactiveProfileIds = inactiveProfileIds;
+			this.problem = problem;
+		}
+
+		private boolean isUpToDate(File mavenConfig) {
+			return lastModified == mavenConfig.lastModified() && length == mavenConfig.length();
+		}
+
+		/**
+		 * Adds the user properties and the (de)activated profiles to a project
+		 * building request
+		 *
+		 * @param request A project building request
+		 */
+		public void applyTo(ProjectBuildingRequest request) {
+			request.getUserProperties().putAll(userProperties);
+			request.getActiveProfileIds().addAll(activeProfileIds);
+			request.getInactiveProfileIds().addAll(inactiveProfileIds);
+		}
+
+		/**
+		 * Returns the parsed file
+		 *
+		 * @return the maven.config file, or <code>null</code> if there is no such
+		 *         file
+		 */
+		public File getFile() {
+			return file;
+		}
+
+		/**
+		 * Returns the exception thrown while reading or parsing the file, if any
+		 *
+		 * @return an exception or <code>null</code>
+		 */
+		public Exception getProblem() {
+			return problem;
+		}
+
+		private static MavenConfig parse(File mavenConfig) {
+			long lastModified = mavenConfig.lastModified();
+			long length = mavenConfig.length();
+			Properties userProperties = new Properties();
+			List<String> activeProfileIds = new ArrayList<>();
+			List<String> inactiveProfileIds = new ArrayList<>();
+			try {
+				CLIManager manager = new CLIManager();
+				String[] args;
+				try (Stream<String> lines = Files.lines(mavenConfig.toPath(), Charset.defaultCharset())) {
+					args = lines.filter(arg -> !arg.isEmpty()).toArray(String[]::new);
+				}
+				CommandLine commandline = manager.parse(args);
+				if (commandline.hasOption(CLIManager.SET_USER_PROPERTY)) {
+					String[] configUserProperties = commandline.getOptionValues(CLIManager.SET_USER_PROPERTY);
+					if (configUserProperties != null) {
+						for (String property : configUserProperties) {
+							int index = property.indexOf('=');
+							if (index <= 0) {
+								userProperties.setProperty(property.trim(), "true");
+							} else {
+								userProperties.setProperty(property.substring(0, index).trim(),
+										property.substring(index + 1).trim());
+							}
+						}
+					}
+				}
+				if (commandline.hasOption(CLIManager.ACTIVATE_PROFILES)) {
+					String[] profileOptionValues = commandline.getOptionValues(CLIManager.ACTIVATE_PROFILES);
+					if (profileOptionValues != null) {
+						for (String profileOptionValue : profileOptionValues) {
+							StringTokenizer tokenizer = new StringTokenizer(profileOptionValue, ",");
+							while (tokenizer.hasMoreTokens()) {
+								String profileToken = tokenizer.nextToken().trim();
+								if (profileToken.startsWith("-") || profileToken.startsWith("!")) {
+									inactiveProfileIds.add(profileToken.substring(1));
+								} else if (profileToken.startsWith("+")) {
+									activeProfileIds.add(profileToken.substring(1));
+								} else {
+									activeProfileIds.add(profileToken);
+								}
+							}
+						}
+					}
+				}
+			} catch (IOException | ParseException e) {
+				return new MavenConfig(mavenConfig, lastModified, length, new Properties(), Collections.emptyList(),
+						Collections.emptyList(), e);
+			}
+			return new MavenConfig(mavenConfig, lastModified, length, userProperties,
+					Collections.unmodifiableList(activeProfileIds), Collections.unmodifiableList(inactiveProfileIds),
+					null);
+		}
+	}
+
+	private final Map<File, CachedRoot> roots = new ConcurrentHashMap<>();
+	private final Map<File, MavenConfig> configs = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the multi-module project directory of a project
+	 *
+	 * @param file a project file or base directory, may be <code>null</code>
+	 * @return the value for `maven.multiModuleProjectDirectory` as defined in Maven
+	 *         launcher, or <code>null</code>
+	 * @see MavenProjectCache#computeMultiModuleProjectDirectory(File)
+	 */
+	public File getMultiModuleProjectDirectory(File file) {
+		if (file == null) {
+			return null;
+		}
+		final File basedir = file.isDirectory() ? file : file.getParentFile();
+		if (basedir == null) {
+			return null;
+		}
+		long now = System.currentTimeMillis();
+		CachedRoot cached = roots.get(basedir);
+		if (cached != null && now < cached.expires
+				&& (cached.root == null || new File(cached.root, MVN_FOLDER).isDirectory())) {
+			return cached.root;
+		}
+		File root = MavenProjectCache.computeMultiModuleProjectDirectory(basedir);
+		roots.put(basedir, new CachedRoot(root, now + (root != null ? ROOT_EXPIRY_MILLIS : NO_ROOT_EXPIRY_MILLIS)));
+		return root;
+	}
+
+	/**
+	 * Returns the parsed <code>.mvn/maven.config</code> file of a multi-module
+	 * project directory
+	 *
+	 * @param multiModuleProjectDirectory a multi-module project directory
+	 * @return the parsed maven.config, empty if there is no such file
+	 */
+	public MavenConfig getMavenConfig(File multiModuleProjectDirectory) {
+		File mavenConfig = new File(multiModuleProjectDirectory, MVN_FOLDER + "/" + MAVEN_CONFIG);
+		if (!mavenConfig.isFile()) {
+			configs.remove(multiModuleProjectDirectory);
+			return MavenConfig.EMPTY;
+		}
+		MavenConfig cached = configs.get(multiModuleProjectDirectory);
+		if (cached != null && cached.isUpToDate(mavenConfig)) {
+			return cached;
+		}
+		MavenConfig parsed = MavenConfig.parse(mavenConfig);
+		configs.put(multiModuleProjectDirectory, parsed);
+		return parsed;
+	}
+
+	/**
+	 * Forgets all the cached directories and configurations
+	 */
+	public void clear() {
+		roots.clear();
+		configs.clear();
+	}
+}
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.eclipse.lemminx.extensions.maven.utils.URIUtils.toURIString;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.maven.model.building.ModelCache;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.services.IXMLDocumentProvider;
+
+/**
+ * A Model Cache shared by all the Maven Project builds, replacing the global
+ * model cache of Maven which cannot be used in the editor as it never notices
+ * the changes of the cached parent POMs and imported BOMs.
+ * <p>
+ * Each cached model is stamped with the modification time and the length of its
+ * pom.xml file as well as with the version of the document if the file is opened
+ * in the editor. A model is evicted as soon as its stamp changes. The stamps are
+ * checked once per build request: a model when it's first looked up by the
+ * build, and all the models when the build first looks up an imported BOM (the
+ * dependency management built from the BOM and its parents), as a BOM is evicted
+ * as well when any cached model changes. The models that cannot be located in
+ * the workspace or in the local repository are never cached.
+ * </p>
+ * <p>
+ * The number of cached models is bounded, the least recently used models are
+ * evicted first.
+ * </p>
+ */
+public class MavenModelCache {
+	private static final Logger LOGGER = Logger.getLogger(MavenModelCache.class.getName());
+
+	// See: org.apache.maven.model.building.ModelCacheTag
+	private static final String IMPORT_TAG = "import";
+
+	private static final class CachedModel {
+		final Object data;
+		final File file;
+		final String stamp;
+		final long generation;
+
+		CachedModel(Object data, File file, String stamp, long generation) {
+			this.data = data;
+			this.file = file;
+			this.stamp = stamp;
+			this.generation = generation;
+		}
+	}
+
+	/**
+	 * The view of the cached models used by a single build request, which
+	 * remembers the models already checked for changes by the build
+	 */
+	private final class RequestModelCache implements ModelCache {
+		private final RepositorySystemSession session;
+		private final Set<String> checkedKeys = ConcurrentHashMap.newKeySet();
+		private final AtomicBoolean allChecked = new AtomicBoolean();
+
+		RequestModelCache(RepositorySystemSession session) {
+			this.session = session;
+		}
+
+		@Override
+		public void put(String groupId, String artifactId, String version, String tag, Object data) {
+			if (MavenModelCache.this.put(session, groupId, artifactId, version, tag, data)) {
+				checkedKeys.add(key(groupId, artifactId, version, tag));
+			}
+		}
+
+		@Override
+		public Object get(String groupId, String artifactId, String version, String tag) {
+			return MavenModelCache.this.get(this, groupId, artifactId, version, tag);
+		}
+
+		/**
+		 * Returns true if the model is to be checked for changes, that is the
+		 * first time it's looked up by the build
+		 */
+		boolean check(String key) {
+			return !allChecked.get() && checkedKeys.add(key);
+		}
+
+		/**
+		 * Returns true if all the models are to be checked for changes, that is
+		 * the first time an imported BOM is looked up by the build
+		 */
+		boolean checkAll() {
+			return allChecked.compareAndSet(false, true);
+		}
+	}
+
+	private final IXMLDocumentProvider documentProvider;
+	private final Function<Artifact, File> workspaceArtifactLocator;
+	private final int maximumSize;
+
+	// Access ordered, so the least recently used models are evicted first
+	private final Map<String, CachedModel> models = new LinkedHashMap<>(16, 0.75f, true);
+	// Incremented each time a cached model is changed, invalidates the imported BOMs
+	private long generation;
+	private long hitCount;
+
+	/**
+	 * Creates a Model Cache
+	 *
+	 * @param documentProvider An IXMLDocumentProvider instance used to find the
+	 * 		documents opened in the editor
+	 * @param workspaceArtifactLocator A function returning the pom.xml file of a
+	 * 		workspace artifact (without waiting for the workspace to be processed),
+	 * 		or <code>null</code> if the artifact is not in the workspace
+	 * @param maximumSize The maximum number of cached models
+	 */
+	public MavenModelCache(IXMLDocumentProvider documentProvider, Function<Artifact, File> workspaceArtifactLocator,
+			int maximumSize) {
+		this.documentProvider = documentProvider;
+		this.workspaceArtifactLocator = workspaceArtifactLocator;
+		this.maximumSize = Math.max(1, maximumSize);
+	}
+
+	/**
+	 * Returns a ModelCache to be used by the Model Builder in a given session.
+	 * All the returned instances share the same cached models. The Project
+	 * Builder creates an instance per build request, the cached models are
+	 * checked for changes once per instance.
+	 *
+	 * @param session A repository session used to locate the models in the local
+	 * 		repository
+	 * @return A ModelCache instance
+	 */
+	public ModelCache createCache(RepositorySystemSession session) {
+		return new RequestModelCache(session);
+	}
+
+	private boolean put(RepositorySystemSession session, String groupId, String artifactId, String version,
+			String tag, Object data) {
+		File file = locate(session, groupId, artifactId, version);
+		String stamp = stamp(file);
+		if (stamp == null) {
+			// Cannot be checked for changes
+			return false;
+		}
+		synchronized (models) {
+			models.put(key(groupId, artifactId, version, tag), new CachedModel(data, file, stamp, generation));
+			Iterator<CachedModel> eldest = models.values().iterator();
+			while (models.size() > maximumSize && eldest.hasNext()) {
+				eldest.next();
+				eldest.remove();
+			}
+		}
+		return true;
+	}
+
+	private Object get(RequestModelCache request, String groupId, String artifactId, String version, String tag) {
+		String key = key(groupId, artifactId, version, tag);
+		CachedModel cachedModel;
+		synchronized (models) {
+			cachedModel = models.get(key);
+		}
+		if (cachedModel == null) {
+			return null;
+		}
+		boolean imported = IMPORT_TAG.equals(tag);
+		if (imported) {
+			// An imported BOM depends on its parents which may not be located by GAV
+			if (request.checkAll()) {
+				evictChangedModels();
+			}
+		} else if (request.check(key) && !Objects.equals(cachedModel.stamp, stamp(cachedModel.file))) {
+			evict(key, cachedModel);
+			return null;
+		}
+		synchronized (models) {
+			if (models.get(key) != cachedModel || (imported && cachedModel.generation != generation)) {
+				return null;
+			}
+			hitCount++;
+			return cachedModel.data;
+		}
+	}
+
+	/**
+	 * Evicts all the cached models changed since they were cached
+	 */
+	public void evictChangedModels() {
+		List<Entry<String, CachedModel>> entries;
+		synchronized (models) {
+			entries = new ArrayList<>(models.entrySet());
+		}
+		entries.stream().filter(entry -> !Objects.equals(entry.getValue().stamp, stamp(entry.getValue().file)))
+				.forEach(entry -> evict(entry.getKey(), entry.getValue()));
+	}
+
+	private void evict(String key, CachedModel cachedModel) {
+		synchronized (models) {
+			if (models.remove(key, cachedModel)) {
+				generation++;
+				LOGGER.log(Level.FINE, "Evicted changed model from cache: " + key);
+			}
+		}
+	}
+
+	/**
+	 * Evicts all the cached models
+	 */
+	public void clear() {
+		synchronized (models) {
+			models.clear();
+			generation++;
+		}
+	}
+
+	/**
+	 * Returns the number of the model lookups served by a cached model
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		synchronized (models) {
+			return hitCount;
+		}
+	}
+
+	/**
+	 * Returns the number of currently cached models
+	 *
+	 * @return the number of cached models
+	 */
+	public int size() {
+		synchronized (models) {
+			return models.size();
+		}
+	}
+
+	private File locate(RepositorySystemSession session, String groupId, String artifactId, String version) {
+		if (groupId == null || artifactId == null || version == null) {
+			return null;
+		}
+		Artifact artifact = new DefaultArtifact(groupId, artifactId, "pom", version);
+		File file = workspaceArtifactLocator != null ? workspaceArtifactLocator.apply(artifact) : null;
+		if (file == null && session != null) {
+			LocalRepositoryManager localRepositoryManager = session.getLocalRepositoryManager();
+			if (localRepositoryManager != null) {
+				file = new File(localRepositoryManager.getRepository().getBasedir(),
+						localRepositoryManager.getPathForLocalArtifact(artifact));
+			}
+		}
+		return file;
+	}
+
+	private String stamp(File file) {
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		StringBuilder stamp = new StringBuilder().append(file.lastModified()).append(':').append(file.length());
+		DOMDocument document = documentProvider != null ? documentProvider.getDocument(toURIString(file)) : null;
+		if (document != null) {
+			stamp.append(":v").append(document.getTextDocument().getVersion());
+		}
+		return stamp.toString();
+	}
+
+	private static String key(String groupId, String artifactId, String version, String tag) {
+		return groupId + ':' + artifactId + ':' + version + ':' + tag;
+	}
+}
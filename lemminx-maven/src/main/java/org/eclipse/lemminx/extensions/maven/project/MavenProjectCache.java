@@ -17,48 +17,61 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Properties;
-import java.util.StringTokenizer;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import org.apache.commons.cli.CommandLine;
-import org.apache.commons.cli.ParseException;
+import org.apache.maven.Maven;
 import org.apache.maven.artifact.repository.ArtifactRepositoryPolicy;
 import org.apache.maven.artifact.repository.MavenArtifactRepository;
 import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
-import org.apache.maven.cli.CLIManager;
 import org.apache.maven.execution.MavenExecutionRequest;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
 import org.apache.maven.model.building.DefaultModelProblem;
 import org.apache.maven.model.building.FileModelSource;
+import org.apache.maven.model.building.ModelCache;
 import org.apache.maven.model.building.ModelBuildingException;
 import org.apache.maven.model.building.ModelProblem;
 import org.apache.maven.model.building.ModelProblem.Severity;
 import org.apache.maven.model.building.ModelProblem.Version;
 import org.apache.maven.model.io.ModelParseException;
 import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
-import org.apache.maven.project.DefaultProjectBuilder;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.DependencyResolutionResult;
 import org.apache.maven.project.MavenProject;
@@ -69,31 +82,89 @@ import org.apache.maven.project.ProjectBuildingResult;
 import org.codehaus.plexus.PlexusContainer;
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxWorkspaceReader;
+import org.eclipse.lemminx.extensions.maven.project.MavenConfigCache.MavenConfig;
+import org.eclipse.lemminx.extensions.maven.settings.XMLMavenBuildSettings;
 import org.eclipse.lemminx.extensions.maven.utils.DOMModelSource;
 import org.eclipse.lemminx.services.IXMLDocumentProvider;
+import org.eclipse.lemminx.services.IXMLValidationService;
+import org.eclipse.lemminx.utils.FilesUtils;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
 
 public class MavenProjectCache {
 
-	private static final String MVN_FOLDER = ".mvn";
-	private static final String MAVEN_CONFIG = "maven.config";
-
 	private static final Logger LOGGER = Logger.getLogger(MavenProjectCache.class.getName());
+	private static final String PROJECT_STORE_PATH = "maven/projects";
+	private static final Pattern PROPERTY_REFERENCE = Pattern.compile("\\$\\{([^}]+)\\}");
 	private MavenLemminxExtension plugin;
-	private final Map<String, LoadedMavenProjectProvider> projectCache;
+	// Access ordered, so the least recently used projects are evicted first
+	private final LinkedHashMap<String, LoadedMavenProjectProvider> projectCache;
+	// Profile specific and non-resolving snapshot projects, guarded by the projectCache lock
+	private final LinkedHashMap<String, SnapshotProject> snapshotCache = new LinkedHashMap<>(16, 0.75f, true);
+	private final long maximumWeight;
+	private final long debounceDelay;
+	private final int modelCacheMaxSize;
+	private MavenModelCache modelCache;
+	private final MavenProjectDependencyGraph dependencyGraph = new MavenProjectDependencyGraph();
+	private final MavenProjectStore projectStore;
+	// The stamps of the last handled changes of the pom.xml files on disk
+	private final Map<String, String> handledChanges = new ConcurrentHashMap<>();
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong snapshotHitCount = new AtomicLong();
+	private final AtomicLong snapshotMissCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
 	private final MavenSession mavenSession;
 	private final IXMLDocumentProvider documentProvider;
 	private ProjectBuildManager projectBuildManager;
 
-	public MavenProjectCache(MavenLemminxExtension plugin, MavenSession mavenSession, IXMLDocumentProvider documentProvider) {
+	private static final class SnapshotProject {
+		final String uriString;
+		final String stamp;
+		final MavenProject project;
+		final long weight;
+
+		SnapshotProject(String uriString, String stamp, MavenProject project) {
+			this.uriString = uriString;
+			this.stamp = stamp;
+			this.project = project;
+			this.weight = new LoadedMavenProject(project, Collections.emptyList(), null).getEstimatedWeight();
+		}
+	}
+
+	public MavenProjectCache(MavenLemminxExtension plugin, MavenSession mavenSession, IXMLDocumentProvider documentProvider,
+			XMLMavenBuildSettings buildSettings) {
 		this.plugin = plugin;
 		this.mavenSession = mavenSession;
-		this.projectCache = new HashMap<>();
+		this.projectCache = new LinkedHashMap<>(16, 0.75f, true);
 		this.documentProvider = documentProvider;
-		this.projectBuildManager = new ProjectBuildManager();
+		this.maximumWeight = buildSettings != null ? buildSettings.getProjectCacheMaxWeight()
+				: XMLMavenBuildSettings.DEFAULT_PROJECT_CACHE_MAX_WEIGHT;
+		// Rebuild the projects immediately in tests to keep the results predictable
+		this.debounceDelay = MavenLemminxExtension.isUnitTestMode() ? 0
+				: buildSettings != null ? buildSettings.getDebounceDelay() : XMLMavenBuildSettings.DEFAULT_DEBOUNCE_DELAY;
+		this.modelCacheMaxSize = buildSettings != null ? buildSettings.getModelCacheMaxSize()
+				: XMLMavenBuildSettings.DEFAULT_MODEL_CACHE_MAX_SIZE;
+		this.projectBuildManager = new ProjectBuildManager(buildSettings != null ? buildSettings.getWorkers()
+				: XMLMavenBuildSettings.DEFAULT_WORKERS);
+		// Tests always start from scratch
+		this.projectStore = !MavenLemminxExtension.isUnitTestMode()
+				&& (buildSettings == null || buildSettings.isPersistentCache()) ? createProjectStore() : null;
+	}
+
+	private static MavenProjectStore createProjectStore() {
+		try {
+			return new MavenProjectStore(FilesUtils.getDeployedPath(Paths.get(PROJECT_STORE_PATH)));
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Cannot create Maven Project store: " + e.getMessage(), e);
+			return null;
+		}
 	}
 
 	/**
@@ -109,46 +180,167 @@ public class MavenProjectCache {
 	 */
 	public void stop() {
 		projectBuildManager.stop();
+		if (projectStore != null) {
+			projectStore.stop();
+		}
 	}
 	
 	class ProjectBuildManager {
-		private static final int CORE_POOL_SIZE = 10;
+		private static final long PARENT_BUILD_TIMEOUT_SECONDS = 60;
+
+		// URI keys of the projects being built by the current thread, used to break
+		// the parent-first build chain on cyclic parent declarations
+		private static final ThreadLocal<Set<String>> buildChain = ThreadLocal.withInitial(HashSet::new);
 
+		private final int workers;
 		private Map<Object, BuildProjectRunnable> toProcess = new HashMap<>();
-		private final PriorityBlockingQueue</*Runnable*/Runnable> runnables = new PriorityBlockingQueue<>(1, PRIORITIZED_DEEPEST_FIRST);
-		private final ThreadPoolExecutor executor = new ThreadPoolExecutor(0, 1, 0, TimeUnit.MILLISECONDS, runnables);
+		private final PriorityBlockingQueue</*Runnable*/Runnable> runnables = new PriorityBlockingQueue<>(1, EARLIEST_DEADLINE_FIRST);
+		private final AtomicLong submissions = new AtomicLong();
+		private final ThreadPoolExecutor executor;
+		// Reads the raw models without waiting for the queued builds
+		private final ExecutorService rawModelReader = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Maven Project raw model reader");
+			thread.setDaemon(true);
+			return thread;
+		});
 		private final MavenXpp3Reader mavenReader = new MavenXpp3Reader();
 		private ProjectBuilder projectBuilder;
+		private ProjectBuildingRequest requestTemplate;
+		private final MavenConfigCache mavenConfigCache = new MavenConfigCache();
 
 		private final class BuildProjectRunnable implements Runnable {
 			final String uri;
 			final FileModelSource source;
 			final CompletableFuture<LoadedMavenProject> future;
-			private int priority;
+			// Completed with the raw model as soon as it's read, or with the build result
+			final CompletableFuture<LoadedMavenProject> rawFuture;
+			private final AtomicBoolean started = new AtomicBoolean();
+			private volatile Model rawModel;
+			// The priority and the deadline are only changed while the runnable is
+			// out of the queue, so the queue order is kept consistent
+			private volatile BuildPriority priority;
+			private volatile long deadline;
+			// Breaks the deadline ties in submission order
+			private final long sequence;
 			private File localTempRepository = null;
 
-			private BuildProjectRunnable(String uri, FileModelSource source) {
+			private BuildProjectRunnable(String uri, FileModelSource source, BuildPriority priority) {
 				this.uri = uri;
 				this.source = source;
 				this.future = new CompletableFuture<>();
-				this.priority = 0;
+				this.rawFuture = new CompletableFuture<>();
+				this.priority = priority;
+				this.deadline = System.currentTimeMillis() + priority.getMaximumDelay();
+				this.sequence = submissions.incrementAndGet();
+				future.whenComplete((project, error) -> {
+					if (error == null) {
+						rawFuture.complete(project);
+					} else {
+						rawFuture.completeExceptionally(error);
+					}
+				});
+			}
+
+			/**
+			 * Reads the raw model of the project and publishes it as a RAW tier loaded 
+			 * project, unless the effective project is already built 
+			 */
+			void publishRawModel() {
+				Model model = readRawModel(source);
+				rawModel = model;
+				if (model != null && !rawFuture.isDone()) {
+					MavenProject project = new MavenProject(model);
+					project.setFile(source.getFile());
+					rawFuture.complete(new LoadedMavenProject(project, List.of(), null, MavenProjectTier.RAW));
+				}
 			}
 			
-			int getPriority() {
+			BuildPriority getPriority() {
 				return this.priority;
 			}
-			
-			void bumpPriority() {
-				this.priority++;
+
+			/**
+			 * Makes the build at least as urgent as the specified priority class,
+			 * the deadline is never postponed
+			 * 
+			 * @param newPriority A priority class
+			 */
+			void promote(BuildPriority newPriority) {
+				this.priority = priority.mostUrgent(newPriority);
+				this.deadline = Math.min(deadline, System.currentTimeMillis() + newPriority.getMaximumDelay());
 			}
 
 			@Override
 			public void run() {
+				// The runnable may have been already executed by a worker building a child project
+				if (!started.compareAndSet(false, true)) {
+					return;
+				}
+				String uriKey = toURIKey(uri);
+				Set<String> chain = buildChain.get();
+				chain.add(uriKey);
 				try {
+					awaitParentBuild(chain);
 					future.complete(build(source, new FutureCancelChecker(future)));
 					
 				} catch (Exception e) { // This should include CancellationException
 					future.completeExceptionally(e);
+				} finally {
+					chain.remove(uriKey);
+				}
+			}
+
+			/**
+			 * Makes sure that a parent project queued to be built is built before this
+			 * project, so the child build can reuse the parent build results. If no
+			 * worker has started building the parent yet, it is built by the current
+			 * thread, otherwise the current thread waits for the parent build to finish.
+			 * 
+			 * @param chain URI keys of the projects being built by the current thread
+			 */
+			private void awaitParentBuild(Set<String> chain) {
+				BuildProjectRunnable parent = findQueuedParent();
+				if (parent == null || chain.contains(toURIKey(parent.uri))) {
+					return;
+				}
+				runnables.remove(parent);
+				parent.run();
+				try {
+					parent.future.get(PARENT_BUILD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (CancellationException | ExecutionException | TimeoutException e) {
+					// The child project is to be built anyway
+					LOGGER.log(Level.FINER, "Parent project build is not available for: " + uri, e);
+				}
+			}
+
+			/**
+			 * Finds the queued build of the parent, either at the relative path of the
+			 * parent or by the parent coordinates, as the parent may be located
+			 * elsewhere in the workspace (f.i. in a sibling folder)
+			 */
+			private BuildProjectRunnable findQueuedParent() {
+				Model model = rawModel != null ? rawModel : readRawModel(source);
+				Parent parent = model != null ? model.getParent() : null;
+				if (parent == null) {
+					return null;
+				}
+				Set<String> parentKeys = new HashSet<>();
+				File parentFile = getParentPomFile(source.getFile(), model);
+				if (parentFile != null) {
+					parentKeys.add(toURIKey(toURIString(parentFile)));
+				}
+				File workspaceParentFile = findWorkspaceArtifact(new DefaultArtifact(parent.getGroupId(),
+						parent.getArtifactId(), "pom", parent.getVersion()));
+				if (workspaceParentFile != null) {
+					parentKeys.add(toURIKey(toURIString(workspaceParentFile)));
+				}
+				synchronized (toProcess) {
+					return toProcess.values().stream()
+							.filter(runnable -> runnable != this && (parentKeys.contains(toURIKey(runnable.uri))
+									|| isParentModel(runnable.rawModel, parent)))
+							.findFirst().orElse(null);
 				}
 			}
 
@@ -258,7 +450,10 @@ public class MavenProjectCache {
 			}
 		}
 
-		private ProjectBuildManager() {
+		private ProjectBuildManager(int workers) {
+			this.workers = Math.max(1, workers);
+			// Until the manager is started a single thread is used to build projects
+			this.executor = new ThreadPoolExecutor(0, this.workers, 60, TimeUnit.SECONDS, runnables);
 			initializeMavenBuildState();
 		}
 
@@ -271,9 +466,10 @@ public class MavenProjectCache {
 				return;
 			}
 			try {
+				// Served to the Maven components by the model cache factory of the extension
+				modelCache = new MavenModelCache(documentProvider, MavenProjectCache.this::findWorkspaceArtifact,
+						modelCacheMaxSize);
 				projectBuilder = getPlexusContainer().lookup(ProjectBuilder.class);
-				System.setProperty(DefaultProjectBuilder.DISABLE_GLOBAL_MODEL_CACHE_SYSTEM_PROPERTY,
-						Boolean.toString(true));
 			} catch (ComponentLookupException e) {
 				LOGGER.log(Level.SEVERE, e.getMessage(), e);
 			}
@@ -281,28 +477,107 @@ public class MavenProjectCache {
 		
 		private void start() {
 			if (executor.getCorePoolSize() == 0) {
-				executor.setCorePoolSize(CORE_POOL_SIZE);
+				executor.setCorePoolSize(workers);
 			}
 		}
 
+		/**
+		 * Reads the raw model of a project source, without any inheritance, 
+		 * interpolation or dependency resolution
+		 * 
+		 * @param source A FileModelSource of a project
+		 * @return The raw model or <code>null</code> if the source cannot be parsed
+		 */
+		private Model readRawModel(FileModelSource source) {
+			try (InputStream documentStream = source.getInputStream()) {
+				return mavenReader.read(documentStream, false);
+			} catch (XmlPullParserException | IOException e) {
+				// XML document is invalid for parsing (eg user is typing), it's a valid state
+				// that shouldn't log exceptions
+			}
+			return null;
+		}
+
+		/**
+		 * Checks if a raw model, if already read, has the coordinates of a parent
+		 * declaration, the groupId and the version being possibly inherited
+		 */
+		private static boolean isParentModel(Model model, Parent parent) {
+			if (model == null) {
+				return false;
+			}
+			Parent grandParent = model.getParent();
+			String groupId = model.getGroupId() != null ? model.getGroupId()
+					: grandParent != null ? grandParent.getGroupId() : null;
+			String version = model.getVersion() != null ? model.getVersion()
+					: grandParent != null ? grandParent.getVersion() : null;
+			return Objects.equals(parent.getArtifactId(), model.getArtifactId())
+					&& Objects.equals(parent.getGroupId(), groupId) && Objects.equals(parent.getVersion(), version);
+		}
+
+		/**
+		 * Returns the parent POM file declared by a project model (using the
+		 * parent's relative path) if it can be found
+		 * 
+		 * @param file A project POM file
+		 * @param model A raw model of the project
+		 * @return The parent POM file or <code>null</code>
+		 */
+		private File getParentPomFile(File file, Model model) {
+			if (file == null || file.getParentFile() == null || model == null) {
+				return null;
+			}
+			Parent parent = model.getParent();
+			String relativePath = parent != null ? parent.getRelativePath() : null;
+			if (relativePath == null || relativePath.isBlank()) {
+				return null;
+			}
+			File parentFile = new File(file.getParentFile(), relativePath).toPath().normalize().toFile();
+			return parentFile.isDirectory() ? new File(parentFile, Maven.POMv4) : parentFile;
+		}
+
 		private void stop() {
 			if (executor.getCorePoolSize() > 0) {
 				executor.setCorePoolSize(0);
 			}
 			executor.shutdown();
+			rawModelReader.shutdown();
 		}
 
-		private static final Comparator<Runnable> PRIORITIZED_DEEPEST_FIRST = (o1, o2) -> {
+		// The queue takes the smallest element first, so the earliest deadline
+		// is started first, see BuildPriority
+		private static final Comparator<Runnable> EARLIEST_DEADLINE_FIRST = (o1, o2) -> {
 			if (!(o1 instanceof BuildProjectRunnable r1 && o2 instanceof BuildProjectRunnable r2)) {
 				return 0;
 			}
-			int result = Comparator.comparingInt(BuildProjectRunnable::getPriority)
-					.compare(r1, r2);
+			int result = Long.compare(r1.deadline, r2.deadline);
+			if (result == 0) {
+				result = r1.priority.compareTo(r2.priority);
+			}
 			if (result == 0) {
-				result = r1.uri.compareTo(r2.uri);
+				result = Long.compare(r1.sequence, r2.sequence);
 			}
 			return result;
 		};
+
+		/**
+		 * Returns the number of the queued builds (not started yet) per priority 
+		 * class
+		 * 
+		 * @return the build queue depth of each priority class
+		 */
+		public Map<BuildPriority, Integer> getQueueDepths() {
+			Map<BuildPriority, Integer> depths = new EnumMap<>(BuildPriority.class);
+			for (BuildPriority priority : BuildPriority.values()) {
+				depths.put(priority, 0);
+			}
+			for (Runnable runnable : runnables.toArray(new Runnable[0])) {
+				if (runnable instanceof BuildProjectRunnable buildRunnable) {
+					depths.merge(buildRunnable.getPriority(), 1, Integer::sum);
+				}
+			}
+			return depths;
+		}
 		
 		/**
 		 * Asynchronously builds a provided document from a source provided
@@ -312,21 +587,73 @@ public class MavenProjectCache {
 		 * @return A CompletableFuture of LoadedMavenProject object
 		 */
 		public CompletableFuture<LoadedMavenProject> build(final String uri, final FileModelSource source) {
+			return build(uri, source, null);
+		}
+
+		/**
+		 * Asynchronously builds a provided document from a source provided,
+		 * publishing the raw model of the document as soon as it's read
+		 * 
+		 * @param uri An URI String identifying the document ro be built
+		 * @param source A FIleModelSource for the document to be built
+		 * @param rawProject if not <code>null</code>, a CompletableFuture to be completed 
+		 * 		with the RAW tier of LoadedMavenProject object, or with the EFFECTIVE one
+		 * 		if the raw model cannot be read
+		 * @return A CompletableFuture of the EFFECTIVE tier of LoadedMavenProject object
+		 */
+		public CompletableFuture<LoadedMavenProject> build(final String uri, final FileModelSource source,
+				final CompletableFuture<LoadedMavenProject> rawProject) {
+			return build(uri, source, rawProject,
+					source instanceof DOMModelSource ? BuildPriority.OPEN_DOCUMENT : BuildPriority.BACKGROUND);
+		}
+
+		/**
+		 * Asynchronously builds a provided document from a source provided,
+		 * publishing the raw model of the document as soon as it's read
+		 * 
+		 * @param uri An URI String identifying the document ro be built
+		 * @param source A FIleModelSource for the document to be built
+		 * @param rawProject if not <code>null</code>, a CompletableFuture to be completed 
+		 * 		with the RAW tier of LoadedMavenProject object, or with the EFFECTIVE one
+		 * 		if the raw model cannot be read
+		 * @param priority the priority class of the build
+		 * @return A CompletableFuture of the EFFECTIVE tier of LoadedMavenProject object
+		 */
+		public CompletableFuture<LoadedMavenProject> build(final String uri, final FileModelSource source,
+				final CompletableFuture<LoadedMavenProject> rawProject, BuildPriority priority) {
 			BuildProjectRunnable runnable = null;
 			Object key = runnableKey(toURIKey(uri), source);
 			synchronized (toProcess) {
 				runnable = toProcess.get(key);
 				if (runnable != null) {
-					// Project is already queued to be built, so just bump the 
-					// runnable priority to force build to be started earlier.
-					runnable.bumpPriority();
+					// Project is already queued to be built, so it's queued again
+					// with the more urgent priority, if any, to be started earlier
+					if (runnables.remove(runnable)) {
+						runnable.promote(priority);
+						runnables.add(runnable);
+					}
 				} else {
-					runnable = new BuildProjectRunnable(uri, source);
+					runnable = new BuildProjectRunnable(uri, source, priority);
 					toProcess.put(key, runnable);
+					rawModelReader.execute(runnable::publishRawModel);
 					executor.execute(runnable);
-					runnable.future.whenComplete((ok, error) -> toProcess.remove(key));
+					final BuildProjectRunnable queued = runnable;
+					runnable.future.whenComplete((ok, error) -> {
+						synchronized (toProcess) {
+							toProcess.remove(key, queued);
+						}
+					});
 				}
 			}
+			if (rawProject != null) {
+				runnable.rawFuture.whenComplete((project, error) -> {
+					if (error == null) {
+						rawProject.complete(project);
+					} else {
+						rawProject.completeExceptionally(error);
+					}
+				});
+			}
 			return runnable.future;
 		}
 
@@ -339,7 +666,10 @@ public class MavenProjectCache {
 		 * @return Optional of MavenProject object
 		 */
 		public Optional<MavenProject> getSnapshotProject(File file) {
-			LoadedMavenProjectProvider projectProvider = projectCache.get(toURIKey(file));
+			LoadedMavenProjectProvider projectProvider;
+			synchronized (projectCache) {
+				projectProvider = projectCache.get(toURIKey(file));
+			}
 			Integer last = projectProvider != null ? projectProvider.getLastCheckedVersion() : null;
 			if (last != null && last.intValue() >= 0) {
 				LoadedMavenProject loadedProject = projectProvider.getLoadedMavenProject().getNow(null);
@@ -430,73 +760,41 @@ public class MavenProjectCache {
 		 */
 		public ProjectBuildingRequest newProjectBuildingRequest(boolean resolveDependencies, File projectFile,
 				Collection<ModelProblem> problemsCollector) {
-			ProjectBuildingRequest request = new DefaultProjectBuildingRequest();
-			MavenExecutionRequest mavenRequest = mavenSession.getRequest();
-			request.setSystemProperties(mavenRequest.getSystemProperties());
-			request.setLocalRepository(mavenRequest.getLocalRepository());
-			request.setRemoteRepositories(mavenRequest.getRemoteRepositories());
-			request.setPluginArtifactRepositories(mavenRequest.getPluginArtifactRepositories());
-			// TODO more to transfer from mavenRequest to ProjectBuildingRequest?
-			request.setRepositorySession(mavenSession.getRepositorySession());
+			// The copy constructor copies the properties and the profile lists, so
+			// the template is never changed by the callers
+			ProjectBuildingRequest request = new DefaultProjectBuildingRequest(getProjectBuildingRequestTemplate());
 			request.setResolveDependencies(resolveDependencies);
 
-			// See: https://issues.apache.org/jira/browse/MRESOLVER-374
-			Properties userProperties = request.getUserProperties();
-			userProperties.setProperty("aether.syncContext.named.factory", "noop");
-			File multiModuleProjectDirectory = computeMultiModuleProjectDirectory(projectFile);
+			File multiModuleProjectDirectory = mavenConfigCache.getMultiModuleProjectDirectory(projectFile);
 			if (multiModuleProjectDirectory != null) {
-				File mavenConfig = new File(multiModuleProjectDirectory, MVN_FOLDER + "/" + MAVEN_CONFIG);
-				if (mavenConfig.isFile()) {
-					try {
-						CLIManager manager = new CLIManager();
-						String[] args;
-						try (Stream<String> lines = Files.lines(mavenConfig.toPath(), Charset.defaultCharset())) {
-							args = lines.filter(arg -> !arg.isEmpty()).toArray(String[]::new);
-						}
-						CommandLine commandline = manager.parse(args);
-						if (commandline.hasOption(CLIManager.SET_USER_PROPERTY)) {
-							String[] configUserProperties = commandline.getOptionValues(CLIManager.SET_USER_PROPERTY);
-							if (configUserProperties != null) {
-								for (String property : configUserProperties) {
-									int index = property.indexOf('=');
-									if (index <= 0) {
-										userProperties.setProperty(property.trim(), "true");
-									} else {
-										userProperties.setProperty(property.substring(0, index).trim(),
-												property.substring(index + 1).trim());
-									}
-								}
-							}
-						}
-						if (commandline.hasOption(CLIManager.ACTIVATE_PROFILES)) {
-							String[] profileOptionValues = commandline.getOptionValues(CLIManager.ACTIVATE_PROFILES);
-							if (profileOptionValues != null) {
-								for (String profileOptionValue : profileOptionValues) {
-									StringTokenizer tokenizer = new StringTokenizer(profileOptionValue, ",");
-									while (tokenizer.hasMoreTokens()) {
-										String profileToken = tokenizer.nextToken().trim();
-										if (profileToken.startsWith("-") || profileToken.startsWith("!")) {
-											request.getInactiveProfileIds().add(profileToken.substring(1));
-										} else if (profileToken.startsWith("+")) {
-											request.getActiveProfileIds().add(profileToken.substring(1));
-										} else {
-											request.getActiveProfileIds().add(profileToken);
-										}
-									}
-								}
-							}
-						}
-					} catch (IOException | ParseException e) {
-						if (problemsCollector != null) {
-							problemsCollector.add(new DefaultModelProblem("Problem parsing " + mavenConfig,
-									ModelProblem.Severity.ERROR, null, null,
-									-1, -1, e));
-						}
-					}
+				MavenConfig mavenConfig = mavenConfigCache.getMavenConfig(multiModuleProjectDirectory);
+				mavenConfig.applyTo(request);
+				if (mavenConfig.getProblem() != null && problemsCollector != null) {
+					problemsCollector.add(new DefaultModelProblem("Problem parsing " + mavenConfig.getFile(),
+							ModelProblem.Severity.ERROR, null, null,
+							-1, -1, mavenConfig.getProblem()));
 				}
 			}
 			return request;
 		}
+
+		private synchronized ProjectBuildingRequest getProjectBuildingRequestTemplate() {
+			if (requestTemplate == null) {
+				ProjectBuildingRequest request = new DefaultProjectBuildingRequest();
+				MavenExecutionRequest mavenRequest = mavenSession.getRequest();
+				request.setSystemProperties(mavenRequest.getSystemProperties());
+				request.setLocalRepository(mavenRequest.getLocalRepository());
+				request.setRemoteRepositories(mavenRequest.getRemoteRepositories());
+				request.setPluginArtifactRepositories(mavenRequest.getPluginArtifactRepositories());
+				// TODO more to transfer from mavenRequest to ProjectBuildingRequest?
+				request.setRepositorySession(mavenSession.getRepositorySession());
+
+				// See: https://issues.apache.org/jira/browse/MRESOLVER-374
+				request.getUserProperties().setProperty("aether.syncContext.named.factory", "noop");
+				requestTemplate = request;
+			}
+			return requestTemplate;
+		}
 	}
 
 	/**
@@ -515,7 +813,11 @@ public class MavenProjectCache {
 	 * @return A Collection of currently available Maven Projects
 	 */
 	public Collection<MavenProject> getProjects() {
-		return projectCache.values().stream()
+		List<LoadedMavenProjectProvider> providers;
+		synchronized (projectCache) {
+			providers = new ArrayList<>(projectCache.values());
+		}
+		return providers.stream()
 				.map(LoadedMavenProjectProvider::getLoadedMavenProject)
 				.map(f -> f.getNow(null)).filter(Objects::nonNull)
 				.map(LoadedMavenProject::getMavenProject)
@@ -533,15 +835,35 @@ public class MavenProjectCache {
 	public Optional<MavenProject> getSnapshotProject(File file) {
 		return projectBuildManager.getSnapshotProject(file);
 	}
+
+	/**
+	 * Returns the Maven Project already built and cached for the given POM file,
+	 * without building it
+	 * 
+	 * @param pomFile A POM file
+	 * @return the cached Maven Project or <code>null</code> if the project is not
+	 * 		built yet
+	 */
+	public MavenProject getCachedMavenProject(File pomFile) {
+		LoadedMavenProjectProvider provider;
+		synchronized (projectCache) {
+			provider = projectCache.get(toURIKey(pomFile));
+		}
+		if (provider == null) {
+			return null;
+		}
+		LoadedMavenProject loadedProject = provider.getBuiltMavenProject();
+		return loadedProject != null ? loadedProject.getMavenProject() : null;
+	}
 	
 	/**
 	 * Returns the successfully parsed Maven Project built from the given 
-	 * document (not caching the Maven Project build results, nor saving 
-	 * the build problems if any)
+	 * document (not saving the build problems if any)
 	 * 
 	 * @param document
 	 * @param profileId 
 	 * @return Optional Maven Project
+	 * @see #getSnapshotProject(DOMDocument, String, boolean)
 	 */
 	public MavenProject getSnapshotProject(DOMDocument document, String profileId) {
 		return getSnapshotProject(document, profileId, true);
@@ -549,8 +871,12 @@ public class MavenProjectCache {
 
 	/**
 	 * Returns the successfully parsed Maven Project built from the given 
-	 * document (not caching the Maven Project build results, nor saving 
-	 * the build problems if any)
+	 * document (not saving the build problems if any). 
+	 * <p>
+	 * The built projects are cached by document version, profile and resolve flag. 
+	 * A cached project is invalidated as soon as the document or one of its parents 
+	 * is changed, and evicted like the other Maven Projects of the cache.
+	 * </p>
 	 * 
 	 * @param document
 	 * @param profileId 
@@ -558,7 +884,38 @@ public class MavenProjectCache {
 	 * @return Optional Maven Project
 	 */
 	public MavenProject getSnapshotProject(DOMDocument document, String profileId, boolean resolve) {
-		return projectBuildManager.getSnapshotProject(document, profileId, resolve);
+		String uriString = document.getDocumentURI();
+		String key = toURIKey(uriString) + '|' + profileId + '|' + resolve;
+		File file = getFileForDocument(document);
+		String stamp = document.getTextDocument().getVersion() + ":" + (file != null ? file.lastModified() : 0);
+		synchronized (projectCache) {
+			SnapshotProject snapshot = snapshotCache.get(key);
+			if (snapshot != null && snapshot.stamp.equals(stamp)) {
+				snapshotHitCount.incrementAndGet();
+				return snapshot.project;
+			}
+		}
+		snapshotMissCount.incrementAndGet();
+		MavenProject project = projectBuildManager.getSnapshotProject(document, profileId, resolve);
+		if (project != null) {
+			synchronized (projectCache) {
+				snapshotCache.put(key, new SnapshotProject(uriString, stamp, project));
+			}
+			evictIfNeeded();
+		}
+		return project;
+	}
+
+	/**
+	 * Removes the cached snapshot projects of a document
+	 * 
+	 * @param uriKey The URI key of a document
+	 */
+	private void invalidateSnapshots(String uriKey) {
+		String prefix = uriKey + '|';
+		synchronized (projectCache) {
+			snapshotCache.keySet().removeIf(key -> key.startsWith(prefix));
+		}
 	}
 
 	/**
@@ -639,18 +996,413 @@ public class MavenProjectCache {
 	 * 		URI String identifier.
 	 */
 	public CompletableFuture<LoadedMavenProject> getLoadedMavenProject(String uriString) {
+		LoadedMavenProjectProvider provider = getLoadedMavenProjectProvider(uriString);
+		int loadCount = provider.getLoadCount();
+		CompletableFuture<LoadedMavenProject> future = provider.getLoadedMavenProject();
+		(provider.getLoadCount() == loadCount ? hitCount : missCount).incrementAndGet();
+		return future;
+	}
+
+	/**
+	 * Returns a Completable Future of Loaded Maven Project for the given
+	 * URI String document identifier that is completed as soon as the 
+	 * specified tier of the Maven Project is available
+	 * 
+	 * @param uriString A document URI String
+	 * @param minimumTier The minimum required tier of the Maven Project
+	 * @return Completable Future of LoadedMavenDocument that could be build for 
+	 * 		the most recent version of the document represented by the specified 
+	 * 		URI String identifier.
+	 * @see LoadedMavenProjectProvider#getLoadedMavenProject(MavenProjectTier)
+	 */
+	public CompletableFuture<LoadedMavenProject> getLoadedMavenProject(String uriString, MavenProjectTier minimumTier) {
+		LoadedMavenProjectProvider provider = getLoadedMavenProjectProvider(uriString);
+		int loadCount = provider.getLoadCount();
+		CompletableFuture<LoadedMavenProject> future = provider.getLoadedMavenProject(minimumTier);
+		(provider.getLoadCount() == loadCount ? hitCount : missCount).incrementAndGet();
+		return future;
+	}
+
+	/**
+	 * Returns a Completable Future of Loaded Maven Project for the given
+	 * document that is completed as soon as the specified tier of the Maven 
+	 * Project is available
+	 * 
+	 * @param document A DOMDocument
+	 * @param minimumTier The minimum required tier of the Maven Project
+	 * @return Completable Future of LoadedMavenDocument that could be build for 
+	 * 		the most recent version of the provided document.
+	 */
+	public CompletableFuture<LoadedMavenProject> getLoadedMavenProject(DOMDocument document, MavenProjectTier minimumTier) {
+		return getLoadedMavenProject(document.getDocumentURI(), minimumTier);
+	}
+
+	/**
+	 * Returns the Maven Project built from the latest version of the given
+	 * document if it's available. Otherwise, if the document is being rebuilt
+	 * (f.i. while the user is typing), returns the last successfully built Maven
+	 * Project without waiting for the rebuild to complete. Waits for the build
+	 * only when the document was never built before.
+	 * 
+	 * @param document A given Document
+	 * @return the up to date or the last successfully built Maven Project, can be
+	 *         <code>null</code>.
+	 * @see LoadedMavenProject#isStale()
+	 */
+	public MavenProject getLastMavenProject(DOMDocument document) {
+		LoadedMavenProjectProvider provider = getLoadedMavenProjectProvider(document.getDocumentURI());
+		LoadedMavenProject loadedProject = provider.getLastLoadedMavenProject(getRestorer(document));
+		return loadedProject != null ? loadedProject.getMavenProject() : getLastSuccessfulMavenProject(document);
+	}
+
+	/**
+	 * Returns the Maven Project restored from the disk for the given document
+	 * while its first build since the startup is running, f.i. to report the
+	 * stored problems right away. The project is only restored if it was built
+	 * from the current text of the document and from the current parents.
+	 * 
+	 * @param document A given Document
+	 * @return the restored stale Maven Project, or <code>null</code> if there is
+	 *         no valid stored project or once the project is built
+	 * @see LoadedMavenProject#isStale()
+	 */
+	public LoadedMavenProject getRestoredMavenProject(DOMDocument document) {
+		Supplier<LoadedMavenProject> restorer = getRestorer(document);
+		return restorer != null
+				? getLoadedMavenProjectProvider(document.getDocumentURI()).getRestoredMavenProject(restorer)
+				: null;
+	}
+
+	private Supplier<LoadedMavenProject> getRestorer(DOMDocument document) {
+		return projectStore != null
+				? () -> projectStore.restore(toURIKey(document.getDocumentURI()), document.getText())
+				: null;
+	}
+
+	private LoadedMavenProjectProvider getLoadedMavenProjectProvider(String uriString) {
 		String uriKey = toURIKey(uriString);
-		LoadedMavenProjectProvider provider = projectCache.get(uriKey);
-		if (provider == null) {
+		synchronized (projectCache) {
+			LoadedMavenProjectProvider provider = projectCache.get(uriKey);
+			if (provider == null) {
+				// The project is either not built yet or it was evicted
+				provider = new LoadedMavenProjectProvider(uriString, documentProvider, projectBuildManager,
+						project -> projectLoaded(uriString, uriKey, project), debounceDelay);
+				projectCache.put(uriKey, provider);
+			}
+			return provider;
+		}
+	}
+
+	/**
+	 * Updates the dependency graph with the edges of a built Maven Project. The
+	 * downstream projects are not rebuilt, as they read the project from the disk,
+	 * not from the document being edited, see {@link #fileChanged(File)}.
+	 * 
+	 * @param uriString The URI String of the built project
+	 * @param uriKey The URI key of the built project
+	 * @param loadedProject The built project
+	 */
+	private void projectLoaded(String uriString, String uriKey, LoadedMavenProject loadedProject) {
+		MavenProject project = loadedProject.getMavenProject();
+		if (project != null) {
+			Set<String> upstreamKeys = getUpstreamKeys(project);
+			boolean parentResolved = project.getModel().getParent() == null || project.getParent() != null;
+			if (!parentResolved) {
+				// The parent is not resolved (f.i. the document is invalid), so
+				// the last known edges are kept
+				upstreamKeys.addAll(dependencyGraph.getDirectUpstream(uriKey));
+			}
+			dependencyGraph.update(uriKey, upstreamKeys, getModuleKeys(project));
+			if (projectStore != null && parentResolved) {
+				DOMDocument document = documentProvider.getDocument(uriString);
+				projectStore.save(uriKey, loadedProject, document != null ? document.getText() : null);
+			}
+		}
+		evictIfNeeded();
+	}
+
+	/**
+	 * Rebuilds in background the cached projects depending on the specified one,
+	 * according to the dependency graph of the built projects and, if the file is
+	 * specified, to the workspace project graph, which also knows the projects
+	 * never built yet. The documents opened in the editor are re-validated once
+	 * they're rebuilt.
+	 * 
+	 * @param uriKey The URI key of a changed project
+	 * @param pomFile The pom.xml file of the changed project, may be <code>null</code>
+	 */
+	private void reloadDownstream(String uriKey, File pomFile) {
+		Set<String> downstreamKeys = new LinkedHashSet<>(dependencyGraph.getDownstream(uriKey));
+		if (pomFile != null && mavenSession.getRequest()
+				.getWorkspaceReader() instanceof MavenLemminxWorkspaceReader workspaceReader) {
+			workspaceReader.getProjectGraph().getDownstream(pomFile).stream().map(file -> toURIKey(file))
+					.forEach(downstreamKeys::add);
+		}
+		downstreamKeys.remove(uriKey);
+		for (String downstreamKey : downstreamKeys) {
+			invalidateSnapshots(downstreamKey);
+			LoadedMavenProjectProvider provider;
+			synchronized (projectCache) {
+				provider = projectCache.get(downstreamKey);
+			}
+			if (provider == null) {
+				// Not cached, so to be built from scratch when requested
+				continue;
+			}
+			LOGGER.log(Level.FINE, "Rebuilding " + provider.getUri() + " as " + uriKey + " has been changed");
+			CompletableFuture<LoadedMavenProject> reloaded = provider.reload();
+			if (provider.isOpened()) {
+				reloaded.thenRun(() -> revalidate(provider.getUri()));
+			}
+		}
+	}
+
+	private void revalidate(String uriString) {
+		DOMDocument document = documentProvider.getDocument(uriString);
+		IXMLValidationService validationService = plugin != null ? plugin.getValidationService() : null;
+		if (document != null && validationService != null) {
+			validationService.validate(document);
+		}
+	}
+
+	private Set<String> getUpstreamKeys(MavenProject project) {
+		Set<String> keys = new LinkedHashSet<>();
+		for (MavenProject current = project; current != null; current = current.getParent()) {
+			if (current != project && current.getFile() != null) {
+				keys.add(toURIKey(current.getFile()));
+			}
+			DependencyManagement dependencyManagement = current.getOriginalModel() != null
+					? current.getOriginalModel().getDependencyManagement()
+					: null;
+			if (dependencyManagement == null) {
+				continue;
+			}
+			for (Dependency dependency : dependencyManagement.getDependencies()) {
+				if (!"import".equals(dependency.getScope()) || !"pom".equals(dependency.getType())) {
+					continue;
+				}
+				String groupId = interpolate(dependency.getGroupId(), project);
+				String artifactId = interpolate(dependency.getArtifactId(), project);
+				String version = interpolate(dependency.getVersion(), project);
+				if (groupId == null || artifactId == null || version == null || version.contains("${")) {
+					continue;
+				}
+				File bomFile = findWorkspaceArtifact(new DefaultArtifact(groupId, artifactId, "pom", version));
+				if (bomFile != null) {
+					keys.add(toURIKey(bomFile));
+				}
+			}
+		}
+		return keys;
+	}
+
+	private static Set<String> getModuleKeys(MavenProject project) {
+		File file = project.getFile();
+		if (file == null || file.getParentFile() == null) {
+			return Collections.emptySet();
+		}
+		Set<String> keys = new LinkedHashSet<>();
+		for (String module : project.getModules()) {
+			File moduleFile = new File(file.getParentFile(), module);
+			if (moduleFile.isDirectory()) {
+				moduleFile = new File(moduleFile, Maven.POMv4);
+			}
+			if (moduleFile.isFile()) {
+				keys.add(toURIKey(moduleFile));
+			}
+		}
+		return keys;
+	}
+
+	private static String interpolate(String value, MavenProject project) {
+		if (value == null || !value.contains("${")) {
+			return value;
+		}
+		Matcher matcher = PROPERTY_REFERENCE.matcher(value);
+		StringBuilder result = new StringBuilder();
+		while (matcher.find()) {
+			String property = matcher.group(1);
+			String replacement = switch (property) {
+			case "project.version", "pom.version", "version" -> project.getVersion();
+			case "project.groupId", "pom.groupId", "groupId" -> project.getGroupId();
+			case "project.parent.version" -> project.getParent() != null ? project.getParent().getVersion() : null;
+			default -> project.getProperties().getProperty(property);
+			};
+			matcher.appendReplacement(result, Matcher.quoteReplacement(replacement != null ? replacement : matcher.group()));
+		}
+		matcher.appendTail(result);
+		return result.toString();
+	}
+
+	private File findWorkspaceArtifact(Artifact artifact) {
+		return mavenSession.getRequest().getWorkspaceReader() instanceof MavenLemminxWorkspaceReader workspaceReader
+				? workspaceReader.findCurrentWorkspaceArtifact(artifact)
+				: null;
+	}
+
+	/**
+	 * Handles a pom.xml file created or modified on disk, either saved from the
+	 * editor or changed outside of it: rebuilds all its downstream projects, which
+	 * read the file from the disk, as well as the cached project itself unless the
+	 * file is opened in the editor, as the project is then built from the document.
+	 * A change already handled (f.i. a saved file also notified by the workspace
+	 * watcher) is ignored.
+	 * 
+	 * @param pomFile A created, modified or saved pom.xml file
+	 */
+	public void fileChanged(File pomFile) {
+		String uriKey = toURIKey(pomFile);
+		String stamp = pomFile.lastModified() + ":" + pomFile.length();
+		if (stamp.equals(handledChanges.put(uriKey, stamp))) {
+			return;
+		}
+		if (modelCache != null) {
+			modelCache.evictChangedModels();
+		}
+		if (documentProvider.getDocument(toURIString(pomFile)) == null) {
+			invalidateSnapshots(uriKey);
+			LoadedMavenProjectProvider provider;
 			synchronized (projectCache) {
 				provider = projectCache.get(uriKey);
-				if (provider == null) {
-					provider = new LoadedMavenProjectProvider(uriString, documentProvider, projectBuildManager);
-					projectCache.put(uriKey, provider);
+			}
+			if (provider != null) {
+				provider.reload();
+			}
+		}
+		reloadDownstream(uriKey, pomFile);
+	}
+
+	/**
+	 * Handles a pom.xml file removed from disk, outside of the editor: forgets 
+	 * the cached project and rebuilds all its downstream projects. The files
+	 * opened in the editor are ignored.
+	 * 
+	 * @param pomFile A removed pom.xml file
+	 */
+	public void fileRemoved(File pomFile) {
+		String uriString = toURIString(pomFile);
+		if (documentProvider.getDocument(uriString) != null) {
+			return;
+		}
+		String uriKey = toURIKey(pomFile);
+		handledChanges.remove(uriKey);
+		if (projectStore != null) {
+			projectStore.remove(uriKey);
+		}
+		if (modelCache != null) {
+			modelCache.evictChangedModels();
+		}
+		invalidateSnapshots(uriKey);
+		synchronized (projectCache) {
+			projectCache.remove(uriKey);
+		}
+		// The downstream projects are to be rebuilt without the removed project,
+		// but their edges are kept as the file may be restored
+		reloadDownstream(uriKey, pomFile);
+		dependencyGraph.remove(uriKey);
+	}
+
+	/**
+	 * Returns the graph of the dependencies (parents, imported BOMs and modules)
+	 * between the built Maven Projects
+	 * 
+	 * @return The Maven Project dependency graph
+	 */
+	public MavenProjectDependencyGraph getDependencyGraph() {
+		return dependencyGraph;
+	}
+
+	/**
+	 * Evicts the least recently used Maven Projects until the estimated weight of
+	 * the cached projects fits the maximum weight. The snapshot projects are 
+	 * evicted first. The projects opened in the editor as well as the projects 
+	 * being built are never evicted.
+	 */
+	private void evictIfNeeded() {
+		synchronized (projectCache) {
+			long weight = getCurrentWeight();
+			Iterator<SnapshotProject> snapshots = snapshotCache.values().iterator();
+			while (weight > maximumWeight && snapshots.hasNext()) {
+				SnapshotProject snapshot = snapshots.next();
+				if (documentProvider.getDocument(snapshot.uriString) != null) {
+					continue;
 				}
+				weight -= snapshot.weight;
+				snapshots.remove();
+				evictionCount.incrementAndGet();
+			}
+			Iterator<LoadedMavenProjectProvider> providers = projectCache.values().iterator();
+			while (weight > maximumWeight && providers.hasNext()) {
+				LoadedMavenProjectProvider provider = providers.next();
+				if (!provider.isLoaded() || provider.isOpened()) {
+					continue;
+				}
+				weight -= provider.getEstimatedWeight();
+				providers.remove();
+				evictionCount.incrementAndGet();
+				LOGGER.log(Level.FINE, "Evicted Maven project from cache: " + provider.getUri());
 			}
 		}
-		return provider.getLoadedMavenProject();
+	}
+
+	/**
+	 * Returns the number of the queued Maven Project builds (not started yet) per
+	 * priority class
+	 * 
+	 * @return the build queue depth of each priority class
+	 */
+	public Map<BuildPriority, Integer> getBuildQueueDepths() {
+		return projectBuildManager.getQueueDepths();
+	}
+
+	/**
+	 * Returns the Maven Project Cache usage statistics
+	 * 
+	 * @return Maven Project Cache statistics
+	 */
+	public MavenProjectCacheStatistics getStatistics() {
+		synchronized (projectCache) {
+			return new MavenProjectCacheStatistics(hitCount.get(), missCount.get(), snapshotHitCount.get(),
+					snapshotMissCount.get(), evictionCount.get(), projectCache.size() + snapshotCache.size(),
+					getCurrentWeight(), maximumWeight);
+		}
+	}
+
+	private long getCurrentWeight() {
+		return projectCache.values().stream().mapToLong(LoadedMavenProjectProvider::getEstimatedWeight).sum()
+				+ snapshotCache.values().stream().mapToLong(snapshot -> snapshot.weight).sum();
+	}
+
+	/**
+	 * Creates the view of the model cache used by a single model build request
+	 * of Maven, f.i. a Maven Project build or an artifact descriptor read
+	 *
+	 * @param session The repository session of the build request, used to
+	 * 		locate the cached models in the local repository
+	 * @return A Model Cache instance, <code>null</code> if the Project Builder
+	 * 		cannot be initialized
+	 */
+	public ModelCache createModelCache(RepositorySystemSession session) {
+		return modelCache != null ? modelCache.createCache(session) : null;
+	}
+
+	/**
+	 * Returns the model cache shared by the Maven Project builds
+	 *
+	 * @return the model cache, <code>null</code> if the Project Builder cannot
+	 * 		be initialized
+	 */
+	MavenModelCache getModelCache() {
+		return modelCache;
+	}
+
+	/**
+	 * Returns the builder of the Maven Projects
+	 *
+	 * @return the Maven Project build manager
+	 */
+	ProjectBuildManager getProjectBuildManager() {
+		return projectBuildManager;
 	}
 
 	/**
@@ -664,7 +1416,7 @@ public class MavenProjectCache {
 		}
 		final File basedir = file.isDirectory() ? file : file.getParentFile();
 		for (File root = basedir; root != null; root = root.getParentFile()) {
-			if (new File(root, MVN_FOLDER).isDirectory()) {
+			if (new File(root, MavenConfigCache.MVN_FOLDER).isDirectory()) {
 				return root;
 			}
 		}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+/**
+ * A snapshot of the Maven Project Cache usage counters
+ */
+public class MavenProjectCacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long snapshotHitCount;
+	private final long snapshotMissCount;
+	private final long evictionCount;
+	private final int size;
+	private final long weight;
+	private final long maximumWeight;
+
+	public MavenProjectCacheStatistics(long hitCount, long missCount, long snapshotHitCount, long snapshotMissCount,
+			long evictionCount, int size, long weight, long maximumWeight) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.snapshotHitCount = snapshotHitCount;
+		this.snapshotMissCount = snapshotMissCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+		this.weight = weight;
+		this.maximumWeight = maximumWeight;
+	}
+
+	/**
+	 * Returns the number of requests served by an up to date cached Maven Project
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns the number of requests that required a Maven Project to be built
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns the number of snapshot project requests served by a cached
+	 * snapshot of the same document version
+	 *
+	 * @return the number of snapshot cache hits
+	 */
+	public long getSnapshotHitCount() {
+		return snapshotHitCount;
+	}
+
+	/**
+	 * Returns the number of snapshot project requests that required a snapshot
+	 * project to be built
+	 *
+	 * @return the number of snapshot cache misses
+	 */
+	public long getSnapshotMissCount() {
+		return snapshotMissCount;
+	}
+
+	/**
+	 * Returns the number of Maven Projects evicted from the cache
+	 *
+	 * @return the number of evictions
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Returns the number of Maven Projects currently cached
+	 *
+	 * @return the number of cache entries
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the estimated weight of all the currently cached Maven Projects
+	 *
+	 * @return the current cache weight
+	 */
+	public long getWeight() {
+		return weight;
+	}
+
+	/**
+	 * Returns the maximum weight of the cached Maven Projects after which the
+	 * least recently used projects are evicted
+	 *
+	 * @return the maximum cache weight
+	 */
+	public long getMaximumWeight() {
+		return maximumWeight;
+	}
+
+	@Override
+	public String toString() {
+		return "MavenProjectCacheStatistics [hits=" + hitCount + ", misses=" + missCount + ", snapshotHits="
+				+ snapshotHitCount + ", snapshotMisses=" + snapshotMissCount + ", evictions=" + evictionCount + ", size=" + size + ", weight=" + weight + "/" + maximumWeight + "]";
+	}
+}
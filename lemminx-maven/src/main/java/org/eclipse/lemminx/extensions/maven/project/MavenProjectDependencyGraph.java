@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A graph of the dependencies between the built Maven Projects, identified by
+ * their URI keys. A project is downstream of its parents and of the BOMs it
+ * imports, as well as of the aggregator declaring it as a module, so the
+ * downstream projects of a changed project are the ones to be rebuilt.
+ * <p>
+ * The edges are updated each time a project is built, using the parents and
+ * the imported BOMs of the project and the modules it declares.
+ * </p>
+ */
+public class MavenProjectDependencyGraph {
+
+	// URI key -> URI keys of the parents and the imported BOMs
+	private final Map<String, Set<String>> upstream = new HashMap<>();
+	// URI key -> URI keys of the projects having the project as parent or BOM
+	private final Map<String, Set<String>> dependents = new HashMap<>();
+	// URI key -> URI keys of the modules declared by the project
+	private final Map<String, Set<String>> modules = new HashMap<>();
+
+	/**
+	 * Replaces the edges of a built project
+	 *
+	 * @param key The URI key of a project
+	 * @param upstreamKeys The URI keys of the parents and the imported BOMs of the
+	 * 		project
+	 * @param moduleKeys The URI keys of the modules declared by the project
+	 */
+	public synchronized void update(String key, Collection<String> upstreamKeys, Collection<String> moduleKeys) {
+		removeUpstream(key);
+		Set<String> newUpstream = new HashSet<>(upstreamKeys);
+		newUpstream.remove(key);
+		if (!newUpstream.isEmpty()) {
+			upstream.put(key, newUpstream);
+			newUpstream.forEach(upstreamKey -> dependents.computeIfAbsent(upstreamKey, k -> new HashSet<>()).add(key));
+		}
+		Set<String> newModules = new HashSet<>(moduleKeys);
+		newModules.remove(key);
+		if (newModules.isEmpty()) {
+			modules.remove(key);
+		} else {
+			modules.put(key, newModules);
+		}
+	}
+
+	/**
+	 * Removes the edges of a project
+	 *
+	 * @param key The URI key of a project
+	 */
+	public synchronized void remove(String key) {
+		removeUpstream(key);
+		modules.remove(key);
+	}
+
+	private void removeUpstream(String key) {
+		Set<String> oldUpstream = upstream.remove(key);
+		if (oldUpstream != null) {
+			for (String upstreamKey : oldUpstream) {
+				Set<String> keys = dependents.get(upstreamKey);
+				if (keys != null) {
+					keys.remove(key);
+					if (keys.isEmpty()) {
+						dependents.remove(upstreamKey);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the URI keys of the projects directly depending on a project
+	 *
+	 * @param key The URI key of a project
+	 * @return The URI keys of the child projects, the projects importing the
+	 * 		project as a BOM and the modules of the project
+	 */
+	public synchronized Set<String> getDirectDownstream(String key) {
+		Set<String> result = new LinkedHashSet<>();
+		result.addAll(dependents.getOrDefault(key, Collections.emptySet()));
+		result.addAll(modules.getOrDefault(key, Collections.emptySet()));
+		result.remove(key);
+		return result;
+	}
+
+	/**
+	 * Returns the URI keys of all the projects depending, directly or
+	 * transitively, on a project, ordered from the nearest to the farthest
+	 *
+	 * @param key The URI key of a project
+	 * @return The URI keys of the downstream projects, excluding the project
+	 * 		itself
+	 */
+	public synchronized Set<String> getDownstream(String key) {
+		Set<String> result = new LinkedHashSet<>();
+		Deque<String> toVisit = new ArrayDeque<>(getDirectDownstream(key));
+		while (!toVisit.isEmpty()) {
+			String current = toVisit.poll();
+			if (!current.equals(key) && result.add(current)) {
+				toVisit.addAll(getDirectDownstream(current));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the URI keys of the parents and the imported BOMs of a project
+	 *
+	 * @param key The URI key of a project
+	 * @return The URI keys of the upstream projects
+	 */
+	public synchronized Set<String> getDirectUpstream(String key) {
+		return new LinkedHashSet<>(upstream.getOrDefault(key, Collections.emptySet()));
+	}
+}
@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.DefaultModelProblem;
+import org.apache.maven.model.building.ModelProblem;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * An on-disk store of the essentials of the built Maven Projects (the effective
+ * model with its input locations and the build problems), used to provide the
+ * Maven Projects right after a restart, while they're being rebuilt.
+ * <p>
+ * A stored project is only restored if the contents of its pom.xml and of all
+ * its parents are unchanged since it was built. The projects built from a
+ * document with unsaved changes are not stored.
+ * </p>
+ * <p>
+ * The stored project of a removed pom.xml is removed, and the stored projects
+ * which are not built again for 30 days are pruned when the store is created.
+ * </p>
+ */
+public class MavenProjectStore {
+	private static final Logger LOGGER = Logger.getLogger(MavenProjectStore.class.getName());
+
+	private static final int FORMAT_VERSION = 2;
+	private static final String SNAPSHOT_EXTENSION = ".bin";
+	private static final String TEMP_PREFIX = "project";
+	private static final int MAX_AGE_DAYS = 30;
+	// The maximum time the pending writes are waited for when stopping
+	private static final long STOP_TIMEOUT_SECONDS = 5;
+
+	// Only the model classes and the snapshot itself are read back
+	private static final ObjectInputFilter SNAPSHOT_FILTER = ObjectInputFilter.Config.createFilter(
+			"maxdepth=64;java.lang.*;java.util.*;java.io.File;org.apache.maven.model.**;"
+			+ "org.codehaus.plexus.util.xml.Xpp3Dom;"
+			+ ProjectSnapshot.class.getName() + ";" + ProblemSnapshot.class.getName() + ";!*");
+
+	private static final class ProjectSnapshot implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		int formatVersion;
+		String pomFile;
+		List<String> parentFiles;
+		String contentHash;
+		Model model;
+		List<ProblemSnapshot> problems;
+	}
+
+	private static final class ProblemSnapshot implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		String message;
+		ModelProblem.Severity severity;
+		ModelProblem.Version version;
+		String source;
+		int lineNumber;
+		int columnNumber;
+		String modelId;
+	}
+
+	private static final class PendingWrite {
+		final LoadedMavenProject loadedProject;
+		final String documentText;
+
+		PendingWrite(LoadedMavenProject loadedProject, String documentText) {
+			this.loadedProject = loadedProject;
+			this.documentText = documentText;
+		}
+	}
+
+	private final Path directory;
+	private final ExecutorService writer;
+	// Only the latest built project is to be written
+	private final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a store of the Maven Projects in the specified directory
+	 *
+	 * @param directory A directory to store the projects in
+	 */
+	public MavenProjectStore(Path directory) {
+		this.directory = directory;
+		this.writer = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Maven Project Store writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		writer.execute(this::pruneExpired);
+	}
+
+	/**
+	 * Asynchronously stores a built Maven Project, unless it was built from a
+	 * document with unsaved changes
+	 *
+	 * @param uriKey The URI key of the project
+	 * @param loadedProject A built Maven Project
+	 * @param documentText The current text of the document if it's opened in the
+	 * 		editor, otherwise <code>null</code>
+	 */
+	public void save(String uriKey, LoadedMavenProject loadedProject, String documentText) {
+		if (loadedProject.getMavenProject() == null || loadedProject.getMavenProject().getFile() == null) {
+			return;
+		}
+		if (pendingWrites.put(uriKey, new PendingWrite(loadedProject, documentText)) != null) {
+			// A write is already scheduled, it will write the latest project
+			return;
+		}
+		writer.execute(() -> {
+			PendingWrite pendingWrite = pendingWrites.remove(uriKey);
+			if (pendingWrite != null) {
+				write(uriKey, pendingWrite.loadedProject, pendingWrite.documentText);
+			}
+		});
+	}
+
+	private void write(String uriKey, LoadedMavenProject loadedProject, String documentText) {
+		MavenProject project = loadedProject.getMavenProject();
+		try {
+			File pomFile = project.getFile();
+			if (documentText != null && !documentText.equals(readText(pomFile))) {
+				// The project is built from unsaved changes
+				return;
+			}
+			ProjectSnapshot snapshot = new ProjectSnapshot();
+			snapshot.formatVersion = FORMAT_VERSION;
+			snapshot.pomFile = pomFile.getAbsolutePath();
+			snapshot.parentFiles = new ArrayList<>();
+			for (MavenProject parent = project.getParent(); parent != null; parent = parent.getParent()) {
+				if (parent.getFile() != null) {
+					snapshot.parentFiles.add(parent.getFile().getAbsolutePath());
+				}
+			}
+			snapshot.contentHash = computeContentHash(snapshot.pomFile, snapshot.parentFiles);
+			if (snapshot.contentHash == null) {
+				return;
+			}
+			snapshot.model = toStoredModel(project.getModel());
+			snapshot.problems = new ArrayList<>();
+			loadedProject.getProblems().stream().map(MavenProjectStore::toProblemSnapshot)
+					.forEach(snapshot.problems::add);
+
+			Files.createDirectories(directory);
+			Path target = getSnapshotPath(uriKey);
+			Path temp = Files.createTempFile(directory, TEMP_PREFIX, ".tmp");
+			try (OutputStream out = Files.newOutputStream(temp);
+					ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+				objectOut.writeObject(snapshot);
+			}
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException | RuntimeException e) {
+			LOGGER.log(Level.FINE, "Cannot store Maven project " + uriKey + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Restores a stored Maven Project if neither its pom.xml nor its parents are
+	 * changed since it was stored
+	 *
+	 * @param uriKey The URI key of the project
+	 * @return A stale Maven Project or <code>null</code> if there is no valid
+	 *         stored project
+	 * @see LoadedMavenProject#isStale()
+	 */
+	public LoadedMavenProject restore(String uriKey) {
+		return restore(uriKey, null);
+	}
+
+	/**
+	 * Restores a stored Maven Project if neither its pom.xml nor its parents are
+	 * changed since it was stored, and if the document opened in the editor has
+	 * no unsaved changes
+	 *
+	 * @param uriKey The URI key of the project
+	 * @param documentText The current text of the document if it's opened in the
+	 * 		editor, otherwise <code>null</code>
+	 * @return A stale Maven Project or <code>null</code> if there is no valid
+	 *         stored project
+	 * @see LoadedMavenProject#isStale()
+	 */
+	public LoadedMavenProject restore(String uriKey, String documentText) {
+		Path path = getSnapshotPath(uriKey);
+		if (!Files.isRegularFile(path)) {
+			return null;
+		}
+		try (InputStream in = Files.newInputStream(path); ObjectInputStream objectIn = new ObjectInputStream(in)) {
+			objectIn.setObjectInputFilter(SNAPSHOT_FILTER);
+			if (!(objectIn.readObject() instanceof ProjectSnapshot snapshot)
+					|| snapshot.formatVersion != FORMAT_VERSION || snapshot.model == null
+					|| !Objects.equals(snapshot.contentHash, computeContentHash(snapshot.pomFile, snapshot.parentFiles))) {
+				return null;
+			}
+			if (documentText != null && !snapshot.contentHash
+					.startsWith(sha256(documentText.getBytes(StandardCharsets.UTF_8)))) {
+				// The document has unsaved changes
+				return null;
+			}
+			MavenProject project = new MavenProject(snapshot.model);
+			project.setFile(new File(snapshot.pomFile));
+			Collection<ModelProblem> problems = snapshot.problems != null
+					? snapshot.problems.stream().map(MavenProjectStore::toModelProblem).toList()
+					: Collections.emptyList();
+			return new LoadedMavenProject(project, problems, null).toStale();
+		} catch (IOException | ClassNotFoundException | RuntimeException e) {
+			LOGGER.log(Level.FINE, "Cannot restore Maven project " + uriKey + ": " + e.getMessage(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Asynchronously removes the stored Maven Project, f.i. when its pom.xml is
+	 * removed
+	 *
+	 * @param uriKey The URI key of the project
+	 */
+	public void remove(String uriKey) {
+		pendingWrites.remove(uriKey);
+		// Run by the writer, so a write already started is removed too
+		writer.execute(() -> delete(getSnapshotPath(uriKey)));
+	}
+
+	/**
+	 * Removes the stored Maven Projects not written for the maximum age, as well
+	 * as the temporary files left by an interrupted write
+	 */
+	private void pruneExpired() {
+		if (!Files.isDirectory(directory)) {
+			return;
+		}
+		long expiration = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(MAX_AGE_DAYS);
+		try (Stream<Path> files = Files.list(directory)) {
+			files.filter(file -> {
+				String name = file.getFileName().toString();
+				try {
+					return name.endsWith(SNAPSHOT_EXTENSION)
+							? Files.getLastModifiedTime(file).toMillis() < expiration
+							: name.startsWith(TEMP_PREFIX);
+				} catch (IOException e) {
+					return false;
+				}
+			}).forEach(MavenProjectStore::delete);
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, e.getMessage(), e);
+		}
+	}
+
+	private static void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Stops writing the Maven Projects, waiting for the pending writes to be
+	 * completed
+	 */
+	public void stop() {
+		writer.shutdown();
+		try {
+			if (!writer.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				LOGGER.warning("Timed out waiting for the Maven Projects to be stored");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Path getSnapshotPath(String uriKey) {
+		return directory.resolve(sha256(uriKey.getBytes(StandardCharsets.UTF_8)) + SNAPSHOT_EXTENSION);
+	}
+
+	private static String computeContentHash(String pomFile, List<String> parentFiles) {
+		StringBuilder hashes = new StringBuilder();
+		try {
+			hashes.append(sha256(Files.readAllBytes(Path.of(pomFile))));
+			if (parentFiles != null) {
+				for (String parentFile : parentFiles) {
+					hashes.append(':').append(sha256(Files.readAllBytes(Path.of(parentFile))));
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			// A file of the parent chain is removed
+			return null;
+		}
+		return hashes.toString();
+	}
+
+	private static String readText(File file) throws IOException {
+		return Files.readString(file.toPath());
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns a complete copy of the effective model, so the consumers of the
+	 * stale project find the plugin configurations, the dependencies and the
+	 * resources as in a built project. The pom file is restored from the snapshot.
+	 */
+	private static Model toStoredModel(Model effectiveModel) {
+		Model model = effectiveModel.clone();
+		model.setPomFile(null);
+		return model;
+	}
+
+	private static ProblemSnapshot toProblemSnapshot(ModelProblem problem) {
+		ProblemSnapshot snapshot = new ProblemSnapshot();
+		snapshot.message = problem.getMessage();
+		snapshot.severity = problem.getSeverity();
+		snapshot.version = problem.getVersion();
+		snapshot.source = problem.getSource();
+		snapshot.lineNumber = problem.getLineNumber();
+		snapshot.columnNumber = problem.getColumnNumber();
+		snapshot.modelId = problem.getModelId();
+		return snapshot;
+	}
+
+	private static ModelProblem toModelProblem(ProblemSnapshot snapshot) {
+		return new DefaultModelProblem(snapshot.message, snapshot.severity, snapshot.version, snapshot.source,
+				snapshot.lineNumber, snapshot.columnNumber, snapshot.modelId, null);
+	}
+}
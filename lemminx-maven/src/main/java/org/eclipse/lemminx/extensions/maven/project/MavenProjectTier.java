@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+/**
+ * The level of completeness of a loaded Maven Project. The tiers are published
+ * in order by the project build pipeline, so a tier also satisfies the needs of
+ * any lower tier.
+ */
+public enum MavenProjectTier {
+
+	/**
+	 * The raw model read from the pom.xml only, available within milliseconds.
+	 * Provides the GAV (groupId and version may come from the parent declaration),
+	 * the properties and the modules declared in the pom.xml, but nothing
+	 * inherited from the parents or resolved from repositories.
+	 */
+	RAW,
+
+	/**
+	 * The effective model built by the Maven Project Builder, including the
+	 * parents, the imported BOMs and the dependency resolution results.
+	 */
+	EFFECTIVE;
+
+	/**
+	 * Checks if this tier provides at least the information of the specified tier
+	 *
+	 * @param minimumTier A required tier
+	 * @return true if this tier satisfies the required tier
+	 */
+	public boolean satisfies(MavenProjectTier minimumTier) {
+		return minimumTier == null || compareTo(minimumTier) >= 0;
+	}
+}
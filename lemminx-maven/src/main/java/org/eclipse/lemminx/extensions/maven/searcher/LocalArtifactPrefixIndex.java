@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.searcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.aether.artifact.Artifact;
+
+/**
+ * An immutable snapshot of the local artifacts, with their groupIds and
+ * artifactIds in sorted arrays, so the candidates for a typed prefix are found
+ * by binary search and returned as views of the arrays, without allocating the
+ * candidates.
+ * <p>
+ * A groupId is also matched by a prefix of any of its '.'-segments, so typing
+ * "maven" offers "org.apache.maven" as the fuzzy matching of the clients does.
+ * </p>
+ */
+public class LocalArtifactPrefixIndex {
+
+	/**
+	 * The index of no artifact
+	 */
+	public static final LocalArtifactPrefixIndex EMPTY = new LocalArtifactPrefixIndex(Collections.emptyList());
+
+	private static final String PLUGIN = "-plugin";
+
+	private static final Comparator<Artifact> GA_ORDER = Comparator.comparing(Artifact::getGroupId)
+			.thenComparing(Artifact::getArtifactId);
+
+	private final List<Artifact> artifacts;
+	private final List<Artifact> pluginArtifacts;
+	private final List<String> groupIds;
+	private final List<String> pluginGroupIds;
+	// The groupIds by the suffixes starting at their non-leading '.'-segments
+	private final List<GroupIdSegment> groupIdSegments;
+	private final List<GroupIdSegment> pluginGroupIdSegments;
+
+	private static final class GroupIdSegment {
+		final String suffix;
+		final String groupId;
+
+		GroupIdSegment(String suffix, String groupId) {
+			this.suffix = suffix;
+			this.groupId = groupId;
+		}
+	}
+
+	/**
+	 * Builds the index of some artifacts
+	 *
+	 * @param artifacts the artifacts, one version per artifact
+	 */
+	public LocalArtifactPrefixIndex(Collection<Artifact> artifacts) {
+		Artifact[] sorted = artifacts.toArray(Artifact[]::new);
+		Arrays.sort(sorted, GA_ORDER);
+		this.artifacts = Collections.unmodifiableList(Arrays.asList(sorted));
+		this.pluginArtifacts = Collections.unmodifiableList(Arrays.asList(
+				Arrays.stream(sorted).filter(artifact -> artifact.getArtifactId().contains(PLUGIN))
+						.toArray(Artifact[]::new)));
+		this.groupIds = toGroupIds(this.artifacts);
+		this.pluginGroupIds = toGroupIds(this.pluginArtifacts);
+		this.groupIdSegments = toGroupIdSegments(this.groupIds);
+		this.pluginGroupIdSegments = toGroupIdSegments(this.pluginGroupIds);
+	}
+
+	private static List<String> toGroupIds(List<Artifact> sorted) {
+		return Collections.unmodifiableList(
+				Arrays.asList(sorted.stream().map(Artifact::getGroupId).distinct().toArray(String[]::new)));
+	}
+
+	private static List<GroupIdSegment> toGroupIdSegments(List<String> groupIds) {
+		List<GroupIdSegment> segments = new ArrayList<>();
+		for (String groupId : groupIds) {
+			for (int dot = groupId.indexOf('.'); dot >= 0; dot = groupId.indexOf('.', dot + 1)) {
+				segments.add(new GroupIdSegment(groupId.substring(dot + 1), groupId));
+			}
+		}
+		segments.sort(Comparator.comparing(segment -> segment.suffix));
+		return Collections.unmodifiableList(segments);
+	}
+
+	/**
+	 * Returns the groupIds starting with a prefix, or having a '.'-segment
+	 * starting with it
+	 *
+	 * @param prefix the typed prefix, empty for all the groupIds
+	 * @return the sorted groupIds
+	 */
+	public List<String> getGroupIds(String prefix) {
+		return getGroupIds(groupIds, groupIdSegments, prefix);
+	}
+
+	/**
+	 * Returns the groupIds of the plugins starting with a prefix, or having a
+	 * '.'-segment starting with it
+	 *
+	 * @param prefix the typed prefix, empty for all the groupIds
+	 * @return the sorted groupIds
+	 */
+	public List<String> getPluginGroupIds(String prefix) {
+		return getGroupIds(pluginGroupIds, pluginGroupIdSegments, prefix);
+	}
+
+	private static List<String> getGroupIds(List<String> groupIds, List<GroupIdSegment> segments, String prefix) {
+		List<String> leading = range(groupIds, groupId -> compareToPrefix(groupId, prefix));
+		if (prefix.isEmpty()) {
+			return leading;
+		}
+		List<GroupIdSegment> matchingSegments = range(segments, segment -> compareToPrefix(segment.suffix, prefix));
+		if (matchingSegments.isEmpty()) {
+			return leading;
+		}
+		// Only the groupIds matched by a segment are copied
+		TreeSet<String> matches = new TreeSet<>(leading);
+		matchingSegments.forEach(segment -> matches.add(segment.groupId));
+		return List.copyOf(matches);
+	}
+
+	/**
+	 * Returns all the artifacts
+	 *
+	 * @return the artifacts, sorted by groupId and artifactId
+	 */
+	public List<Artifact> getArtifacts() {
+		return artifacts;
+	}
+
+	/**
+	 * Returns all the plugin artifacts
+	 *
+	 * @return the plugin artifacts, sorted by groupId and artifactId
+	 */
+	public List<Artifact> getPluginArtifacts() {
+		return pluginArtifacts;
+	}
+
+	/**
+	 * Returns the artifacts of a groupId whose artifactId starts with a prefix
+	 *
+	 * @param groupId the groupId
+	 * @param prefix  the typed prefix, empty for all the artifacts of the
+	 *                groupId
+	 * @return the artifacts, sorted by artifactId
+	 */
+	public List<Artifact> getArtifacts(String groupId, String prefix) {
+		return range(artifacts, artifact -> compareTo(artifact, groupId, prefix));
+	}
+
+	/**
+	 * Returns the plugin artifacts of a groupId whose artifactId starts with a
+	 * prefix
+	 *
+	 * @param groupId the groupId
+	 * @param prefix  the typed prefix, empty for all the plugins of the groupId
+	 * @return the plugin artifacts, sorted by artifactId
+	 */
+	public List<Artifact> getPluginArtifacts(String groupId, String prefix) {
+		return range(pluginArtifacts, artifact -> compareTo(artifact, groupId, prefix));
+	}
+
+	/**
+	 * Returns 0 if the value starts with the prefix, otherwise the order of the
+	 * value compared to the values starting with the prefix
+	 */
+	private static int compareToPrefix(String value, String prefix) {
+		if (value.startsWith(prefix)) {
+			return 0;
+		}
+		return value.compareTo(prefix) < 0 ? -1 : 1;
+	}
+
+	private static int compareTo(Artifact artifact, String groupId, String prefix) {
+		int result = artifact.getGroupId().compareTo(groupId);
+		return result != 0 ? result : compareToPrefix(artifact.getArtifactId(), prefix);
+	}
+
+	/**
+	 * Returns the view of the sorted values matched by a comparison, which is
+	 * negative for the values before the range and positive after it
+	 */
+	private static <T> List<T> range(List<T> sorted, ToIntFunction<T> comparison) {
+		int from = bound(sorted, comparison, false);
+		int to = bound(sorted, comparison, true);
+		return from < to ? sorted.subList(from, to) : Collections.emptyList();
+	}
+
+	/**
+	 * Returns the index of the first value of the range, or the index after its
+	 * last value
+	 */
+	private static <T> int bound(List<T> sorted, ToIntFunction<T> comparison, boolean upper) {
+		int low = 0;
+		int high = sorted.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			int result = comparison.applyAsInt(sorted.get(middle));
+			if (result < 0 || (upper && result == 0)) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+}
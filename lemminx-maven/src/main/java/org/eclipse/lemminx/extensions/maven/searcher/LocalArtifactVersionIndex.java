@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.searcher;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+
+/**
+ * An index of all the versions of the artifacts found in a local repository,
+ * by groupId and artifactId.
+ *
+ * The versions of an artifact are kept in a sorted array, ordered the Maven
+ * way, so the latest version and the latest release are answered without
+ * parsing nor scanning. Versions are only parsed when the versions of an
+ * artifact change.
+ */
+public class LocalArtifactVersionIndex {
+
+	private static final String SNAPSHOT = "SNAPSHOT";
+
+	private static final Comparator<String> VERSION_ORDER = Comparator.comparing(ComparableVersion::new);
+
+	private final Map<String, Versions> index = new ConcurrentHashMap<>();
+
+	/**
+	 * The immutable sorted versions of an artifact
+	 */
+	private static final class Versions {
+		private final String[] versions;
+		private final int latestRelease;
+
+		Versions(String[] versions) {
+			this.versions = versions;
+			int release = versions.length - 1;
+			while (release >= 0 && versions[release].endsWith(SNAPSHOT)) {
+				release--;
+			}
+			this.latestRelease = release;
+		}
+
+		/**
+		 * Returns the position of a version, or the binary search insertion point
+		 * if it's missing
+		 */
+		int indexOf(String version) {
+			int index = Arrays.binarySearch(versions, version, VERSION_ORDER);
+			if (index >= 0 && !versions[index].equals(version)) {
+				// Equivalent versions spelled differently, eg. "1.0" and "1.0.0"
+				int exact = Arrays.asList(versions).indexOf(version);
+				return exact >= 0 ? exact : -index - 1;
+			}
+			return index;
+		}
+
+		Versions add(String version) {
+			int index = indexOf(version);
+			if (index >= 0) {
+				return this;
+			}
+			index = -index - 1;
+			String[] newVersions = new String[versions.length + 1];
+			System.arraycopy(versions, 0, newVersions, 0, index);
+			newVersions[index] = version;
+			System.arraycopy(versions, index, newVersions, index + 1, versions.length - index);
+			return new Versions(newVersions);
+		}
+
+		Versions remove(String version) {
+			int index = indexOf(version);
+			if (index < 0) {
+				return this;
+			}
+			if (versions.length == 1) {
+				return null;
+			}
+			String[] newVersions = new String[versions.length - 1];
+			System.arraycopy(versions, 0, newVersions, 0, index);
+			System.arraycopy(versions, index + 1, newVersions, index, newVersions.length - index);
+			return new Versions(newVersions);
+		}
+	}
+
+	private static String key(String groupId, String artifactId) {
+		return groupId + ':' + artifactId;
+	}
+
+	/**
+	 * Replaces all the versions of an artifact
+	 *
+	 * @param groupId    the artifact groupId
+	 * @param artifactId the artifact artifactId
+	 * @param versions   the versions, removes the artifact when empty
+	 */
+	public void put(String groupId, String artifactId, Collection<String> versions) {
+		String[] sorted = versions.stream().distinct().sorted(VERSION_ORDER).toArray(String[]::new);
+		if (sorted.length == 0) {
+			index.remove(key(groupId, artifactId));
+		} else {
+			index.put(key(groupId, artifactId), new Versions(sorted));
+		}
+	}
+
+	/**
+	 * Adds a version of an artifact
+	 *
+	 * @param groupId    the artifact groupId
+	 * @param artifactId the artifact artifactId
+	 * @param version    the version to add
+	 */
+	public void add(String groupId, String artifactId, String version) {
+		index.compute(key(groupId, artifactId),
+				(key, versions) -> versions == null ? new Versions(new String[] { version }) : versions.add(version));
+	}
+
+	/**
+	 * Removes a version of an artifact, the artifact is removed with its last
+	 * version
+	 *
+	 * @param groupId    the artifact groupId
+	 * @param artifactId the artifact artifactId
+	 * @param version    the version to remove
+	 */
+	public void remove(String groupId, String artifactId, String version) {
+		index.computeIfPresent(key(groupId, artifactId), (key, versions) -> versions.remove(version));
+	}
+
+	/**
+	 * Removes all the versions of an artifact
+	 *
+	 * @param groupId    the artifact groupId
+	 * @param artifactId the artifact artifactId
+	 */
+	public void remove(String groupId, String artifactId) {
+		index.remove(key(groupId, artifactId));
+	}
+
+	/**
+	 * Returns all the versions of an artifact, from the oldest to the latest
+	 *
+	 * @param groupId    the artifact groupId
+	 * @param artifactId the artifact artifactId
+	 * @return the sorted versions, empty if the artifact isn't indexed
+	 */
+	public List<String> getVersions(String groupId, String artifactId) {
+		Versions versions = index.get(key(groupId, artifactId));
+		return versions == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(versions.versions));
+	}
+
+	/**
+	 * Returns the latest version of an artifact, including snapshots
+	 *
+	 * @param groupId    the artifact groupId
+	 * @param artifactId the artifact artifactId
+	 * @return the latest version, or null if the artifact isn't indexed
+	 */
+	public String getLatest(String groupId, String artifactId) {
+		Versions versions = index.get(key(groupId, artifactId));
+		return versions == null ? null : versions.versions[versions.versions.length - 1];
+	}
+
+	/**
+	 * Returns the latest non snapshot version of an artifact
+	 *
+	 * @param groupId    the artifact groupId
+	 * @param artifactId the artifact artifactId
+	 * @return the latest release, or null if the artifact has no release
+	 */
+	public String getLatestRelease(String groupId, String artifactId) {
+		Versions versions = index.get(key(groupId, artifactId));
+		return versions == null || versions.latestRelease < 0 ? null : versions.versions[versions.latestRelease];
+	}
+
+	/**
+	 * Returns the number of indexed artifacts
+	 *
+	 * @return the number of artifacts
+	 */
+	public int size() {
+		return index.size();
+	}
+
+	/**
+	 * Removes all the artifacts
+	 */
+	public void clear() {
+		index.clear();
+	}
+}
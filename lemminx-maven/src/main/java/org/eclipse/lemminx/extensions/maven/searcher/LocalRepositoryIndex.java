@@ -0,0 +1,451 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.searcher;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An on-disk index of the folders of a local repository, used to load the
+ * local artifacts at startup without walking the repository, and to update
+ * them by listing only the folders changed since the previous scan.
+ * <p>
+ * The listing of a folder is reused as long as the modification time of the
+ * folder is unchanged (a file or a subfolder created, removed or renamed in a
+ * folder changes its modification time), so is the presence of the pom file
+ * of an artifact version folder.
+ * </p>
+ * <p>
+ * The index file is read in a single buffer, and its folder entries are sorted
+ * by path so they are looked up in the buffer by a binary search: only the
+ * entries of the scanned folders are decoded, and the listed folder entries are
+ * only kept in memory while scanning the repository. The file isn't
+ * memory-mapped, as a mapped file cannot be replaced on Windows until the
+ * garbage collector unmaps it.
+ * </p>
+ */
+public class LocalRepositoryIndex {
+	private static final Logger LOGGER = Logger.getLogger(LocalRepositoryIndex.class.getName());
+
+	private static final int FORMAT_VERSION = 2;
+	private static final String INDEX_EXTENSION = ".idx";
+
+	/**
+	 * The listing of a local repository folder
+	 */
+	public static final class FolderEntry {
+		private final long lastModified;
+		private final List<String> subfolders;
+		// Only known when the folder has just been listed
+		private final long[] subfolderLastModified;
+		private final boolean artifact;
+
+		FolderEntry(long lastModified, List<String> subfolders, long[] subfolderLastModified, boolean artifact) {
+			this.lastModified = lastModified;
+			this.subfolders = subfolders;
+			this.subfolderLastModified = subfolderLastModified;
+			this.artifact = artifact;
+		}
+
+		/**
+		 * Returns the names of the subfolders
+		 *
+		 * @return the subfolder names
+		 */
+		public List<String> getSubfolders() {
+			return subfolders;
+		}
+
+		/**
+		 * Returns the modification time of a subfolder if the folder has just been
+		 * listed, so the subfolder doesn't need to be read again
+		 *
+		 * @param index the index of the subfolder
+		 * @return the modification time, or -1 if unknown
+		 */
+		public long getSubfolderLastModified(int index) {
+			return subfolderLastModified != null ? subfolderLastModified[index] : -1;
+		}
+
+		/**
+		 * Returns true if the folder is an artifact version folder, with its pom
+		 * file
+		 *
+		 * @return true for an artifact version folder
+		 */
+		public boolean isArtifact() {
+			return artifact;
+		}
+	}
+
+	/**
+	 * The folder entries of a stored index, looked up in the index file buffer.
+	 * Only the absolute get methods of the buffer are used, so the lookups are
+	 * safe from concurrent scanning tasks.
+	 */
+	private static final class StoredIndex {
+		private final ByteBuffer buffer;
+		private final int folderCount;
+		// The offsets of the folder entries, sorted by folder path
+		private final int offsetsStart;
+
+		StoredIndex(ByteBuffer buffer, int folderCount, int offsetsStart) {
+			this.buffer = buffer;
+			this.folderCount = folderCount;
+			this.offsetsStart = offsetsStart;
+		}
+
+		FolderEntry find(String key) {
+			byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+			int low = 0;
+			int high = folderCount - 1;
+			while (low <= high) {
+				int middle = (low + high) >>> 1;
+				int offset = getOffset(middle);
+				int comparison = compareKey(offset, keyBytes);
+				if (comparison < 0) {
+					low = middle + 1;
+				} else if (comparison > 0) {
+					high = middle - 1;
+				} else {
+					return readEntry(offset + Integer.BYTES + keyBytes.length);
+				}
+			}
+			return null;
+		}
+
+		void collectArtifacts(Path root, List<Path> artifactFolders) {
+			for (int i = 0; i < folderCount; i++) {
+				int offset = getOffset(i);
+				int keyLength = buffer.getInt(offset);
+				if (buffer.get(offset + Integer.BYTES + keyLength + Long.BYTES) != 0) {
+					artifactFolders.add(root.resolve(readString(offset)));
+				}
+			}
+		}
+
+		private int getOffset(int index) {
+			return buffer.getInt(offsetsStart + index * Integer.BYTES);
+		}
+
+		private int compareKey(int offset, byte[] keyBytes) {
+			int keyLength = buffer.getInt(offset);
+			int length = Math.min(keyLength, keyBytes.length);
+			for (int i = 0; i < length; i++) {
+				int comparison = Byte.compareUnsigned(buffer.get(offset + Integer.BYTES + i), keyBytes[i]);
+				if (comparison != 0) {
+					return comparison;
+				}
+			}
+			return Integer.compare(keyLength, keyBytes.length);
+		}
+
+		private FolderEntry readEntry(int offset) {
+			long lastModified = buffer.getLong(offset);
+			offset += Long.BYTES;
+			boolean artifact = buffer.get(offset) != 0;
+			offset++;
+			int subfolderCount = buffer.getInt(offset);
+			offset += Integer.BYTES;
+			List<String> subfolders = new ArrayList<>(subfolderCount);
+			for (int i = 0; i < subfolderCount; i++) {
+				String subfolder = readString(offset);
+				subfolders.add(subfolder);
+				offset += Integer.BYTES + buffer.getInt(offset);
+			}
+			return new FolderEntry(lastModified, subfolders, null, artifact);
+		}
+
+		private String readString(int offset) {
+			byte[] bytes = new byte[buffer.getInt(offset)];
+			buffer.get(offset + Integer.BYTES, bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+
+	private final Path root;
+	private final String absoluteRoot;
+	private final Path indexFile;
+	// The stored index, read until the end of the scan
+	private StoredIndex previousIndex;
+	// Folder path, relative to the root -> folder entry
+	private Map<String, FolderEntry> folders = new ConcurrentHashMap<>();
+	private final AtomicInteger listedFolders = new AtomicInteger();
+
+	private LocalRepositoryIndex(Path root, String absoluteRoot, Path indexFile) {
+		this.root = root;
+		this.absoluteRoot = absoluteRoot;
+		this.indexFile = indexFile;
+	}
+
+	/**
+	 * Opens the index of a local repository, the index is read by
+	 * {@link #read()} or when scanning the repository
+	 *
+	 * @param repository     A local repository
+	 * @param indexDirectory The directory to store the indexes in
+	 * @return The index of the local repository
+	 */
+	public static LocalRepositoryIndex open(Path repository, Path indexDirectory) {
+		// The folders are resolved against the repository path as given
+		String absoluteRoot = repository.toAbsolutePath().normalize().toString();
+		return new LocalRepositoryIndex(repository, absoluteRoot,
+				indexDirectory.resolve(sha256(absoluteRoot) + INDEX_EXTENSION));
+	}
+
+	/**
+	 * Reads the stored index, if not read yet since the last scan
+	 *
+	 * @return The artifact version folders of the stored index, empty if there
+	 *         is no valid index stored yet
+	 */
+	public List<Path> read() {
+		if (previousIndex == null && Files.isRegularFile(indexFile)) {
+			try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+				previousIndex = read(readFully(channel));
+			} catch (IOException | RuntimeException e) {
+				LOGGER.log(Level.FINE, "Cannot read local repository index of " + root + ": " + e.getMessage(), e);
+				previousIndex = null;
+			}
+		}
+		List<Path> artifactFolders = new ArrayList<>();
+		if (previousIndex != null) {
+			try {
+				previousIndex.collectArtifacts(root, artifactFolders);
+			} catch (RuntimeException e) {
+				LOGGER.log(Level.FINE, "Cannot read local repository index of " + root + ": " + e.getMessage(), e);
+				previousIndex = null;
+				artifactFolders.clear();
+			}
+		}
+		return artifactFolders;
+	}
+
+	/**
+	 * Lists a folder of the repository, reusing the listing of the previous scan
+	 * if the folder is unchanged since. Safe to call from concurrent scanning
+	 * tasks.
+	 *
+	 * @param folder       A folder of the repository
+	 * @param lastModified The modification time of the folder, or -1 if unknown
+	 * @param pomName      The name of the pom file making the folder an artifact
+	 *                     version folder, or null if the folder can't be one
+	 * @return The folder entry, or null if the folder doesn't exist anymore
+	 */
+	public FolderEntry list(Path folder, long lastModified, String pomName) {
+		if (lastModified < 0) {
+			lastModified = getLastModified(folder);
+			if (lastModified < 0) {
+				return null;
+			}
+		}
+		String key = root.relativize(folder).toString();
+		FolderEntry entry = findPrevious(key);
+		if (entry == null || entry.lastModified != lastModified) {
+			listedFolders.incrementAndGet();
+			entry = listFolder(folder, lastModified, pomName);
+		}
+		folders.put(key, entry);
+		return entry;
+	}
+
+	private FolderEntry findPrevious(String key) {
+		StoredIndex index = previousIndex;
+		if (index != null) {
+			try {
+				return index.find(key);
+			} catch (RuntimeException e) {
+				// A corrupted index, the folder is listed again
+				LOGGER.log(Level.FINE, "Cannot read local repository index of " + root + ": " + e.getMessage(), e);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the modification time of a folder
+	 *
+	 * @param folder A folder
+	 * @return the modification time, or -1 if the folder doesn't exist
+	 */
+	public static long getLastModified(Path folder) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(folder, BasicFileAttributes.class);
+			return attributes.isDirectory() ? attributes.lastModifiedTime().toMillis() : -1;
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Lists the subfolders of a folder, and looks for the pom file of an
+	 * artifact version folder, reading the attributes of each entry only once
+	 *
+	 * @param folder       A folder
+	 * @param lastModified The modification time of the folder
+	 * @param pomName      The name of the pom file making the folder an artifact
+	 *                     version folder, or null if the folder can't be one
+	 * @return the folder entry, without subfolders if the folder can't be read
+	 */
+	public static FolderEntry listFolder(Path folder, long lastModified, String pomName) {
+		List<String> subfolders = new ArrayList<>();
+		long[] subfolderLastModified = new long[8];
+		boolean artifact = false;
+		try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(folder)) {
+			for (Path entry : directoryStream) {
+				BasicFileAttributes attributes;
+				try {
+					attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+				} catch (IOException e) {
+					// Removed meanwhile
+					continue;
+				}
+				if (attributes.isDirectory()) {
+					if (subfolders.size() == subfolderLastModified.length) {
+						subfolderLastModified = Arrays.copyOf(subfolderLastModified, subfolders.size() * 2);
+					}
+					subfolderLastModified[subfolders.size()] = attributes.lastModifiedTime().toMillis();
+					subfolders.add(entry.getFileName().toString());
+				} else if (pomName != null && attributes.isRegularFile()
+						&& pomName.equals(entry.getFileName().toString())) {
+					artifact = true;
+				}
+			}
+		} catch (IOException e) {
+			// Do nothing
+		}
+		return new FolderEntry(lastModified, subfolders, subfolderLastModified, artifact);
+	}
+
+	/**
+	 * Stores the folders listed by the completed scan, and releases the folder
+	 * entries until the next scan
+	 */
+	public void save() {
+		previousIndex = null;
+		try {
+			Files.createDirectories(indexFile.getParent());
+			Path temp = Files.createTempFile(indexFile.getParent(), "repository", ".tmp");
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				write(out);
+			}
+			Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException | RuntimeException e) {
+			LOGGER.log(Level.FINE, "Cannot store local repository index of " + root + ": " + e.getMessage(), e);
+		}
+		LOGGER.fine("Scanned local repository " + root + ": " + folders.size() + " folders, " + listedFolders.get()
+				+ " listed");
+		release();
+	}
+
+	/**
+	 * Releases the folder entries, for instance when a scan is cancelled
+	 */
+	public void release() {
+		previousIndex = null;
+		folders = new ConcurrentHashMap<>();
+		listedFolders.set(0);
+	}
+
+	private static ByteBuffer readFully(FileChannel channel) throws IOException {
+		long size = channel.size();
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("Index file too large: " + size + " bytes");
+		}
+		ByteBuffer buffer = ByteBuffer.allocate((int) size);
+		while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+			// Read until the buffer is full or the end of the file
+		}
+		return buffer.flip();
+	}
+
+	private StoredIndex read(ByteBuffer in) {
+		if (in.getInt() != FORMAT_VERSION || !absoluteRoot.equals(readString(in))) {
+			return null;
+		}
+		int folderCount = in.getInt();
+		if (folderCount < 0 || (long) in.position() + (long) folderCount * Integer.BYTES > in.limit()) {
+			return null;
+		}
+		return new StoredIndex(in, folderCount, in.position());
+	}
+
+	private void write(DataOutputStream out) throws IOException {
+		// The entries are sorted by the bytes of their folder path, for the lookups
+		// of StoredIndex
+		List<Map.Entry<byte[], FolderEntry>> entries = new ArrayList<>(folders.size());
+		folders.forEach((key, entry) -> entries.add(Map.entry(key.getBytes(StandardCharsets.UTF_8), entry)));
+		entries.sort((a, b) -> Arrays.compareUnsigned(a.getKey(), b.getKey()));
+
+		byte[] rootBytes = absoluteRoot.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(FORMAT_VERSION);
+		writeBytes(out, rootBytes);
+		out.writeInt(entries.size());
+		int offset = 3 * Integer.BYTES + rootBytes.length + entries.size() * Integer.BYTES;
+		for (Map.Entry<byte[], FolderEntry> entry : entries) {
+			out.writeInt(offset);
+			offset += Integer.BYTES + entry.getKey().length + Long.BYTES + 1 + Integer.BYTES;
+			for (String subfolder : entry.getValue().subfolders) {
+				offset += Integer.BYTES + subfolder.getBytes(StandardCharsets.UTF_8).length;
+			}
+		}
+		for (Map.Entry<byte[], FolderEntry> folder : entries) {
+			FolderEntry entry = folder.getValue();
+			writeBytes(out, folder.getKey());
+			out.writeLong(entry.lastModified);
+			out.writeByte(entry.artifact ? 1 : 0);
+			out.writeInt(entry.subfolders.size());
+			for (String subfolder : entry.subfolders) {
+				writeBytes(out, subfolder.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+	}
+
+	private static String readString(ByteBuffer in) {
+		byte[] bytes = new byte[in.getInt()];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String sha256(String value) {
+		try {
+			return HexFormat.of()
+					.formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
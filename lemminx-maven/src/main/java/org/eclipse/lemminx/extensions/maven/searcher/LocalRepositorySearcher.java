@@ -12,23 +12,27 @@ import static org.eclipse.lemminx.extensions.maven.utils.ParticipantUtils.isWell
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.DirectoryStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
@@ -40,6 +44,7 @@ import org.eclipse.lemminx.commons.progress.ProgressMonitor;
 import org.eclipse.lemminx.commons.progress.ProgressSupport;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.project.IMavenProjectBuildListener;
+import org.eclipse.lemminx.extensions.maven.searcher.LocalRepositoryIndex.FolderEntry;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 
@@ -51,20 +56,88 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 
 	private static final Logger LOGGER = Logger.getLogger(LocalRepositorySearcher.class.getName());
 	private static long REPOSITORY_UPDATE_PERIOD = 30*60*1000; // 30 minutes
+	// The number of folders read at once when scanning a local repository
+	private static final int SCAN_PARALLELISM = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
 	
 	private final ProgressSupport progressSupport;
+	private final Path indexDirectory;
 	private Map<File, Cache> cache = new HashMap<>();
 	private Thread updaterThread;
+	private volatile LocalArtifactPrefixIndex prefixIndex = LocalArtifactPrefixIndex.EMPTY;
+	private long prefixIndexGeneration;
+	private final AtomicBoolean prefixIndexUpdateScheduled = new AtomicBoolean();
 
 	class Cache {
 		private File repository;
 		private Map<Path, Artifact> artifacts;
+		private final LocalArtifactVersionIndex versions = new LocalArtifactVersionIndex();
+		private final LocalRepositoryIndex index;
+		private final LocalRepositoryWatcher watcher;
 		private CompletableFuture<Collection<Artifact>> future;
 		private boolean updateRequested = false;
+		// The artifacts are available, loaded from the index or by a completed scan
+		private volatile boolean loaded = false;
+		// Incremented on each change of the artifacts
+		private volatile long generation = 0;
 		
 		Cache (File repository) {
 			this.repository = repository;
 			this.artifacts = new HashMap<>();
+			this.index = repository != null && indexDirectory != null
+					? LocalRepositoryIndex.open(repository.toPath(), indexDirectory)
+					: null;
+			if (index != null) {
+				loadIndexedArtifacts();
+			}
+			this.watcher = repository != null ? startWatcher() : null;
+		}
+
+		private LocalRepositoryWatcher startWatcher() {
+			LocalRepositoryWatcher repositoryWatcher = new LocalRepositoryWatcher(repository.toPath(),
+					this::repositoryChanged);
+			try {
+				repositoryWatcher.start();
+				return repositoryWatcher;
+			} catch (IOException e) {
+				LOGGER.log(Level.WARNING, "Cannot watch local repository ''" + repository + "'': " + e.getMessage(), e);
+				return null;
+			}
+		}
+
+		/**
+		 * Returns true if the changes of the repository are all notified by the
+		 * watcher, so the repository doesn't need to be scanned periodically
+		 */
+		boolean isWatched() {
+			return watcher != null && watcher.isComplete();
+		}
+		
+		/**
+		 * Adds the artifacts of the stored index, they are served until the
+		 * background scan updates them
+		 */
+		private void loadIndexedArtifacts() {
+			Map<Path, List<String>> indexedVersions = new HashMap<>();
+			for (Path versionPath : index.read()) {
+				Artifact artifact = toArtifact(versionPath);
+				if (artifact != null) {
+					Artifact latest = artifacts.get(versionPath.getParent());
+					if (latest == null || new DefaultArtifactVersion(artifact.getVersion())
+							.compareTo(new DefaultArtifactVersion(latest.getVersion())) > 0) {
+						artifacts.put(versionPath.getParent(), artifact);
+					}
+					indexedVersions.computeIfAbsent(versionPath.getParent(), dir -> new ArrayList<>())
+							.add(artifact.getVersion());
+				}
+			}
+			indexedVersions.forEach((artifactPath, artifactVersions) -> {
+				Artifact latest = artifacts.get(artifactPath);
+				versions.put(latest.getGroupId(), latest.getArtifactId(), artifactVersions);
+			});
+			loaded = !artifacts.isEmpty();
+			if (loaded) {
+				LOGGER.info("Loaded " + artifacts.size() + " indexed artifacts of local repository ''" + repository + "''");
+			}
 		}
 		
 		public File getRepository() {
@@ -72,6 +145,9 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 		}
 
 		public void cancel() {
+			if (watcher != null) {
+				watcher.stop();
+			}
 			if (future != null) {
 				try {
 					future.cancel(true);
@@ -87,12 +163,36 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 			synchronized (this) {
 				if (future == null || future.isCompletedExceptionally()) {
 					future = repository == null 
-							? CompletableFuture.completedFuture(artifacts.values())
+							? CompletableFuture.completedFuture(copyArtifacts())
 							: CompletableFutures.computeAsync(cancelChecker -> doUpdate(true, cancelChecker));
 				}
+				if (loaded) {
+					// Serve the artifacts known so far if a scan is in progress, and the
+					// artifacts updated by the watcher since the scan otherwise
+					return CompletableFuture.completedFuture(copyArtifacts());
+				}
 			}
 			return future;
 		}
+
+		/**
+		 * Returns a copy of the artifacts, which are changed concurrently by the
+		 * scan and the watcher
+		 */
+		private synchronized List<Artifact> copyArtifacts() {
+			return new ArrayList<>(artifacts.values());
+		}
+		
+		/**
+		 * Returns true if the artifacts are available, without collecting them,
+		 * and starts loading them if not done yet
+		 */
+		synchronized boolean isAvailable() {
+			if (future == null || future.isCompletedExceptionally()) {
+				getArtifacts();
+			}
+			return loaded || (future.isDone() && !future.isCompletedExceptionally());
+		}
 		
 		public void updateBuiltArtifact(Artifact artifact) {
 			if (artifact != null) {
@@ -103,8 +203,14 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 				Artifact probe = probeDirectoryForArtifact(versionPath, () -> {});
 				if (probe != null) {
 					synchronized (this) {
-						artifacts.put(artifactPath, probe);
+						Artifact latest = artifacts.get(artifactPath);
+						if (latest == null || new DefaultArtifactVersion(probe.getVersion())
+								.compareTo(new DefaultArtifactVersion(latest.getVersion())) >= 0) {
+							artifacts.put(artifactPath, probe);
+							generation++;
+						}
 					}
+					versions.add(probe.getGroupId(), probe.getArtifactId(), probe.getVersion());
 				}
 			}			
 		}
@@ -113,20 +219,55 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 			UpdaterProgressMonitor pm = new UpdaterProgressMonitor(true);
 			try {
 				pm.begin();
-				Collection<Path> toRemove = artifacts.keySet().stream()
-						.collect(Collectors.toList()); 
+				Collection<Path> toRemove = ConcurrentHashMap.newKeySet();
+				synchronized (this) {
+					toRemove.addAll(artifacts.keySet());
+				}
 				pm.incrementTotal(toRemove.size());
-				updateArtifacts(repository.toPath(), toRemove, pm, cancelChecker);
+				if (index != null) {
+					index.read();
+				}
+				if (watcher != null) {
+					watcher.setComplete(true);
+				}
+				FolderEntry root = listFolder(repository.toPath(), -1, true);
+				if (root != null) {
+					ForkJoinPool pool = new ForkJoinPool(SCAN_PARALLELISM);
+					try {
+						pool.invoke(new ScanFolderTask(repository.toPath(), root, toRemove, pm, cancelChecker, true));
+					} finally {
+						pool.shutdownNow();
+					}
+				}
 				for (Path path : toRemove) {
 					pm.report(path.getFileName().toString());
 					synchronized (this) {
-						artifacts.remove(path);
+						Artifact removed = artifacts.remove(path);
+						if (removed != null) {
+							generation++;
+							versions.remove(removed.getGroupId(), removed.getArtifactId());
+						}
 					}
 				}
+				if (index != null) {
+					index.save();
+				}
+				loaded = true;
+				schedulePrefixIndexUpdate();
+			} catch (RuntimeException e) {
+				if (watcher != null) {
+					// Some folders may not be watched
+					watcher.setComplete(false);
+				}
+				throw e;
 			} finally {
+				if (index != null) {
+					// Releases the partial scan if cancelled
+					index.release();
+				}
 				pm.end();
 			}
-			return artifacts.values();
+			return copyArtifacts();
 		}
 		
 		private void updateArtifacts() {
@@ -136,7 +277,7 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 					LOGGER.info("Starting local repository cache update for ''" + repository + "''...");
 					updateRequested = false;
 					future = repository == null 
-							? CompletableFuture.completedFuture(artifacts.values())
+							? CompletableFuture.completedFuture(copyArtifacts())
 							: CompletableFutures.computeAsync(cancelChecker -> doUpdate(true, cancelChecker));
 					future.whenComplete((ok, error) -> {
 						if (error != null && !(error instanceof CancellationException)) {
@@ -170,12 +311,12 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 				this.initial = initial;
 			}
 			
-			int incrementTotal(int delta) {
+			synchronized int incrementTotal(int delta) {
 				this.total += delta;
 				return this.total;
 			}
 			
-			int incrementCompleted(int delta) {
+			synchronized int incrementCompleted(int delta) {
 				this.completed += delta;
 				return this.completed;
 			}
@@ -198,7 +339,7 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 				}
 			}
 			
-			void report(String entry) {
+			synchronized void report(String entry) {
 				var newCoompleted = incrementCompleted(1);
 				if (monitor != null) {
 					// Limiting report counts to 10 (one after each 10%-progress)
@@ -219,94 +360,246 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 			}
 		}
 		
-		private Collection<Artifact> updateArtifacts(Path dir, Collection<Path> oldPaths, UpdaterProgressMonitor progressMonitor, CancelChecker cancelChecker) {
-			List<Path> subPaths = getSubDirectories(dir);
-			progressMonitor.incrementTotal(subPaths.size());
-			Artifact latestArtifact = null;
-			ArtifactVersion latestVersion = null;
-			for (Path entry : subPaths) {
-				progressMonitor.report(entry.getFileName().toString());
-				if (Files.isDirectory(entry)) {
-					if (oldPaths.remove(dir)) {
-						progressMonitor.incrementTotal(-1);
-					}
-					Artifact artifact = probeDirectoryForArtifact(entry, cancelChecker);
-					if (artifact != null) {
-						ArtifactVersion version = new DefaultArtifactVersion(artifact.getVersion());
-						if (latestArtifact == null || latestVersion.compareTo(version) < 0) {
-							latestArtifact = artifact;
-							latestVersion = version;
+		/**
+		 * Scans a folder of the repository: updates the artifact of the folder
+		 * from its version subfolders, and scans the subfolders in parallel
+		 */
+		private class ScanFolderTask extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+
+			private final transient Path folder;
+			private final transient FolderEntry entry;
+			private final transient Collection<Path> oldPaths;
+			private final transient UpdaterProgressMonitor progressMonitor;
+			private final transient CancelChecker cancelChecker;
+			// False for the incremental updates, which don't update the index
+			private final boolean indexed;
+
+			ScanFolderTask(Path folder, FolderEntry entry, Collection<Path> oldPaths,
+					UpdaterProgressMonitor progressMonitor, CancelChecker cancelChecker, boolean indexed) {
+				this.folder = folder;
+				this.entry = entry;
+				this.oldPaths = oldPaths;
+				this.progressMonitor = progressMonitor;
+				this.cancelChecker = cancelChecker;
+				this.indexed = indexed;
+			}
+
+			@Override
+			protected void compute() {
+				cancelChecker.checkCanceled();
+				if (watcher != null && getPomName(folder) == null) {
+					// The group and artifact folders are watched, the version folders
+					// only while they're downloaded
+					watcher.watch(folder);
+				}
+				List<String> subfolders = entry.getSubfolders();
+				progressMonitor.incrementTotal(subfolders.size());
+				Artifact latestArtifact = null;
+				ArtifactVersion latestVersion = null;
+				List<String> allVersions = new ArrayList<>();
+				List<ScanFolderTask> subtasks = new ArrayList<>(subfolders.size());
+				for (int i = 0; i < subfolders.size(); i++) {
+					String subfolder = subfolders.get(i);
+					progressMonitor.report(subfolder);
+					Path subfolderPath = folder.resolve(subfolder);
+					FolderEntry subfolderEntry = listFolder(subfolderPath, entry.getSubfolderLastModified(i), indexed);
+					if (subfolderEntry != null) {
+						if (oldPaths.remove(folder)) {
+							progressMonitor.incrementTotal(-1);
+						}
+						Artifact artifact = subfolderEntry.isArtifact() ? toArtifact(subfolderPath) : null;
+						if (artifact != null) {
+							allVersions.add(artifact.getVersion());
+							ArtifactVersion version = new DefaultArtifactVersion(artifact.getVersion());
+							if (latestArtifact == null || latestVersion.compareTo(version) < 0) {
+								latestArtifact = artifact;
+								latestVersion = version;
+							}
 						}
+						subtasks.add(new ScanFolderTask(subfolderPath, subfolderEntry, oldPaths, progressMonitor,
+								cancelChecker, indexed));
 					}
-					updateArtifacts(entry, oldPaths, progressMonitor, cancelChecker);
 				}
+				updateArtifact(folder, latestArtifact, latestVersion, allVersions);
+				invokeAll(subtasks);
 			}
+		}
+
+		private void updateArtifact(Path dir, Artifact latestArtifact, ArtifactVersion latestVersion, List<String> allVersions) {
 			if (latestArtifact != null) {
-				// Add or replace the existing artifact if the version is newer
-				Artifact outdatedArtifact = artifacts.get(dir);
-				if (outdatedArtifact == null 
-						|| latestVersion.compareTo(new DefaultArtifactVersion(
-								outdatedArtifact.getVersion())) > 0) {
-					synchronized (this) {
+				versions.put(latestArtifact.getGroupId(), latestArtifact.getArtifactId(), allVersions);
+				synchronized (this) {
+					// Add or replace the existing artifact if the version is newer or removed
+					Artifact outdatedArtifact = artifacts.get(dir);
+					if (outdatedArtifact == null 
+							|| !allVersions.contains(outdatedArtifact.getVersion())
+							|| latestVersion.compareTo(new DefaultArtifactVersion(
+									outdatedArtifact.getVersion())) > 0) {
 						artifacts.put(dir, latestArtifact);
-					}  
+						generation++;
+					}
 				}
 			} else {
 				// Remove outdated artifact 
-				Artifact outdatedArtifact = artifacts.get(dir);
+				Artifact outdatedArtifact;
+				synchronized (this) {
+					outdatedArtifact = artifacts.remove(dir);
+					if (outdatedArtifact != null) {
+						generation++;
+					}
+				}
 				if (outdatedArtifact != null) {
-					synchronized (this) {
-						artifacts.remove(dir);
-					}  
+					versions.remove(outdatedArtifact.getGroupId(), outdatedArtifact.getArtifactId());
 				}
 			}
-			return artifacts.values();
 		}
 
-		private Artifact probeDirectoryForArtifact(Path dir, CancelChecker cancelChecker) {
-			if (dir.getFileName().toString().charAt(0) == '.') {
-				cancelChecker.checkCanceled();
+		/**
+		 * Removes the artifacts of a removed folder
+		 */
+		private void removeArtifacts(Path dir) {
+			List<Artifact> removed = new ArrayList<>();
+			synchronized (this) {
+				artifacts.entrySet().removeIf(entry -> {
+					if (entry.getKey().startsWith(dir)) {
+						removed.add(entry.getValue());
+						return true;
+					}
+					return false;
+				});
+				generation += removed.size();
+			}
+			removed.forEach(artifact -> versions.remove(artifact.getGroupId(), artifact.getArtifactId()));
+		}
+
+		/**
+		 * Updates the artifacts of a folder and its subfolders, without updating
+		 * the index
+		 */
+		private void scanFolder(Path dir) {
+			FolderEntry entry = listFolder(dir, -1, false);
+			if (entry == null) {
+				removeArtifacts(dir);
+				return;
+			}
+			ForkJoinPool.commonPool().invoke(new ScanFolderTask(dir, entry, ConcurrentHashMap.newKeySet(),
+					new UpdaterProgressMonitor(false), () -> {}, false));
+		}
+
+		/**
+		 * Updates the artifacts of the folders changed since the last
+		 * notification of the watcher
+		 */
+		private void repositoryChanged(Set<Path> touchedPaths, Set<Path> rescannedFolders) {
+			Set<Path> scannedFolders = new LinkedHashSet<>(rescannedFolders);
+			for (Path path : touchedPaths) {
+				Path folder = path.getParent();
+				if (getPomName(folder) != null) {
+					// A file of a version folder
+					if (path.getFileName().toString().equals(getPomName(folder)) && path.toFile().isFile()) {
+						watcher.unwatch(folder);
+					}
+					scannedFolders.add(folder.getParent());
+				} else if (getPomName(path) != null) {
+					// A version folder, created or removed, watched until its pom file
+					// is downloaded
+					if (path.toFile().isDirectory() && !path.resolve(getPomName(path)).toFile().isFile()) {
+						watcher.watch(path);
+					}
+					scannedFolders.add(folder);
+				} else if (path.toFile().isDirectory()) {
+					// A group or artifact folder
+					scannedFolders.add(path);
+				} else {
+					removeArtifacts(path);
+				}
+			}
+			for (Path folder : scannedFolders) {
+				scanFolder(folder);
+			}
+			schedulePrefixIndexUpdate();
+			LOGGER.fine("Updated " + scannedFolders.size() + " folders of local repository ''" + repository + "''");
+		}
+
+		/**
+		 * Lists a folder, through the index if any so the unchanged folders
+		 * aren't listed again
+		 */
+		private FolderEntry listFolder(Path dir, long lastModified, boolean indexed) {
+			String pomName = getPomName(dir);
+			if (indexed && index != null) {
+				return index.list(dir, lastModified, pomName);
+			}
+			if (lastModified < 0) {
+				lastModified = LocalRepositoryIndex.getLastModified(dir);
+				if (lastModified < 0) {
+					return null;
+				}
+			}
+			return LocalRepositoryIndex.listFolder(dir, lastModified, pomName);
+		}
+
+		/**
+		 * Returns the name of the pom file of a version folder, or null if the
+		 * folder can't be a version folder
+		 */
+		private String getPomName(Path dir) {
+			Path artifactFolderPath = repository.toPath().relativize(dir);
+			if (artifactFolderPath.getNameCount() < 3) {
+				// eg "maven-dependency-plugin/3.1.2"
+				return null;
+			}
+			String version = artifactFolderPath.getFileName().toString();
+			if (version.isEmpty() || !Character.isDigit(version.charAt(0))) {
 				return null;
 			}
-			if (!Character.isDigit(dir.getFileName().toString().charAt(0))) {
+			return artifactFolderPath.getParent().getFileName().toString() + '-' + version + ".pom";
+		}
+
+		private Artifact probeDirectoryForArtifact(Path dir, CancelChecker cancelChecker) {
+			String pomName = getPomName(dir);
+			if (pomName == null || !new File(dir.toFile(), pomName).isFile()) {
 				cancelChecker.checkCanceled();
 				return null;
 			}
+			cancelChecker.checkCanceled();
+			return toArtifact(dir);
+		}
+
+		/**
+		 * Returns the artifact of a version folder, from its path
+		 */
+		private Artifact toArtifact(Path dir) {
 			Path artifactFolderPath = repository.toPath().relativize(dir);
 			if (artifactFolderPath.getNameCount() < 3) {
-				cancelChecker.checkCanceled();
-				// eg "maven-dependency-plugin/3.1.2"
 				return null;
 			}
 			ArtifactVersion version = new DefaultArtifactVersion(artifactFolderPath.getFileName().toString());
 			String artifactId = artifactFolderPath.getParent().getFileName().toString();
 			String groupId = artifactFolderPath.getParent().getParent().toString()
 					.replace(artifactFolderPath.getFileSystem().getSeparator(), ".");
-			if (!new File(dir.toFile(), artifactId + '-' + version.toString() + ".pom").isFile()) {
-				cancelChecker.checkCanceled();
-				return null;
-			}
-			cancelChecker.checkCanceled();
 			return new DefaultArtifact(groupId, artifactId, null, version.toString());
 		}
-		
-		private static List<Path> getSubDirectories(Path directoryPath) {
-			List<Path> subDirectories = new ArrayList<>();
-			try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directoryPath)) {
-				for (Path entry : directoryStream) {
-					if (Files.isDirectory(entry)) {
-						subDirectories.add(entry);
-					}
-				}
-			} catch (IOException e) {
-				// Do nothing
-			}
-			return subDirectories;
-		}
 	}
 	
 	public LocalRepositorySearcher(Set<File> localRepositoryDirs, ProgressSupport progressSupport) {
+		this(localRepositoryDirs, null, progressSupport);
+	}
+
+	/**
+	 * Creates a searcher storing an index of each local repository, so the
+	 * local artifacts are available right away on the next startup
+	 * 
+	 * @param localRepositoryDirs the local repositories
+	 * @param indexDirectory      the directory to store the local repository
+	 *                            indexes in, or null to scan the local
+	 *                            repositories on startup
+	 * @param progressSupport     the progress support
+	 */
+	public LocalRepositorySearcher(Set<File> localRepositoryDirs, Path indexDirectory, ProgressSupport progressSupport) {
 		this.progressSupport = progressSupport;
+		this.indexDirectory = indexDirectory;
 		// Force the load of the local artifacts done in background
 		localRepositoryDirs.stream().filter(Objects::nonNull)
 			.forEach(this::createLocalLocalRepositoryCache);
@@ -316,7 +609,7 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 				while (true) {
 					Thread.sleep(REPOSITORY_UPDATE_PERIOD);
 					try {
-						LocalRepositorySearcher.this.updateArtifacts();
+						LocalRepositorySearcher.this.checkArtifacts();
 					} catch (CancellationException e) {
 						// Ignore
 					}
@@ -328,17 +621,91 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 		updaterThread.start();
 	}
 
-	public Set<String> searchGroupIds() throws IOException {
-		return getLocalArtifactsLastVersion().stream().map(Artifact::getGroupId).distinct().collect(Collectors.toSet());
+	public Collection<String> searchGroupIds() throws IOException {
+		return getPrefixIndex().getGroupIds("");
+	}
+
+	public Collection<String> searchPluginGroupIds() throws IOException {
+		return getPrefixIndex().getPluginGroupIds("");
 	}
 
-	public Set<String> searchPluginGroupIds() throws IOException {
-		return getLocalPluginArtifacts().stream().map(Artifact::getGroupId).distinct().collect(Collectors.toSet());
+	/**
+	 * Returns the groupIds of the local artifacts starting with a prefix, or
+	 * having a '.'-segment starting with it
+	 * 
+	 * @param prefix   the typed prefix, empty for all the groupIds
+	 * @param isPlugin true to return only the groupIds of the plugins
+	 * @return the sorted groupIds
+	 */
+	public List<String> searchGroupIds(String prefix, boolean isPlugin) {
+		return isPlugin ? getPrefixIndex().getPluginGroupIds(prefix) : getPrefixIndex().getGroupIds(prefix);
 	}
 
 	public Collection<Artifact> getLocalPluginArtifacts() {
-		return getLocalArtifactsLastVersion().stream().filter(gav -> gav.getArtifactId().contains("-plugin"))
-				.collect(Collectors.toSet());
+		return getPrefixIndex().getPluginArtifacts();
+	}
+
+	/**
+	 * Returns the local artifacts (with last version) of a groupId whose
+	 * artifactId starts with a prefix
+	 * 
+	 * @param groupId  the groupId
+	 * @param prefix   the typed prefix, empty for all the artifacts of the groupId
+	 * @param isPlugin true to return only the plugins
+	 * @return the artifacts, sorted by artifactId
+	 */
+	public List<Artifact> getLocalArtifactsLastVersion(String groupId, String prefix, boolean isPlugin) {
+		return isPlugin ? getPrefixIndex().getPluginArtifacts(groupId, prefix)
+				: getPrefixIndex().getArtifacts(groupId, prefix);
+	}
+
+	/**
+	 * Returns the prefix index of the local artifacts, empty until they're
+	 * loaded. The index is built again in background once the artifacts changed,
+	 * so the completion doesn't wait for it.
+	 */
+	private LocalArtifactPrefixIndex getPrefixIndex() {
+		return prefixIndex;
+	}
+
+	/**
+	 * Schedules a new build of the prefix index after a change of the artifacts,
+	 * the changes notified meanwhile are handled by the same build
+	 */
+	private void schedulePrefixIndexUpdate() {
+		if (MavenLemminxExtension.isUnitTestMode()) {
+			updatePrefixIndex();
+		} else if (prefixIndexUpdateScheduled.compareAndSet(false, true)) {
+			CompletableFuture.runAsync(() -> {
+				prefixIndexUpdateScheduled.set(false);
+				updatePrefixIndex();
+			}).exceptionally(error -> {
+				LOGGER.log(Level.SEVERE, "Local artifacts prefix index update failed: " + error.getMessage(), error);
+				return null;
+			});
+		}
+	}
+
+	private void updatePrefixIndex() {
+		if (!cache.values().stream().allMatch(Cache::isAvailable)) {
+			// Built once loaded
+			return;
+		}
+		// Read before collecting the artifacts, so a concurrent change gets a new index
+		long generation = cache.values().stream().mapToLong(repositoryCache -> repositoryCache.generation).sum();
+		synchronized (this) {
+			if (prefixIndex != LocalArtifactPrefixIndex.EMPTY && generation == prefixIndexGeneration) {
+				return;
+			}
+		}
+		LocalArtifactPrefixIndex newPrefixIndex = new LocalArtifactPrefixIndex(getLocalArtifactsLastVersion());
+		synchronized (this) {
+			// The generations only grow, an older concurrent build doesn't replace a newer one
+			if (prefixIndex == LocalArtifactPrefixIndex.EMPTY || generation > prefixIndexGeneration) {
+				prefixIndex = newPrefixIndex;
+				prefixIndexGeneration = generation;
+			}
+		}
 	}
 
 	/**
@@ -353,6 +720,69 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 				.getNow(Collections.emptyList());
 	}
 
+	/**
+	 * Returns all the versions of an artifact found in the local repositories,
+	 * from the oldest to the latest.
+	 * 
+	 * @param groupId    the artifact groupId
+	 * @param artifactId the artifact artifactId
+	 * @return the sorted local versions of the artifact
+	 */
+	public List<String> getLocalArtifactVersions(String groupId, String artifactId) {
+		List<Cache> caches = getVersionCaches();
+		if (caches.size() == 1) {
+			return caches.get(0).versions.getVersions(groupId, artifactId);
+		}
+		LocalArtifactVersionIndex merged = new LocalArtifactVersionIndex();
+		caches.forEach(repositoryCache -> repositoryCache.versions.getVersions(groupId, artifactId)
+				.forEach(version -> merged.add(groupId, artifactId, version)));
+		return merged.getVersions(groupId, artifactId);
+	}
+
+	/**
+	 * Returns the latest version, including snapshots, of an artifact found in
+	 * the local repositories.
+	 * 
+	 * @param groupId    the artifact groupId
+	 * @param artifactId the artifact artifactId
+	 * @return the latest local version of the artifact
+	 */
+	public Optional<String> getLocalArtifactLastVersion(String groupId, String artifactId) {
+		return getVersionCaches().stream()
+				.map(repositoryCache -> repositoryCache.versions.getLatest(groupId, artifactId))
+				.filter(Objects::nonNull)
+				.max(Comparator.comparing(DefaultArtifactVersion::new));
+	}
+
+	/**
+	 * Returns the latest non snapshot version of an artifact found in the local
+	 * repositories.
+	 * 
+	 * @param groupId    the artifact groupId
+	 * @param artifactId the artifact artifactId
+	 * @return the latest local release of the artifact
+	 */
+	public Optional<String> getLocalArtifactLastRelease(String groupId, String artifactId) {
+		return getVersionCaches().stream()
+				.map(repositoryCache -> repositoryCache.versions.getLatestRelease(groupId, artifactId))
+				.filter(Objects::nonNull)
+				.max(Comparator.comparing(DefaultArtifactVersion::new));
+	}
+
+	/**
+	 * Returns the repository caches, making sure they're loading. The version
+	 * index of a loading cache is filled as the repository is scanned, so its
+	 * versions are returned without waiting for the end of the scan.
+	 */
+	private List<Cache> getVersionCaches() {
+		List<Cache> caches = new ArrayList<>(cache.size());
+		for (Cache repositoryCache : cache.values()) {
+			repositoryCache.getArtifacts();
+			caches.add(repositoryCache);
+		}
+		return caches;
+	}
+
 	private static <T> CompletableFuture<Collection<T>> allOf(Collection<CompletableFuture<Collection<T>>> futures) {
 		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])) //
 				.thenApply(__ -> futures.stream() //
@@ -391,6 +821,8 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 						+ localRepository + "''", e);
 			}
 		}
+		// Served from the stored index until the scan completes
+		schedulePrefixIndexUpdate();
 	}
 
 	// TODO consider using directly ArtifactRepository for those 2 methods
@@ -440,6 +872,15 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 		}
 	}
 
+	/**
+	 * Updates the artifacts of the local repositories whose changes aren't all
+	 * notified by a watcher, the watched ones are already up to date
+	 */
+	private void checkArtifacts() {
+		cache.values().stream().filter(repositoryCache -> !repositoryCache.isWatched())
+				.forEach(Cache::updateArtifacts);
+	}
+
 	public void updateArtifacts() {
 		cache.keySet().stream().forEach(repository -> {
 			Cache repositoryCache = cache.get(repository);
@@ -466,6 +907,7 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 					.forEach(repositoryCache::updateBuiltArtifact);
 			}
 		}
+		schedulePrefixIndexUpdate();
 	}
 	
 	private Artifact toArtifact(org.apache.maven.artifact.Artifact mavenArtifact) {
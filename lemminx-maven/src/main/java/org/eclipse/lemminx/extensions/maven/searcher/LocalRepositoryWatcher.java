@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.searcher;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches the folders of a local repository for the artifacts downloaded or
+ * installed by Maven builds run outside of the editor.
+ * <p>
+ * The number of watched folders is bounded, as the watches are a limited
+ * resource of the OS shared with the other tools watching files, and nothing is
+ * watched where the file system has no native events: the watches of a polling
+ * watch service (f.i. on macOS) list each watched folder periodically, which
+ * costs more than the periodic update of the repository through its index. The
+ * periodic update is needed when the watches don't cover the repository, see
+ * {@link #isComplete()}. The events are coalesced: the listener is notified once
+ * the repository is quiet for a while, so the bulk downloads of a build are
+ * handled at once. When the events are lost (the event queue of the OS
+ * overflows) the affected folder is reported to be rescanned.
+ * </p>
+ */
+public class LocalRepositoryWatcher {
+	private static final Logger LOGGER = Logger.getLogger(LocalRepositoryWatcher.class.getName());
+
+	// The maximum number of watched folders, half of the lowest default inotify
+	// limit of the watches per user
+	private static final int MAX_WATCHED_FOLDERS = 4_096;
+	// The listener is notified after this quiet period...
+	private static final long QUIET_PERIOD_MILLIS = 1_000;
+	// ... or after this time if the events never stop
+	private static final long MAX_BURST_MILLIS = 10_000;
+
+	/**
+	 * A listener of the changes of a local repository
+	 */
+	@FunctionalInterface
+	public interface RepositoryChangeListener {
+
+		/**
+		 * Called with the coalesced changes of a burst of file system events
+		 *
+		 * @param touchedPaths     The files and folders created or removed
+		 * @param rescannedFolders The folders whose events were lost
+		 */
+		void repositoryChanged(Set<Path> touchedPaths, Set<Path> rescannedFolders);
+	}
+
+	private final String name;
+	private final RepositoryChangeListener listener;
+	private final int maxWatchedFolders;
+	private final Map<WatchKey, Path> folders = new ConcurrentHashMap<>();
+	private final Set<Path> watchedFolders = ConcurrentHashMap.newKeySet();
+	private volatile boolean complete = false;
+	private WatchService watchService;
+	private Thread thread;
+
+	/**
+	 * Creates a watcher of a local repository
+	 *
+	 * @param repository The local repository
+	 * @param listener   The listener of the changes
+	 */
+	public LocalRepositoryWatcher(Path repository, RepositoryChangeListener listener) {
+		this(repository, listener, MAX_WATCHED_FOLDERS);
+	}
+
+	LocalRepositoryWatcher(Path repository, RepositoryChangeListener listener, int maxWatchedFolders) {
+		this.name = "Maven local repository watcher (" + repository + ")";
+		this.listener = listener;
+		this.maxWatchedFolders = maxWatchedFolders;
+	}
+
+	/**
+	 * Starts watching the file system, unless the file system has no native
+	 * events
+	 *
+	 * @throws IOException if the watch service cannot be created
+	 */
+	public synchronized void start() throws IOException {
+		if (watchService != null) {
+			return;
+		}
+		WatchService service = FileSystems.getDefault().newWatchService();
+		if (isPolling(service)) {
+			service.close();
+			LOGGER.info(name + ": no native file system events, the periodic update is needed");
+			return;
+		}
+		watchService = service;
+		thread = new Thread(this::processEvents, name);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	static boolean isPolling(WatchService service) {
+		return service.getClass().getSimpleName().equals("PollingWatchService");
+	}
+
+	/**
+	 * Stops watching the file system
+	 */
+	public synchronized void stop() {
+		if (watchService == null) {
+			return;
+		}
+		try {
+			watchService.close();
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, e.getMessage(), e);
+		}
+		thread.interrupt();
+		watchService = null;
+		thread = null;
+		folders.clear();
+		watchedFolders.clear();
+	}
+
+	/**
+	 * Watches the subfolders and the files created or removed in a folder, but
+	 * not in its subfolders
+	 *
+	 * @param folder A folder of the repository
+	 * @return false if the folder can't be watched, f.i. because too many
+	 *         folders are watched already
+	 */
+	public boolean watch(Path folder) {
+		WatchService service = watchService;
+		if (service == null) {
+			complete = false;
+			return false;
+		}
+		if (watchedFolders.contains(folder)) {
+			return true;
+		}
+		if (watchedFolders.size() >= maxWatchedFolders) {
+			if (complete) {
+				LOGGER.info("More than " + maxWatchedFolders + " folders in the local repository, "
+						+ "the periodic update is needed");
+			}
+			complete = false;
+			return false;
+		}
+		try {
+			folders.put(folder.register(service, ENTRY_CREATE, ENTRY_DELETE), folder);
+			watchedFolders.add(folder);
+			return true;
+		} catch (IOException | ClosedWatchServiceException e) {
+			// f.i. the OS limit of watches is reached
+			LOGGER.log(Level.FINE, "Cannot watch " + folder + ": " + e.getMessage(), e);
+			complete = false;
+			return false;
+		}
+	}
+
+	/**
+	 * Stops watching a folder
+	 *
+	 * @param folder A watched folder
+	 */
+	public void unwatch(Path folder) {
+		if (watchedFolders.remove(folder)) {
+			folders.entrySet().removeIf(entry -> {
+				if (entry.getValue().equals(folder)) {
+					entry.getKey().cancel();
+					return true;
+				}
+				return false;
+			});
+		}
+	}
+
+	/**
+	 * Returns true if all the folders to watch are watched, so the changes of
+	 * the repository are all notified
+	 *
+	 * @return true if the watches cover the repository
+	 */
+	public boolean isComplete() {
+		return complete && watchService != null;
+	}
+
+	/**
+	 * Sets whether all the folders to watch are watched: true before a full
+	 * scan of the repository watches the folders again, false if the scan
+	 * fails. The folders which can't be watched make the watches incomplete.
+	 *
+	 * @param complete true if the watches cover the repository
+	 */
+	public void setComplete(boolean complete) {
+		this.complete = complete;
+	}
+
+	private void processEvents() {
+		WatchService service = watchService;
+		while (service != null && !Thread.currentThread().isInterrupted()) {
+			try {
+				WatchKey key = service.take();
+				Set<Path> touched = new LinkedHashSet<>();
+				Set<Path> rescanned = new LinkedHashSet<>();
+				long burstEnd = System.currentTimeMillis() + MAX_BURST_MILLIS;
+				while (key != null) {
+					collectEvents(key, touched, rescanned);
+					key = System.currentTimeMillis() < burstEnd
+							? service.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)
+							: null;
+				}
+				if (!touched.isEmpty() || !rescanned.isEmpty()) {
+					listener.repositoryChanged(touched, rescanned);
+				}
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			} catch (RuntimeException e) {
+				LOGGER.log(Level.SEVERE, e.getMessage(), e);
+			}
+		}
+	}
+
+	private void collectEvents(WatchKey key, Set<Path> touched, Set<Path> rescanned) {
+		Path folder = folders.get(key);
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (folder == null) {
+				continue;
+			}
+			if (event.kind() == OVERFLOW) {
+				LOGGER.fine("File system events lost, rescanning " + folder);
+				rescanned.add(folder);
+			} else if (event.context() instanceof Path fileName) {
+				touched.add(folder.resolve(fileName));
+			}
+		}
+		if (!key.reset()) {
+			// The folder is removed
+			folders.remove(key);
+			if (folder != null) {
+				watchedFolders.remove(folder);
+			}
+		}
+	}
+}
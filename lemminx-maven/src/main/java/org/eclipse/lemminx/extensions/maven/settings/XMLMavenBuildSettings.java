@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.settings;
+
+import java.util.Objects;
+
+public class XMLMavenBuildSettings {
+
+	/**
+	 * The default maximum number of Maven Projects being built at the same time
+	 */
+	public static final int DEFAULT_WORKERS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+	/**
+	 * The default maximum estimated weight of the Maven Projects kept in the
+	 * project cache
+	 */
+	public static final long DEFAULT_PROJECT_CACHE_MAX_WEIGHT = 100_000;
+
+	/**
+	 * The default delay (in milliseconds) to wait for a document to stop changing
+	 * before its Maven Project is rebuilt
+	 */
+	public static final long DEFAULT_DEBOUNCE_DELAY = 300;
+
+	/**
+	 * The default maximum number of parent POMs and imported BOMs kept in the
+	 * model cache shared by the Maven Project builds
+	 */
+	public static final int DEFAULT_MODEL_CACHE_MAX_SIZE = 1_000;
+
+	private int workers;
+
+	private long projectCacheMaxWeight;
+
+	private long debounceDelay = -1;
+
+	private int modelCacheMaxSize;
+
+	private Boolean persistentCache;
+
+	/**
+	 * Returns the number of Maven Projects allowed to be built at the same time.
+	 * A value less than 1 means that the default number of workers is to be used.
+	 *
+	 * @return the number of project build workers
+	 */
+	public int getWorkers() {
+		return workers > 0 ? workers : DEFAULT_WORKERS;
+	}
+
+	public void setWorkers(int workers) {
+		this.workers = workers;
+	}
+
+	/**
+	 * Returns the maximum estimated weight of the Maven Projects kept in the
+	 * project cache. A value less than 1 means that the default maximum weight is
+	 * to be used.
+	 *
+	 * @return the maximum weight of the project cache
+	 */
+	public long getProjectCacheMaxWeight() {
+		return projectCacheMaxWeight > 0 ? projectCacheMaxWeight : DEFAULT_PROJECT_CACHE_MAX_WEIGHT;
+	}
+
+	public void setProjectCacheMaxWeight(long projectCacheMaxWeight) {
+		this.projectCacheMaxWeight = projectCacheMaxWeight;
+	}
+
+	/**
+	 * Returns the delay (in milliseconds) to wait for a document being edited to
+	 * stop changing before its Maven Project is rebuilt. A negative value means
+	 * that the default delay is to be used.
+	 *
+	 * @return the rebuild debounce delay
+	 */
+	public long getDebounceDelay() {
+		return debounceDelay >= 0 ? debounceDelay : DEFAULT_DEBOUNCE_DELAY;
+	}
+
+	public void setDebounceDelay(long debounceDelay) {
+		this.debounceDelay = debounceDelay;
+	}
+
+	/**
+	 * Returns the maximum number of parent POMs and imported BOMs kept in the
+	 * model cache shared by the Maven Project builds. A value less than 1 means
+	 * that the default maximum size is to be used.
+	 *
+	 * @return the maximum size of the model cache
+	 */
+	public int getModelCacheMaxSize() {
+		return modelCacheMaxSize > 0 ? modelCacheMaxSize : DEFAULT_MODEL_CACHE_MAX_SIZE;
+	}
+
+	public void setModelCacheMaxSize(int modelCacheMaxSize) {
+		this.modelCacheMaxSize = modelCacheMaxSize;
+	}
+
+	/**
+	 * Returns true if the built Maven Projects are to be stored on disk, so they
+	 * can be provided right after a restart while they're being rebuilt. Enabled
+	 * by default.
+	 *
+	 * @return true if the persistent project cache is enabled
+	 */
+	public boolean isPersistentCache() {
+		return persistentCache == null || persistentCache.booleanValue();
+	}
+
+	public void setPersistentCache(Boolean persistentCache) {
+		this.persistentCache = persistentCache;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(workers, projectCacheMaxWeight, debounceDelay, modelCacheMaxSize, persistentCache);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		XMLMavenBuildSettings other = (XMLMavenBuildSettings) obj;
+		return workers == other.workers && projectCacheMaxWeight == other.projectCacheMaxWeight
+				&& debounceDelay == other.debounceDelay && modelCacheMaxSize == other.modelCacheMaxSize
+				&& Objects.equals(persistentCache, other.persistentCache);
+	}
+
+}
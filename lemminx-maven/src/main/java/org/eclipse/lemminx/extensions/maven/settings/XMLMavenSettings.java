@@ -19,6 +19,10 @@ public class XMLMavenSettings {
 
 	private XMLMavenRepoSettings repo;
 
+	private XMLMavenBuildSettings build;
+
+	private XMLMavenWorkspaceSettings workspace;
+
 	private String globalSettings;
 
 	private String userSettings;
@@ -28,6 +32,8 @@ public class XMLMavenSettings {
 	public XMLMavenSettings() {
 		setCentral(new XMLMavenCentralSettings());
 		setRepo(new XMLMavenRepoSettings());
+		setBuild(new XMLMavenBuildSettings());
+		setWorkspace(new XMLMavenWorkspaceSettings());
 	}
 
 	public XMLMavenCentralSettings getCentral() {
@@ -46,6 +52,22 @@ public class XMLMavenSettings {
 		this.repo = repo;
 	}
 
+	public XMLMavenBuildSettings getBuild() {
+		return build;
+	}
+
+	public void setBuild(XMLMavenBuildSettings build) {
+		this.build = build;
+	}
+
+	public XMLMavenWorkspaceSettings getWorkspace() {
+		return workspace;
+	}
+
+	public void setWorkspace(XMLMavenWorkspaceSettings workspace) {
+		this.workspace = workspace;
+	}
+
 	public String getUserSettings() {
 		return userSettings;
 	}
@@ -72,7 +94,7 @@ public class XMLMavenSettings {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(globalSettings, central, indexLocation, repo, userSettings);
+		return Objects.hash(globalSettings, central, indexLocation, repo, build, workspace, userSettings);
 	}
 
 	@Override
@@ -86,6 +108,7 @@ public class XMLMavenSettings {
 		XMLMavenSettings other = (XMLMavenSettings) obj;
 		return Objects.equals(globalSettings, other.globalSettings) && Objects.equals(central, other.central)
 				&& Objects.equals(indexLocation, other.indexLocation) && Objects.equals(repo, other.repo)
+				&& Objects.equals(build, other.build) && Objects.equals(workspace, other.workspace)
 				&& Objects.equals(userSettings, other.userSettings);
 	}
 
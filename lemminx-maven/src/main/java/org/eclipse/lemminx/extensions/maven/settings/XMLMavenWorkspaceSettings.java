@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.settings;
+
+import java.util.List;
+import java.util.Objects;
+
+public class XMLMavenWorkspaceSettings {
+
+	/**
+	 * The default maximum depth of the pom.xml files searched in a workspace
+	 * folder
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 10;
+
+	/**
+	 * The default glob patterns of the paths not searched for pom.xml files
+	 */
+	public static final List<String> DEFAULT_EXCLUDES = List.of("**/node_modules");
+
+	private int maxDepth;
+
+	private List<String> excludes;
+
+	private Boolean gitIgnore;
+
+	/**
+	 * Returns the maximum depth of the pom.xml files searched in a workspace
+	 * folder. A value less than 1 means that the default depth is to be used.
+	 *
+	 * @return the maximum search depth
+	 */
+	public int getMaxDepth() {
+		return maxDepth > 0 ? maxDepth : DEFAULT_MAX_DEPTH;
+	}
+
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * Returns the glob patterns of the paths, relative to the workspace folder,
+	 * not searched for pom.xml files
+	 *
+	 * @return the exclude patterns
+	 */
+	public List<String> getExcludes() {
+		return excludes != null ? excludes : DEFAULT_EXCLUDES;
+	}
+
+	public void setExcludes(List<String> excludes) {
+		this.excludes = excludes;
+	}
+
+	/**
+	 * Returns true if the paths ignored by the <code>.gitignore</code> files are
+	 * not searched for pom.xml files. Enabled by default.
+	 *
+	 * @return true if the .gitignore files are honoured
+	 */
+	public boolean isGitIgnore() {
+		return gitIgnore == null || gitIgnore.booleanValue();
+	}
+
+	public void setGitIgnore(Boolean gitIgnore) {
+		this.gitIgnore = gitIgnore;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(maxDepth, excludes, gitIgnore);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		XMLMavenWorkspaceSettings other = (XMLMavenWorkspaceSettings) obj;
+		return maxDepth == other.maxDepth && Objects.equals(excludes, other.excludes)
+				&& Objects.equals(gitIgnore, other.gitIgnore);
+	}
+
+}
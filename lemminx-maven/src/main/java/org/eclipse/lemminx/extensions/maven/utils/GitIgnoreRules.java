@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * The rules of the <code>.gitignore</code> files of a folder and of its parent
+ * folders. The rules of a folder override the ones of its parents, the last
+ * matching rule of a file wins.
+ * <p>
+ * The patterns, the negations (<code>!</code>), the directory-only patterns
+ * (trailing <code>/</code>) and the anchored patterns (containing a
+ * <code>/</code>) are supported.
+ * </p>
+ */
+public class GitIgnoreRules {
+	private static final Logger LOGGER = Logger.getLogger(GitIgnoreRules.class.getName());
+
+	public static final String GITIGNORE = ".gitignore";
+
+	/**
+	 * No rules
+	 */
+	public static final GitIgnoreRules EMPTY = new GitIgnoreRules(null, null, Collections.emptyList());
+
+	private static final class Rule {
+		final Pattern pattern;
+		final boolean negated;
+		final boolean directoryOnly;
+
+		Rule(Pattern pattern, boolean negated, boolean directoryOnly) {
+			this.pattern = pattern;
+			this.negated = negated;
+			this.directoryOnly = directoryOnly;
+		}
+	}
+
+	private final GitIgnoreRules parent;
+	private final Path base;
+	private final List<Rule> rules;
+
+	private GitIgnoreRules(GitIgnoreRules parent, Path base, List<Rule> rules) {
+		this.parent = parent;
+		this.base = base;
+		this.rules = rules;
+	}
+
+	/**
+	 * Reads the <code>.gitignore</code> file of a folder
+	 *
+	 * @param folder A folder
+	 * @param parent The rules of the parent folders
+	 * @return the rules of the folder and of its parents, the parent rules if
+	 *         the folder has no <code>.gitignore</code> file
+	 */
+	public static GitIgnoreRules read(Path folder, GitIgnoreRules parent) {
+		Path file = folder.resolve(GITIGNORE);
+		if (!Files.isRegularFile(file)) {
+			return parent;
+		}
+		try {
+			return parse(folder, Files.readAllLines(file, StandardCharsets.UTF_8), parent);
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, "Cannot read " + file + ": " + e.getMessage(), e);
+			return parent;
+		}
+	}
+
+	/**
+	 * Parses the lines of a <code>.gitignore</code> file
+	 *
+	 * @param folder The folder of the file
+	 * @param lines  The lines of the file
+	 * @param parent The rules of the parent folders
+	 * @return the rules of the folder and of its parents
+	 */
+	public static GitIgnoreRules parse(Path folder, List<String> lines, GitIgnoreRules parent) {
+		List<Rule> rules = new ArrayList<>();
+		for (String line : lines) {
+			Rule rule = toRule(line);
+			if (rule != null) {
+				rules.add(rule);
+			}
+		}
+		return rules.isEmpty() ? parent : new GitIgnoreRules(parent, folder, rules);
+	}
+
+	/**
+	 * Checks if a path is ignored
+	 *
+	 * @param path      A path in the folder of the rules
+	 * @param directory true if the path is a directory
+	 * @return true if the path is ignored
+	 */
+	public boolean isIgnored(Path path, boolean directory) {
+		return Boolean.TRUE.equals(match(path, directory));
+	}
+
+	private Boolean match(Path path, boolean directory) {
+		Boolean result = parent != null ? parent.match(path, directory) : null;
+		if (base == null || !path.startsWith(base) || path.equals(base)) {
+			return result;
+		}
+		String relativePath = base.relativize(path).toString().replace('\\', '/');
+		for (Rule rule : rules) {
+			if ((!rule.directoryOnly || directory) && rule.pattern.matcher(relativePath).matches()) {
+				result = !rule.negated;
+			}
+		}
+		return result;
+	}
+
+	private static Rule toRule(String line) {
+		String pattern = stripTrailingSpaces(line);
+		if (pattern.isEmpty() || pattern.startsWith("#")) {
+			return null;
+		}
+		boolean negated = pattern.startsWith("!");
+		if (negated) {
+			pattern = pattern.substring(1);
+		} else if (pattern.startsWith("\\!") || pattern.startsWith("\\#")) {
+			pattern = pattern.substring(1);
+		}
+		boolean directoryOnly = pattern.endsWith("/");
+		if (directoryOnly) {
+			pattern = pattern.substring(0, pattern.length() - 1);
+		}
+		// A pattern with a slash (not trailing) is relative to the folder of the
+		// .gitignore file, otherwise it matches at any level
+		boolean anchored = pattern.contains("/");
+		if (pattern.startsWith("/")) {
+			pattern = pattern.substring(1);
+		}
+		if (pattern.isEmpty()) {
+			return null;
+		}
+		String regex = (anchored ? "" : "(?:.*/)?") + toRegex(pattern);
+		return new Rule(Pattern.compile(regex), negated, directoryOnly);
+	}
+
+	private static String toRegex(String glob) {
+		StringBuilder regex = new StringBuilder();
+		int length = glob.length();
+		for (int i = 0; i < length; i++) {
+			char c = glob.charAt(i);
+			if (c == '*') {
+				if (i + 1 < length && glob.charAt(i + 1) == '*') {
+					boolean leadingSlash = i == 0 || glob.charAt(i - 1) == '/';
+					boolean trailingSlash = i + 2 < length && glob.charAt(i + 2) == '/';
+					if (leadingSlash && trailingSlash) {
+						// "**/" matches zero or more folders
+						regex.append("(?:.*/)?");
+						i += 2;
+					} else if (leadingSlash && i + 2 == length) {
+						// "/**" matches everything inside
+						regex.append(".*");
+						i++;
+					} else {
+						regex.append("[^/]*");
+						i++;
+					}
+				} else {
+					regex.append("[^/]*");
+				}
+			} else if (c == '?') {
+				regex.append("[^/]");
+			} else if (c == '[') {
+				int end = glob.indexOf(']', i + 1);
+				if (end > i + 1) {
+					String set = glob.substring(i + 1, end);
+					if (set.startsWith("!")) {
+						set = "^" + set.substring(1);
+					}
+					regex.append('[').append(set.replace("\\", "\\\\")).append(']');
+					i = end;
+				} else {
+					regex.append("\\[");
+				}
+			} else if (c == '\\' && i + 1 < length) {
+				regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+			} else {
+				regex.append(Pattern.quote(String.valueOf(c)));
+			}
+		}
+		return regex.toString();
+	}
+
+	private static String stripTrailingSpaces(String line) {
+		int end = line.length();
+		while (end > 0 && line.charAt(end - 1) == ' ' && (end < 2 || line.charAt(end - 2) != '\\')) {
+			end--;
+		}
+		return line.substring(0, end);
+	}
+}
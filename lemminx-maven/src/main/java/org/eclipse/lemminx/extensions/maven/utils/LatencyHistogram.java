@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations, in milliseconds, with fixed exponential buckets.
+ * Recording is lock-free, so it can be done on hot paths.
+ */
+public class LatencyHistogram {
+
+	// The upper bounds (inclusive) of the buckets, the last bucket is unbounded
+	private static final long[] BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 30_000,
+			60_000 };
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length + 1);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Records a duration
+	 *
+	 * @param millis A duration, in milliseconds
+	 */
+	public void record(long millis) {
+		long value = Math.max(0, millis);
+		int index = Arrays.binarySearch(BOUNDS, value);
+		buckets.incrementAndGet(index >= 0 ? index : -index - 1);
+		count.increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	/**
+	 * Returns a snapshot of the recorded durations
+	 *
+	 * @return the snapshot
+	 */
+	public Snapshot getSnapshot() {
+		long[] counts = new long[buckets.length()];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = buckets.get(i);
+		}
+		return new Snapshot(count.sum(), sum.sum(), max.get(), counts);
+	}
+
+	/**
+	 * A snapshot of a latency histogram
+	 */
+	public static final class Snapshot {
+		private final long count;
+		private final long totalMillis;
+		private final long maxMillis;
+		private final long p50Millis;
+		private final long p90Millis;
+		private final long p99Millis;
+
+		private Snapshot(long count, long totalMillis, long maxMillis, long[] counts) {
+			this.count = count;
+			this.totalMillis = totalMillis;
+			this.maxMillis = maxMillis;
+			this.p50Millis = percentile(counts, 0.5, maxMillis);
+			this.p90Millis = percentile(counts, 0.9, maxMillis);
+			this.p99Millis = percentile(counts, 0.99, maxMillis);
+		}
+
+		/**
+		 * Returns the upper bound of the bucket containing a percentile
+		 */
+		private static long percentile(long[] counts, double percentile, long maxMillis) {
+			long total = Arrays.stream(counts).sum();
+			if (total == 0) {
+				return 0;
+			}
+			long rank = (long) Math.ceil(total * percentile);
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return i < BOUNDS.length ? Math.min(BOUNDS[i], maxMillis) : maxMillis;
+				}
+			}
+			return maxMillis;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getTotalMillis() {
+			return totalMillis;
+		}
+
+		public long getMaxMillis() {
+			return maxMillis;
+		}
+
+		/**
+		 * Returns the median duration, rounded up to the upper bound of its bucket
+		 *
+		 * @return the median duration in milliseconds
+		 */
+		public long getP50Millis() {
+			return p50Millis;
+		}
+
+		/**
+		 * Returns the 90th percentile, rounded up to the upper bound of its bucket
+		 *
+		 * @return the 90th percentile in milliseconds
+		 */
+		public long getP90Millis() {
+			return p90Millis;
+		}
+
+		/**
+		 * Returns the 99th percentile, rounded up to the upper bound of its bucket
+		 *
+		 * @return the 99th percentile in milliseconds
+		 */
+		public long getP99Millis() {
+			return p99Millis;
+		}
+
+		@Override
+		public String toString() {
+			return "[count=" + count + ", total=" + totalMillis + "ms, p50=" + p50Millis + "ms, p90=" + p90Millis
+					+ "ms, p99=" + p99Millis + "ms, max=" + maxMillis + "ms]";
+		}
+	}
+}
@@ -16,7 +16,6 @@ import static org.eclipse.lemminx.extensions.maven.DOMConstants.GROUP_ID_ELT;
 import static org.eclipse.lemminx.extensions.maven.DOMConstants.PLUGIN_ELT;
 
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -38,7 +37,6 @@ import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.Parameter;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
-import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RemoteRepository.Builder;
 import org.eclipse.lemminx.dom.DOMDocument;
@@ -232,13 +230,9 @@ public class MavenPluginUtils {
 		
 		cancelChecker.checkCanceled();
 		if (pluginDescriptor == null && "0.0.1-SNAPSHOT".equals(plugin.getVersion())) { // probably missing or not parsed version
-			final Plugin thePlugin = plugin;			
-			Optional<DefaultArtifactVersion> version = lemminxMavenPlugin.getLocalRepositorySearcher().getLocalArtifactsLastVersion().stream()
-				.filter(gav -> thePlugin.getArtifactId().equals(gav.getArtifactId()))
-				.filter(gav -> thePlugin.getGroupId().equals(gav.getGroupId()))
-				.map(Artifact::getVersion) //
-				.map(DefaultArtifactVersion::new) //
-				.collect(Collectors.maxBy(Comparator.naturalOrder()));			
+			Optional<DefaultArtifactVersion> version = lemminxMavenPlugin.getLocalRepositorySearcher()
+				.getLocalArtifactLastVersion(plugin.getGroupId(), plugin.getArtifactId())
+				.map(DefaultArtifactVersion::new);
 			
 			cancelChecker.checkCanceled();
 			if (version.isPresent()) {
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.utils;
+
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.ARTIFACT_ID_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.GROUP_ID_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.MODULE_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.PACKAGING_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.PARENT_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.PROJECT_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.VERSION_ELT;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Parent;
+
+/**
+ * Reads the coordinates of a project and of its parent from a pom.xml file
+ * without parsing the whole file: the reading stops as soon as the header
+ * elements of the project are read.
+ * <p>
+ * The values are returned as written in the file, the properties are not
+ * interpolated.
+ * </p>
+ */
+public class PomHeaderReader {
+
+	private static final Logger LOGGER = Logger.getLogger(PomHeaderReader.class.getName());
+
+	// The elements conventionally written before the body of the project
+	private static final Set<String> HEADER_ELEMENTS = Set.of("modelVersion", PARENT_ELT, GROUP_ID_ELT,
+			ARTIFACT_ID_ELT, VERSION_ELT, PACKAGING_ELT, "name", "description", "url");
+
+	private static final String MODULES_ELT = "modules";
+
+	private static final XMLInputFactory FACTORY = createFactory();
+
+	/**
+	 * The coordinates of a project and of its parent
+	 */
+	public static final class PomHeader {
+		private String groupId;
+		private String artifactId;
+		private String version;
+		private String packaging;
+		private Parent parent;
+
+		private PomHeader() {
+		}
+
+		/**
+		 * Returns the coordinates of the project, the groupId and the version being
+		 * inherited from the parent if not specified
+		 *
+		 * @return the coordinates of the project, with a <code>null</code>
+		 *         artifactId if not specified
+		 */
+		public Dependency getArtifact() {
+			Dependency artifact = new Dependency();
+			artifact.setGroupId(groupId != null || parent == null ? groupId : parent.getGroupId());
+			artifact.setArtifactId(artifactId);
+			artifact.setVersion(version != null || parent == null ? version : parent.getVersion());
+			return artifact;
+		}
+
+		/**
+		 * Returns the coordinates of the parent
+		 *
+		 * @return the parent coordinates or <code>null</code> if the project has no
+		 *         parent
+		 */
+		public Parent getParent() {
+			return parent;
+		}
+
+		/**
+		 * Returns the packaging of the project, if written among the header
+		 * elements (the packaging is conventionally written right after the
+		 * coordinates)
+		 *
+		 * @return the packaging or <code>null</code> if not specified or not read
+		 */
+		public String getPackaging() {
+			return packaging;
+		}
+
+		private boolean isComplete() {
+			Dependency artifact = getArtifact();
+			return artifact.getGroupId() != null && artifact.getArtifactId() != null
+					&& artifact.getVersion() != null;
+		}
+	}
+
+	private PomHeaderReader() {
+	}
+
+	/**
+	 * Reads the header of a pom.xml file
+	 *
+	 * @param file A pom.xml file
+	 * @return the header or <code>null</code> if the file cannot be read or is not
+	 *         a Maven project
+	 */
+	public static PomHeader read(File file) {
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			return read(in);
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, "Cannot read " + file + ": " + e.getMessage(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the header of a pom.xml content. The content following a malformed
+	 * part of the XML is ignored.
+	 *
+	 * @param in A pom.xml content
+	 * @return the header or <code>null</code> if the content is not a Maven
+	 *         project
+	 */
+	public static PomHeader read(InputStream in) {
+		PomHeader header = null;
+		XMLStreamReader reader = null;
+		try {
+			reader = FACTORY.createXMLStreamReader(in);
+			while (reader.hasNext()) {
+				if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+					continue;
+				}
+				if (header == null) {
+					if (!PROJECT_ELT.equals(reader.getLocalName())) {
+						return null;
+					}
+					header = new PomHeader();
+					continue;
+				}
+				// A child of the project
+				String name = reader.getLocalName();
+				if (!HEADER_ELEMENTS.contains(name) && header.isComplete()) {
+					// The body of the project is reached
+					break;
+				}
+				switch (name) {
+				case GROUP_ID_ELT -> header.groupId = readText(reader);
+				case ARTIFACT_ID_ELT -> header.artifactId = readText(reader);
+				case VERSION_ELT -> header.version = readText(reader);
+				case PACKAGING_ELT -> header.packaging = readText(reader);
+				case PARENT_ELT -> header.parent = readParent(reader);
+				default -> skipElement(reader);
+				}
+				if (header.groupId != null && header.artifactId != null && header.version != null
+						&& header.parent != null && header.packaging != null) {
+					break;
+				}
+			}
+		} catch (XMLStreamException e) {
+			// The document is being edited, keep what is read so far
+			LOGGER.log(Level.FINEST, e.getMessage(), e);
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException e) {
+					LOGGER.log(Level.FINEST, e.getMessage(), e);
+				}
+			}
+		}
+		return header;
+	}
+
+	/**
+	 * Reads the modules declared by a pom.xml file, the modules declared in the
+	 * profiles are not included
+	 *
+	 * @param file A pom.xml file
+	 * @return the module paths, relative to the folder of the file, empty if the
+	 *         file declares no module or cannot be read
+	 */
+	public static List<String> readModules(File file) {
+		List<String> modules = new ArrayList<>();
+		XMLStreamReader reader = null;
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			reader = FACTORY.createXMLStreamReader(in);
+			int depth = 0;
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.END_ELEMENT) {
+					depth--;
+				} else if (event == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					if (depth == 1 && !PROJECT_ELT.equals(reader.getLocalName())) {
+						break;
+					} else if (depth == 2 && MODULES_ELT.equals(reader.getLocalName())) {
+						while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+							String module = MODULE_ELT.equals(reader.getLocalName()) ? readText(reader) : null;
+							if (module != null) {
+								modules.add(module);
+							} else if (reader.isStartElement()) {
+								skipElement(reader);
+							}
+						}
+						break;
+					} else if (depth == 2) {
+						skipElement(reader);
+						depth--;
+					}
+				}
+			}
+		} catch (IOException | XMLStreamException e) {
+			// Keep the modules read so far
+			LOGGER.log(Level.FINEST, e.getMessage(), e);
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException e) {
+					LOGGER.log(Level.FINEST, e.getMessage(), e);
+				}
+			}
+		}
+		return modules;
+	}
+
+	private static Parent readParent(XMLStreamReader reader) throws XMLStreamException {
+		Parent parent = new Parent();
+		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+			switch (reader.getLocalName()) {
+			case GROUP_ID_ELT -> parent.setGroupId(readText(reader));
+			case ARTIFACT_ID_ELT -> parent.setArtifactId(readText(reader));
+			case VERSION_ELT -> parent.setVersion(readText(reader));
+			default -> skipElement(reader);
+			}
+		}
+		return parent;
+	}
+
+	private static String readText(XMLStreamReader reader) throws XMLStreamException {
+		String text = reader.getElementText().trim();
+		return text.isEmpty() ? null : text;
+	}
+
+	private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0 && reader.hasNext()) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	private static XMLInputFactory createFactory() {
+		XMLInputFactory factory = XMLInputFactory.newFactory();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory;
+	}
+}
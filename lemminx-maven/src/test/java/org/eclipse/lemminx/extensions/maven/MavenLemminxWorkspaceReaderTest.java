@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.model.Dependency;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.lemminx.commons.progress.ProgressMonitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenLemminxWorkspaceReaderTest {
+
+	@TempDir
+	Path folder;
+
+	private final MavenLemminxWorkspaceReader reader = new MavenLemminxWorkspaceReader();
+
+	/*
+	 * A progress monitor which keeps the population of the workspace waiting
+	 * until its gates are open
+	 */
+	private static class GatedProgressMonitor implements ProgressMonitor {
+		// Counted down once the files to be processed are queued
+		final CountDownLatch begun = new CountDownLatch(1);
+		final CountDownLatch beginGate = new CountDownLatch(1);
+		final CountDownLatch reportGate = new CountDownLatch(1);
+
+		private static void await(CountDownLatch gate) {
+			try {
+				gate.await(30, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void begin(String title, String message, Integer percentage, Boolean cancellable) {
+			begun.countDown();
+			await(beginGate);
+		}
+
+		@Override
+		public void report(String message, Integer percentage, Boolean cancellable) {
+			await(reportGate);
+		}
+
+		@Override
+		public void end(String message) {
+		}
+
+		public void checkCanceled() {
+		}
+	}
+
+	private static File writePom(Path directory, String artifactId) throws IOException {
+		Files.createDirectories(directory);
+		return Files.writeString(directory.resolve("pom.xml"), """
+				<project>
+					<groupId>org.test</groupId>
+					<artifactId>%s</artifactId>
+					<version>1.0</version>
+				</project>
+				""".formatted(artifactId)).toFile();
+	}
+
+	private File addModule() throws IOException {
+		File pomFile = Files.writeString(folder.resolve("pom.xml"), "<project/>").toFile();
+		Dependency gav = new Dependency();
+		gav.setGroupId("org.test");
+		gav.setArtifactId("module");
+		gav.setVersion("1.0-SNAPSHOT");
+		reader.addIndexedToWorkspace(Map.of(pomFile, gav));
+		return pomFile;
+	}
+
+	@Test
+	public void testOutputDirectories() throws IOException {
+		File pomFile = addModule();
+		File classes = Files.createDirectories(folder.resolve("target/classes")).toFile();
+		File testClasses = Files.createDirectories(folder.resolve("target/test-classes")).toFile();
+
+		assertEquals(pomFile, reader.findArtifact(new DefaultArtifact("org.test:module:pom:1.0-SNAPSHOT")));
+		assertEquals(classes, reader.findArtifact(new DefaultArtifact("org.test:module:jar:1.0-SNAPSHOT")));
+		assertEquals(testClasses,
+				reader.findArtifact(new DefaultArtifact("org.test:module:jar:tests:1.0-SNAPSHOT")));
+	}
+
+	@Test
+	public void testPackagedArtifacts() throws IOException {
+		File pomFile = addModule();
+		Files.createDirectories(folder.resolve("target"));
+		File sources = Files.writeString(folder.resolve("target/module-1.0-SNAPSHOT-sources.jar"), "").toFile();
+
+		assertEquals(sources, reader.findArtifact(new DefaultArtifact("org.test:module:jar:sources:1.0-SNAPSHOT")));
+		// Not compiled yet, still served by the workspace
+		assertEquals(pomFile, reader.findArtifact(new DefaultArtifact("org.test:module:jar:1.0-SNAPSHOT")));
+		assertEquals(pomFile, reader.findArtifact(new DefaultArtifact("org.test:module:jar:tests:1.0-SNAPSHOT")));
+	}
+
+	@Test
+	public void testLookupIsWokenUpByItsArtifact() throws Exception {
+		File parentFile = writePom(folder, "parent");
+		File moduleFile = writePom(folder.resolve("module"), "module");
+
+		// The population is kept waiting until the lookups are waiting
+		GatedProgressMonitor monitor = new GatedProgressMonitor();
+		CompletableFuture.runAsync(
+				() -> reader.addToWorkspace(List.of(parentFile.toURI(), moduleFile.toURI()), () -> monitor));
+		assertTrue(monitor.begun.await(30, TimeUnit.SECONDS));
+		CompletableFuture<File> parent = CompletableFuture
+				.supplyAsync(() -> reader.findArtifact(new DefaultArtifact("org.test:parent:pom:1.0")));
+		CompletableFuture<File> unknown = CompletableFuture
+				.supplyAsync(() -> reader.findArtifact(new DefaultArtifact("org.test:unknown:pom:1.0")));
+		for (int i = 0; i < 100 && reader.getWaitedArtifactCount() < 2; i++) {
+			Thread.sleep(50);
+		}
+		// Both lookups wait for their artifacts, which can't be registered yet
+		assertEquals(2, reader.getWaitedArtifactCount());
+		assertFalse(parent.isDone());
+
+		// The parent is registered, the module is still to be processed
+		monitor.beginGate.countDown();
+		assertEquals(parentFile, parent.get(30, TimeUnit.SECONDS));
+		assertFalse(unknown.isDone());
+
+		// The artifacts not in the workspace are looked up once the workspace is processed
+		monitor.reportGate.countDown();
+		assertNull(unknown.get(30, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testModuleTrees() {
+		File a = new File("/workspace/a/pom.xml");
+		File aModule = new File("/workspace/a/module/pom.xml");
+		File aNestedModule = new File("/workspace/a/module/nested/pom.xml");
+		File b = new File("/workspace/b/pom.xml");
+		File cModule = new File("/workspace/c/module/pom.xml");
+
+		List<List<File>> trees = new ArrayList<>(
+				MavenLemminxWorkspaceReader.splitModuleTrees(List.of(aNestedModule, a, b, cModule, aModule)));
+		assertEquals(List.of(List.of(aNestedModule, a, aModule), List.of(b), List.of(cModule)), trees);
+	}
+
+	@Test
+	public void testModuleTreesArePopulatedInParallel() throws Exception {
+		assumeTrue(Runtime.getRuntime().availableProcessors() > 2, "A single population worker");
+		File a = writePom(folder.resolve("a"), "a");
+		File aModule = writePom(folder.resolve("a/module"), "a-module");
+		File b = writePom(folder.resolve("b"), "b");
+
+		// The worker of the first processed tree is kept waiting by the progress report
+		GatedProgressMonitor monitor = new GatedProgressMonitor();
+		monitor.beginGate.countDown();
+		reader.addToWorkspace(List.of(a.toURI(), aModule.toURI(), b.toURI()), () -> monitor);
+		for (int i = 0; i < 100 && (reader.findCurrentWorkspaceArtifact(new DefaultArtifact("org.test:a:pom:1.0")) == null
+				|| reader.findCurrentWorkspaceArtifact(new DefaultArtifact("org.test:b:pom:1.0")) == null); i++) {
+			Thread.sleep(50);
+		}
+		assertEquals(a, reader.findCurrentWorkspaceArtifact(new DefaultArtifact("org.test:a:pom:1.0")));
+		assertEquals(b, reader.findCurrentWorkspaceArtifact(new DefaultArtifact("org.test:b:pom:1.0")));
+		assertNull(reader.findCurrentWorkspaceArtifact(new DefaultArtifact("org.test:a-module:pom:1.0")));
+
+		monitor.reportGate.countDown();
+		assertEquals(aModule, reader.findArtifact(new DefaultArtifact("org.test:a-module:pom:1.0")));
+	}
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.List;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.Test;
+
+public class WorkspaceArtifactRegistryTest {
+
+	@Test
+	public void testFindByGAVAndGA() {
+		WorkspaceArtifactRegistry registry = new WorkspaceArtifactRegistry();
+		File one = new File("one/pom.xml");
+		File two = new File("two/pom.xml");
+		registry.register(new DefaultArtifact("org.test", "a", null, "1.0"), one);
+		registry.register(new DefaultArtifact("org.test", "a", null, "2.0"), two);
+
+		assertEquals(one, registry.find(new DefaultArtifact("org.test:a:jar:1.0")));
+		assertEquals(two, registry.find(new DefaultArtifact("org.test:a:pom:2.0")));
+		assertNull(registry.find(new DefaultArtifact("org.test:a:jar:3.0")));
+		assertEquals(List.of("2.0", "1.0"), registry.findVersions(new DefaultArtifact("org.test:a:jar:0")));
+		assertTrue(registry.contains(one));
+	}
+
+	@Test
+	public void testReRegisterAndRemove() {
+		WorkspaceArtifactRegistry registry = new WorkspaceArtifactRegistry();
+		File pom = new File("module/pom.xml");
+		registry.register(new DefaultArtifact("org.test", "a", null, "1.0"), pom);
+		// The version of the module is changed
+		registry.register(new DefaultArtifact("org.test", "a", null, "1.1"), pom);
+
+		assertNull(registry.find(new DefaultArtifact("org.test:a:jar:1.0")));
+		assertEquals(pom, registry.find(new DefaultArtifact("org.test:a:jar:1.1")));
+		assertEquals(List.of("1.1"), registry.findVersions(new DefaultArtifact("org.test:a:jar:0")));
+
+		registry.remove(pom);
+		assertFalse(registry.contains(pom));
+		assertNull(registry.find(new DefaultArtifact("org.test:a:jar:1.1")));
+		assertTrue(registry.findVersions(new DefaultArtifact("org.test:a:jar:0")).isEmpty());
+		assertTrue(registry.getFiles().isEmpty());
+	}
+
+	@Test
+	public void testVersionsAreInVersionOrder() {
+		WorkspaceArtifactRegistry registry = new WorkspaceArtifactRegistry();
+		registry.register(new DefaultArtifact("org.test", "a", null, "1.9"), new File("one/pom.xml"));
+		registry.register(new DefaultArtifact("org.test", "a", null, "1.10"), new File("two/pom.xml"));
+		registry.register(new DefaultArtifact("org.test", "a", null, "1.10-SNAPSHOT"), new File("three/pom.xml"));
+		registry.register(new DefaultArtifact("org.test", "a", null, "1.2"), new File("four/pom.xml"));
+		registry.register(new DefaultArtifact("org.test", "a", null, "1.2.0"), new File("five/pom.xml"));
+
+		assertEquals(List.of("1.10", "1.10-SNAPSHOT", "1.9", "1.2.0", "1.2"),
+				registry.findVersions(new DefaultArtifact("org.test:a:jar:0")));
+	}
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.lemminx.extensions.maven.settings.XMLMavenWorkspaceSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WorkspaceFolderWatcherTest {
+
+	private record Change(Set<Path> changedPomFiles, Set<Path> removedPaths, Set<Path> rescannedFolders) {
+	}
+
+	@TempDir
+	Path folder;
+
+	private final BlockingQueue<Change> changes = new LinkedBlockingQueue<>();
+	private final MavenLemminxWorkspaceReader reader = new MavenLemminxWorkspaceReader();
+	private final XMLMavenWorkspaceSettings settings = new XMLMavenWorkspaceSettings();
+	private WorkspaceFolderWatcher watcher;
+
+	@AfterEach
+	public void tearDown() {
+		if (watcher != null) {
+			watcher.stop();
+		}
+	}
+
+	private void startWatching() throws IOException {
+		watcher = new WorkspaceFolderWatcher(settings, (changedPomFiles, removedPaths, rescannedFolders) -> {
+			// Applied to the workspace the way the extension does
+			removedPaths.forEach(path -> reader.remove(path.toUri()));
+			reader.updateInWorkspace(changedPomFiles.stream().map(Path::toUri).toList(), null);
+			changes.add(new Change(changedPomFiles, removedPaths, rescannedFolders));
+		});
+		watcher.start();
+		watcher.addRoot(folder);
+	}
+
+	private static Path writePom(Path directory, String artifactId) throws IOException {
+		Files.createDirectories(directory);
+		return Files.writeString(directory.resolve("pom.xml"), """
+				<project>
+					<groupId>org.test</groupId>
+					<artifactId>%s</artifactId>
+					<version>1.0</version>
+				</project>
+				""".formatted(artifactId));
+	}
+
+	private Change awaitChange() throws InterruptedException {
+		Change change = changes.poll(10, TimeUnit.SECONDS);
+		assertNotNull(change, "No change reported");
+		return change;
+	}
+
+	private Path findArtifact(String artifactId) {
+		// Waits for the workspace to be processed
+		File pomFile = reader.findArtifact(new DefaultArtifact("org.test", artifactId, "pom", "1.0"));
+		return pomFile != null ? pomFile.toPath() : null;
+	}
+
+	@Test
+	public void testChangedPomFilesAreCoalesced() throws Exception {
+		Path pomFile = writePom(folder, "project");
+		startWatching();
+
+		// A burst of writes is reported once
+		for (int i = 0; i < 5; i++) {
+			writePom(folder, "project-" + i);
+		}
+		Change change = awaitChange();
+		assertEquals(Set.of(pomFile), change.changedPomFiles());
+		assertTrue(change.removedPaths().isEmpty());
+		assertEquals(pomFile, findArtifact("project-4"));
+		assertNull(changes.poll(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testCreatedAndRemovedModules() throws Exception {
+		startWatching();
+
+		// A new folder is watched and scanned for pom.xml files
+		Path module = folder.resolve("module");
+		Path nestedPom = writePom(module.resolve("nested"), "nested");
+		Change change = awaitChange();
+		assertTrue(change.rescannedFolders().contains(module));
+		assertEquals(Set.of(nestedPom), change.changedPomFiles());
+		assertEquals(nestedPom, findArtifact("nested"));
+
+		Path modulePom = writePom(module, "module");
+		assertEquals(Set.of(modulePom), awaitChange().changedPomFiles());
+		assertEquals(modulePom, findArtifact("module"));
+
+		Files.delete(modulePom);
+		change = awaitChange();
+		assertEquals(Set.of(modulePom), change.removedPaths());
+		assertNull(findArtifact("module"));
+		assertEquals(nestedPom, findArtifact("nested"));
+	}
+
+	@Test
+	public void testTargetFolderIsIgnored() throws Exception {
+		startWatching();
+
+		writePom(folder.resolve("target/classes"), "generated");
+		Path pomFile = writePom(folder, "project");
+		Change change = awaitChange();
+		assertEquals(Set.of(pomFile), change.changedPomFiles());
+		assertNull(findArtifact("generated"));
+	}
+
+	@Test
+	public void testFoldersSkippedByTheWalkerAreNotWatched() throws Exception {
+		settings.setMaxDepth(3);
+		Files.writeString(folder.resolve(".gitignore"), "generated/\n");
+		for (String path : List.of("node_modules/package", "generated", "a/b/c")) {
+			Files.createDirectories(folder.resolve(path));
+		}
+		startWatching();
+
+		writePom(folder.resolve("node_modules/package"), "package");
+		writePom(folder.resolve("generated"), "generated");
+		// Deeper than the maximum depth
+		writePom(folder.resolve("a/b/c"), "c");
+		// A new folder, with an excluded subfolder
+		writePom(folder.resolve("new/node_modules/package"), "new-package");
+		Path pomFile = writePom(folder.resolve("a/b"), "b");
+		Change change = awaitChange();
+		assertEquals(Set.of(pomFile), change.changedPomFiles());
+		assertEquals(Set.of(folder.resolve("new")), change.rescannedFolders());
+	}
+}
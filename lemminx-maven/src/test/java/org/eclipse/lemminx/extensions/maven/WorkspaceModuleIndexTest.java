@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.maven.model.Dependency;
+import org.eclipse.lemminx.extensions.maven.settings.XMLMavenWorkspaceSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WorkspaceModuleIndexTest {
+
+	@TempDir
+	Path folder;
+
+	private final XMLMavenWorkspaceSettings settings = new XMLMavenWorkspaceSettings();
+
+	private static Path writePom(Path directory, String artifactId) throws IOException {
+		Files.createDirectories(directory);
+		return Files.writeString(directory.resolve("pom.xml"), """
+				<project>
+					<groupId>org.test</groupId>
+					<artifactId>%s</artifactId>
+					<version>1.0</version>
+				</project>
+				""".formatted(artifactId));
+	}
+
+	/*
+	 * Makes sure that a changed file or folder doesn't keep its modification time,
+	 * whatever the precision of the file system clock
+	 */
+	private static void touch(Path path) throws IOException {
+		FileTime lastModified = Files.getLastModifiedTime(path);
+		Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified.toMillis() + 2_000));
+	}
+
+	private static List<String> artifactIds(Map<Path, Dependency> gavs) {
+		return gavs.values().stream().map(Dependency::getArtifactId).sorted().toList();
+	}
+
+	private Path createWorkspace() throws IOException {
+		Path workspace = folder.resolve("workspace");
+		writePom(workspace, "parent");
+		writePom(workspace.resolve("a"), "a");
+		writePom(workspace.resolve("b"), "b");
+		return workspace;
+	}
+
+	@Test
+	public void testStoredIndexIsReused() throws IOException {
+		Path workspace = createWorkspace();
+		Path indexDirectory = folder.resolve("index");
+		WorkspaceModuleIndex index = WorkspaceModuleIndex.load(workspace, indexDirectory);
+		assertEquals(List.of("a", "b", "parent"), artifactIds(index.scan(settings)));
+		assertEquals(3, index.getListedFolders());
+		assertEquals(3, index.getParsedFiles());
+		index.save();
+
+		WorkspaceModuleIndex reloaded = WorkspaceModuleIndex.load(workspace, indexDirectory);
+		assertEquals(List.of("a", "b", "parent"), artifactIds(reloaded.scan(settings)));
+		assertEquals(0, reloaded.getListedFolders());
+		assertEquals(0, reloaded.getParsedFiles());
+	}
+
+	@Test
+	public void testChangesAreScanned() throws IOException {
+		Path workspace = createWorkspace();
+		WorkspaceModuleIndex index = WorkspaceModuleIndex.load(workspace, folder.resolve("index"));
+		index.scan(settings);
+
+		// A changed pom.xml file is parsed again
+		Path pomFile = writePom(workspace.resolve("a"), "a-renamed");
+		touch(pomFile);
+		// A new module is found by listing its parent folder again
+		writePom(workspace.resolve("c"), "c");
+		touch(workspace);
+		assertEquals(List.of("a-renamed", "b", "c", "parent"), artifactIds(index.scan(settings)));
+		assertEquals(2, index.getListedFolders());
+		assertEquals(2, index.getParsedFiles());
+
+		// A removed module is no longer found
+		Files.delete(workspace.resolve("b/pom.xml"));
+		touch(workspace.resolve("b"));
+		assertEquals(List.of("a-renamed", "c", "parent"), artifactIds(index.scan(settings)));
+		assertEquals(1, index.getListedFolders());
+		assertEquals(0, index.getParsedFiles());
+	}
+
+	@Test
+	public void testInvalidIndexIsIgnored() throws IOException {
+		Path workspace = createWorkspace();
+		Path indexDirectory = folder.resolve("index");
+		WorkspaceModuleIndex index = WorkspaceModuleIndex.load(workspace, indexDirectory);
+		index.scan(settings);
+		index.save();
+		try (Stream<Path> files = Files.list(indexDirectory)) {
+			for (Path indexFile : files.toList()) {
+				Files.writeString(indexFile, "corrupted");
+			}
+		}
+
+		WorkspaceModuleIndex reloaded = WorkspaceModuleIndex.load(workspace, indexDirectory);
+		assertEquals(List.of("a", "b", "parent"), artifactIds(reloaded.scan(settings)));
+		assertEquals(3, reloaded.getListedFolders());
+		assertEquals(3, reloaded.getParsedFiles());
+	}
+
+	@Test
+	public void testIndexedProjectsAreAddedToTheGraph() throws IOException {
+		Path workspace = folder.resolve("workspace");
+		Files.createDirectories(workspace);
+		Path parentFile = Files.writeString(workspace.resolve("pom.xml"), """
+				<project>
+					<groupId>org.test</groupId>
+					<artifactId>parent</artifactId>
+					<version>1.0</version>
+					<packaging>pom</packaging>
+					<modules>
+						<module>module</module>
+					</modules>
+				</project>
+				""");
+		Files.createDirectories(workspace.resolve("module"));
+		Path moduleFile = Files.writeString(workspace.resolve("module/pom.xml"), """
+				<project>
+					<parent>
+						<groupId>org.test</groupId>
+						<artifactId>parent</artifactId>
+						<version>1.0</version>
+					</parent>
+					<artifactId>module</artifactId>
+				</project>
+				""");
+		Path indexDirectory = folder.resolve("index");
+		WorkspaceModuleIndex index = WorkspaceModuleIndex.load(workspace, indexDirectory);
+		index.scan(settings);
+		index.save();
+
+		// The parents and the modules are stored with the coordinates
+		WorkspaceModuleIndex reloaded = WorkspaceModuleIndex.load(workspace, indexDirectory);
+		reloaded.scan(settings);
+		assertEquals(0, reloaded.getParsedFiles());
+		WorkspaceProjectGraph graph = new WorkspaceProjectGraph();
+		reloaded.updateGraph(graph);
+		File parent = parentFile.toFile().getAbsoluteFile();
+		File module = moduleFile.toFile().getAbsoluteFile();
+		assertEquals(parent, graph.getParent(module));
+		assertEquals(List.of(module), graph.getModules(parent));
+		assertEquals(Set.of(module), graph.getDownstream(parent));
+	}
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Parent;
+import org.junit.jupiter.api.Test;
+
+public class WorkspaceProjectGraphTest {
+
+	private static final File ROOT = new File("/workspace").getAbsoluteFile();
+
+	private static File pom(String folder) {
+		return new File(new File(ROOT, folder), "pom.xml");
+	}
+
+	private static void put(WorkspaceProjectGraph graph, String folder, String parentFolder, String... modules) {
+		Dependency artifact = new Dependency();
+		artifact.setGroupId("org.test");
+		artifact.setArtifactId(folder);
+		artifact.setVersion("1.0");
+		Parent parent = null;
+		if (parentFolder != null) {
+			parent = new Parent();
+			parent.setGroupId("org.test");
+			parent.setArtifactId(parentFolder);
+			parent.setVersion("1.0");
+		}
+		graph.put(pom(folder), artifact, parent, List.of(modules));
+	}
+
+	@Test
+	public void testParentsFirst() {
+		WorkspaceProjectGraph graph = new WorkspaceProjectGraph();
+		put(graph, "child", "parent");
+		put(graph, "grandchild", "child");
+		put(graph, "parent", null);
+		File unknown = pom("unknown");
+		assertEquals(List.of(pom("parent"), pom("child"), pom("grandchild"), unknown),
+				graph.sort(List.of(pom("grandchild"), unknown, pom("child"), pom("parent"))));
+		assertEquals(Set.of(pom("child"), pom("grandchild")), graph.getDownstream(pom("parent")));
+	}
+
+	@Test
+	public void testModulesConflictingWithParents() {
+		// The aggregator inherits from one of its modules
+		WorkspaceProjectGraph graph = new WorkspaceProjectGraph();
+		put(graph, "aggregator", "parent", "../parent", "../module");
+		put(graph, "parent", null);
+		put(graph, "module", "parent");
+		assertEquals(List.of(pom("parent"), pom("aggregator"), pom("module")),
+				graph.sort(List.of(pom("module"), pom("aggregator"), pom("parent"))));
+		assertEquals(Set.of(pom("aggregator")), graph.getAggregators(pom("module")));
+	}
+
+	@Test
+	public void testCycle() {
+		WorkspaceProjectGraph graph = new WorkspaceProjectGraph();
+		put(graph, "a", "b");
+		put(graph, "b", "a");
+		put(graph, "c", "a");
+		List<File> sorted = graph.sort(List.of(pom("c"), pom("b"), pom("a")));
+		assertEquals(3, sorted.size());
+		assertEquals(pom("c"), sorted.get(2));
+		List<List<File>> cycles = graph.findCycles();
+		assertEquals(1, cycles.size());
+		assertTrue(cycles.get(0).containsAll(List.of(pom("a"), pom("b"))));
+
+		graph.remove(pom("b"));
+		assertEquals(Collections.emptyList(), graph.findCycles());
+	}
+
+	@Test
+	public void testDeepHierarchy() {
+		WorkspaceProjectGraph graph = new WorkspaceProjectGraph();
+		int depth = 10_000;
+		put(graph, "p0", null);
+		for (int i = 1; i < depth; i++) {
+			put(graph, "p" + i, "p" + (i - 1));
+		}
+		List<File> files = new ArrayList<>();
+		for (int i = depth - 1; i >= 0; i--) {
+			files.add(pom("p" + i));
+		}
+		List<File> sorted = graph.sort(files);
+		for (int i = 0; i < depth; i++) {
+			assertEquals(pom("p" + i), sorted.get(i));
+		}
+	}
+}
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import org.eclipse.aether.artifact.Artifact;
@@ -68,6 +69,27 @@ public class LocalRepoTests {
 				.getItems().stream().map(CompletionItem::getLabel).anyMatch(label -> label.contains("org.apache.maven")));
 	}
 
+	@Test
+	@Timeout(90000)
+	public void testCompleteLocalGroupIdPrefix()
+			throws IOException, InterruptedException, ExecutionException, URISyntaxException {
+		List<String> labels = languageService.doComplete(createDOMDocument("/pom-local-groupId-prefix-complete.xml", languageService), new Position(11, 24), new SharedSettings())
+				.getItems().stream().map(CompletionItem::getLabel).toList();
+		assertTrue(labels.stream().anyMatch(label -> label.contains("org.apache.maven")));
+		assertTrue(labels.stream().noneMatch(label -> label.startsWith("org.codehaus")));
+	}
+
+	@Test
+	@Timeout(90000)
+	public void testCompleteLocalGroupIdSegmentPrefix()
+			throws IOException, InterruptedException, ExecutionException, URISyntaxException {
+		// The typed text matches a non-leading segment of the groupId
+		List<String> labels = languageService.doComplete(createDOMDocument("/pom-local-groupId-segment-complete.xml", languageService), new Position(11, 17), new SharedSettings())
+				.getItems().stream().map(CompletionItem::getLabel).toList();
+		assertTrue(labels.stream().anyMatch(label -> label.contains("org.apache.maven")));
+		assertTrue(labels.stream().noneMatch(label -> label.startsWith("org.codehaus.plexus")));
+	}
+
 	@Test
 	@Timeout(90000)
 	public void testDoNotCompleteNonExistingArtifact()
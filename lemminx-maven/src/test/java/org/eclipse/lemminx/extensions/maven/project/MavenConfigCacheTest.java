@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.eclipse.lemminx.extensions.maven.project.MavenConfigCache.MavenConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenConfigCacheTest {
+
+	@TempDir
+	Path folder;
+
+	private final MavenConfigCache cache = new MavenConfigCache();
+
+	private File writeMavenConfig(String content) throws IOException {
+		Path mavenConfig = folder.resolve(".mvn/maven.config");
+		Files.createDirectories(mavenConfig.getParent());
+		return Files.writeString(mavenConfig, content).toFile();
+	}
+
+	@Test
+	public void testMultiModuleProjectDirectory() throws IOException {
+		File module = Files.createDirectories(folder.resolve("module")).toFile();
+		assertNull(cache.getMultiModuleProjectDirectory(module));
+
+		Files.createDirectories(folder.resolve(".mvn"));
+		cache.clear();
+		assertEquals(folder.toFile(), cache.getMultiModuleProjectDirectory(module));
+
+		// A cached root is checked for its .mvn folder
+		Files.delete(folder.resolve(".mvn"));
+		assertNull(cache.getMultiModuleProjectDirectory(module));
+	}
+
+	@Test
+	public void testMavenConfigIsParsedOnce() throws IOException {
+		writeMavenConfig("-Dfoo=bar\n-Pactive,!inactive\n");
+
+		MavenConfig mavenConfig = cache.getMavenConfig(folder.toFile());
+		assertSame(mavenConfig, cache.getMavenConfig(folder.toFile()));
+		assertNull(mavenConfig.getProblem());
+
+		ProjectBuildingRequest request = new DefaultProjectBuildingRequest();
+		mavenConfig.applyTo(request);
+		assertEquals("bar", request.getUserProperties().getProperty("foo"));
+		assertEquals(List.of("active"), request.getActiveProfileIds());
+		assertEquals(List.of("inactive"), request.getInactiveProfileIds());
+	}
+
+	@Test
+	public void testChangedMavenConfigIsParsedAgain() throws IOException {
+		File file = writeMavenConfig("-Dfoo=bar\n");
+		MavenConfig mavenConfig = cache.getMavenConfig(folder.toFile());
+
+		writeMavenConfig("-Dfoo=changed\n");
+		file.setLastModified(file.lastModified() + 2_000);
+		MavenConfig changed = cache.getMavenConfig(folder.toFile());
+		assertNotSame(mavenConfig, changed);
+		ProjectBuildingRequest request = new DefaultProjectBuildingRequest();
+		changed.applyTo(request);
+		assertEquals("changed", request.getUserProperties().getProperty("foo"));
+
+		Files.delete(file.toPath());
+		assertNull(cache.getMavenConfig(folder.toFile()).getFile());
+	}
+}
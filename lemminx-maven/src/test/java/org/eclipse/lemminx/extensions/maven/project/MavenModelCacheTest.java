@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.maven.model.building.ModelCache;
+import org.eclipse.aether.artifact.Artifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenModelCacheTest {
+
+	@TempDir
+	Path folder;
+
+	private final Map<String, File> workspace = new HashMap<>();
+	private final MavenModelCache modelCache = new MavenModelCache(null,
+			(Artifact artifact) -> workspace.get(artifact.getArtifactId()), 10);
+
+	private File addPom(String artifactId) throws IOException {
+		File pomFile = Files.writeString(folder.resolve(artifactId + ".xml"), "<project/>").toFile();
+		workspace.put(artifactId, pomFile);
+		return pomFile;
+	}
+
+	private static void change(File pomFile) throws IOException {
+		Files.writeString(pomFile.toPath(), "<project><!-- changed --></project>");
+	}
+
+	@Test
+	public void testUnchangedModelIsCached() throws IOException {
+		addPom("parent");
+		modelCache.createCache(null).put("org.test", "parent", "1.0", "raw", "parent model");
+
+		assertEquals("parent model", modelCache.createCache(null).get("org.test", "parent", "1.0", "raw"));
+		assertEquals(1, modelCache.size());
+		assertEquals(1, modelCache.getHitCount());
+	}
+
+	@Test
+	public void testChangedParentIsEvicted() throws IOException {
+		File parent = addPom("parent");
+		modelCache.createCache(null).put("org.test", "parent", "1.0", "raw", "parent model");
+
+		ModelCache build = modelCache.createCache(null);
+		assertEquals("parent model", build.get("org.test", "parent", "1.0", "raw"));
+		change(parent);
+		// Checked once per build request
+		assertEquals("parent model", build.get("org.test", "parent", "1.0", "raw"));
+
+		assertNull(modelCache.createCache(null).get("org.test", "parent", "1.0", "raw"));
+		assertEquals(0, modelCache.size());
+	}
+
+	@Test
+	public void testImportedBomIsEvictedWithChangedParent() throws IOException {
+		File bomParent = addPom("bom-parent");
+		addPom("bom");
+		ModelCache build = modelCache.createCache(null);
+		build.put("org.test", "bom-parent", "1.0", "raw", "BOM parent model");
+		build.put("org.test", "bom", "1.0", "import", "BOM dependency management");
+
+		assertEquals("BOM dependency management", modelCache.createCache(null).get("org.test", "bom", "1.0", "import"));
+
+		change(bomParent);
+		assertNull(modelCache.createCache(null).get("org.test", "bom", "1.0", "import"));
+	}
+
+	@Test
+	public void testUnlocatedModelIsNotCached() {
+		modelCache.createCache(null).put("org.test", "unknown", "1.0", "raw", "unknown model");
+
+		assertNull(modelCache.createCache(null).get("org.test", "unknown", "1.0", "raw"));
+		assertEquals(0, modelCache.size());
+	}
+}
@@ -9,42 +9,71 @@
 package org.eclipse.lemminx.extensions.maven.project;
 
 import static org.eclipse.lemminx.extensions.maven.utils.MavenLemminxTestsUtils.createDOMDocument;
+import static org.eclipse.lemminx.extensions.maven.utils.URIUtils.toURIString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.maven.model.building.FileModelSource;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.repository.internal.DefaultModelCacheFactory;
+import org.apache.maven.repository.internal.ModelCacheFactory;
+import org.codehaus.plexus.PlexusContainer;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.impl.ArtifactDescriptorReader;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
 import org.eclipse.lemminx.extensions.maven.MavenLanguageService;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxWorkspaceReader;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.MavenWorkspaceService;
 import org.eclipse.lemminx.extensions.maven.NoMavenCentralExtension;
+import org.eclipse.lemminx.extensions.maven.project.MavenProjectCache.ProjectBuildManager;
+import org.eclipse.lemminx.services.IXMLDocumentProvider;
 import org.eclipse.lemminx.services.extensions.IWorkspaceServiceParticipant;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DidChangeWorkspaceFoldersParams;
+import org.eclipse.lsp4j.InitializeParams;
 import org.eclipse.lsp4j.WorkspaceFolder;
 import org.eclipse.lsp4j.WorkspaceFoldersChangeEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
 @ExtendWith(NoMavenCentralExtension.class)
 public class MavenProjectCacheTest {
 	private static MavenLanguageService languageService;
+
+	@TempDir
+	Path folder;
 	
 	@BeforeEach
 	public void setUp() {
@@ -231,6 +260,615 @@ public class MavenProjectCacheTest {
 		assertEquals(projectByNormilizedURL, snapshotProjectByNormilizedURL);
 	}
 	
+	@Test
+	public void testConcurrentBuilds() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null, languageService);
+		MavenProjectCache cache = plugin.getProjectCache();
+
+		writeParentPom(folder);
+		List<File> children = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			children.add(writeChildPom(folder.resolve("child" + i), "child" + i));
+		}
+		// The builds are requested at once, so they're run and completed concurrently
+		List<CompletableFuture<LoadedMavenProject>> builds = children.parallelStream()
+				.map(cache::getLoadedMavenProject).toList();
+		for (int i = 0; i < children.size(); i++) {
+			MavenProject project = builds.get(i).get(30, TimeUnit.SECONDS).getMavenProject();
+			assertNotNull(project);
+			assertEquals("child" + i, project.getArtifactId());
+			assertEquals("parent", project.getProperties().getProperty("parentProperty"));
+		}
+	}
+
+	@Test
+	public void testParentIsBuiltBeforeChild() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null, languageService);
+		ProjectBuildManager buildManager = plugin.getProjectCache().getProjectBuildManager();
+
+		File parentFile = writeParentPom(folder);
+		File childFile = writeChildPom(folder.resolve("child"), "child");
+		assertParentIsBuiltBeforeChild(buildManager, parentFile, childFile);
+	}
+
+	@Test
+	public void testParentIsFoundByCoordinates() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null, languageService);
+		ProjectBuildManager buildManager = plugin.getProjectCache().getProjectBuildManager();
+
+		// The parent is located in a sibling folder, not at the relative path of the child
+		File parentFile = writeParentPom(folder.resolve("parent"));
+		File childFile = writeChildPom(folder.resolve("child"), "child");
+		MavenLemminxWorkspaceReader workspaceReader = (MavenLemminxWorkspaceReader) plugin.getMavenSession()
+				.getRequest().getWorkspaceReader();
+		workspaceReader.addToWorkspace(List.of(parentFile.toURI()));
+		Artifact parentArtifact = new DefaultArtifact("org.test", "parent", "pom", "1.0");
+		workspaceReader.findArtifact(parentArtifact);
+		assertNotNull(workspaceReader.findCurrentWorkspaceArtifact(parentArtifact));
+
+		assertParentIsBuiltBeforeChild(buildManager, parentFile, childFile);
+	}
+
+	/*
+	 * Builds a child while its parent build is queued, and checks that the child
+	 * build waits for the parent build
+	 */
+	private static void assertParentIsBuiltBeforeChild(ProjectBuildManager buildManager, File parentFile,
+			File childFile) throws Exception {
+		CountDownLatch childGate = new CountDownLatch(1);
+		CountDownLatch parentGate = new CountDownLatch(1);
+		// The parent source is read once for its raw model, then for its build
+		CountDownLatch parentReads = new CountDownLatch(2);
+		CompletableFuture<LoadedMavenProject> child = buildManager.build(toURIString(childFile),
+				new GatedModelSource(childFile, childGate));
+		CompletableFuture<LoadedMavenProject> parent = buildManager.build(toURIString(parentFile),
+				new GatedModelSource(parentFile, parentGate, parentReads));
+		CompletableFuture<Boolean> parentBuiltFirst = child.handle((project, error) -> parent.isDone());
+
+		// The child build finds its parent queued, so it waits for the parent build
+		// which is blocked until the parent gate is open
+		childGate.countDown();
+		assertTrue(parentReads.await(30, TimeUnit.SECONDS));
+		assertFalse(child.isDone());
+		assertFalse(parent.isDone());
+
+		parentGate.countDown();
+		MavenProject project = child.get(30, TimeUnit.SECONDS).getMavenProject();
+		assertTrue(parentBuiltFirst.get());
+		assertNotNull(project);
+		assertEquals("parent", project.getProperties().getProperty("parentProperty"));
+	}
+
+	@Test
+	public void testMoreUrgentBuildIsStartedFirst() throws Exception {
+		ProjectBuildManager buildManager = createSingleWorkerBuildManager();
+		CountDownLatch gate = occupyWorker(buildManager);
+
+		List<String> started = Collections.synchronizedList(new ArrayList<>());
+		CompletableFuture<LoadedMavenProject> background = build(buildManager, "background",
+				BuildPriority.BACKGROUND, started);
+		CompletableFuture<LoadedMavenProject> dependent = build(buildManager, "dependent",
+				BuildPriority.DEPENDENT, started);
+		CompletableFuture<LoadedMavenProject> active = build(buildManager, "active",
+				BuildPriority.ACTIVE_EDITOR, started);
+		// A queued build requested again is promoted
+		File promotedFile = folder.resolve("background/pom.xml").toFile();
+		buildManager.build(toURIString(promotedFile), new FileModelSource(promotedFile), null,
+				BuildPriority.OPEN_DOCUMENT);
+
+		gate.countDown();
+		CompletableFuture.allOf(background, dependent, active).get(30, TimeUnit.SECONDS);
+		assertEquals(List.of("active", "background", "dependent"), started);
+	}
+
+	@Test
+	public void testWaitingBuildIsNotStarved() throws Exception {
+		ProjectBuildManager buildManager = createSingleWorkerBuildManager();
+		CountDownLatch gate = occupyWorker(buildManager);
+
+		List<String> started = Collections.synchronizedList(new ArrayList<>());
+		CompletableFuture<LoadedMavenProject> open = build(buildManager, "open", BuildPriority.OPEN_DOCUMENT,
+				started);
+		// Once the maximum delay of its class is over, the build overtakes the more urgent ones
+		Thread.sleep(BuildPriority.OPEN_DOCUMENT.getMaximumDelay() + 200);
+		CompletableFuture<LoadedMavenProject> active = build(buildManager, "active", BuildPriority.ACTIVE_EDITOR,
+				started);
+
+		gate.countDown();
+		CompletableFuture.allOf(open, active).get(30, TimeUnit.SECONDS);
+		assertEquals(List.of("open", "active"), started);
+	}
+
+	@Test
+	public void testRawModelIsPublishedBeforeEffectiveBuild() throws Exception {
+		ProjectBuildManager buildManager = createSingleWorkerBuildManager();
+		CountDownLatch gate = occupyWorker(buildManager);
+
+		writeParentPom(folder);
+		File childFile = writeChildPom(folder.resolve("child"), "child");
+		CompletableFuture<LoadedMavenProject> raw = new CompletableFuture<>();
+		CompletableFuture<LoadedMavenProject> effective = buildManager.build(toURIString(childFile),
+				new FileModelSource(childFile), raw, BuildPriority.ACTIVE_EDITOR);
+
+		// The raw model is read while the only worker is busy
+		LoadedMavenProject rawProject = raw.get(30, TimeUnit.SECONDS);
+		assertFalse(effective.isDone());
+		assertEquals(MavenProjectTier.RAW, rawProject.getTier());
+		assertEquals("child", rawProject.getMavenProject().getArtifactId());
+		assertNull(rawProject.getMavenProject().getProperties().getProperty("parentProperty"));
+
+		gate.countDown();
+		LoadedMavenProject effectiveProject = effective.get(30, TimeUnit.SECONDS);
+		assertEquals(MavenProjectTier.EFFECTIVE, effectiveProject.getTier());
+		assertEquals("parent", effectiveProject.getMavenProject().getProperties().getProperty("parentProperty"));
+	}
+
+	@Test
+	public void testConsumerIsServedWithItsMinimumTier() throws Exception {
+		ProjectBuildManager buildManager = createSingleWorkerBuildManager();
+		CountDownLatch gate = occupyWorker(buildManager);
+
+		writeParentPom(folder);
+		File childFile = writeChildPom(folder.resolve("child"), "child");
+		IXMLDocumentProvider documentProvider = new IXMLDocumentProvider() {
+
+			@Override
+			public DOMDocument getDocument(String uri) {
+				return null;
+			}
+		};
+		LoadedMavenProjectProvider provider = new LoadedMavenProjectProvider(toURIString(childFile),
+				documentProvider, buildManager, null, 0);
+		IMavenProjectConsumer rawConsumer = () -> MavenProjectTier.RAW;
+		IMavenProjectConsumer effectiveConsumer = () -> MavenProjectTier.EFFECTIVE;
+		CompletableFuture<LoadedMavenProject> effective = provider
+				.getLoadedMavenProject(effectiveConsumer.getMinimumProjectTier());
+
+		// A consumer satisfied by the raw model doesn't wait for the effective build
+		LoadedMavenProject raw = provider.getLoadedMavenProject(rawConsumer.getMinimumProjectTier())
+				.get(30, TimeUnit.SECONDS);
+		assertFalse(effective.isDone());
+		assertTrue(raw.getTier().satisfies(rawConsumer.getMinimumProjectTier()));
+		assertFalse(raw.getTier().satisfies(effectiveConsumer.getMinimumProjectTier()));
+
+		gate.countDown();
+		LoadedMavenProject built = effective.get(30, TimeUnit.SECONDS);
+		assertTrue(built.getTier().satisfies(effectiveConsumer.getMinimumProjectTier()));
+		// Once built, the effective project also serves the raw consumers
+		assertSame(built, provider.getLoadedMavenProject(rawConsumer.getMinimumProjectTier()).getNow(null));
+	}
+
+	/*
+	 * A build manager with a single worker builds the projects one at a time, so
+	 * the builds are started in the queue order
+	 */
+	private static ProjectBuildManager createSingleWorkerBuildManager() {
+		return startWithBuildSettings(Map.of("workers", 1)).getProjectCache().getProjectBuildManager();
+	}
+
+	/*
+	 * Waits for the single worker of the build manager to complete the builds
+	 * already queued, including the listeners of the built projects, by building
+	 * one more project
+	 */
+	private void awaitBuildWorker(MavenProjectCache cache) throws Exception {
+		File pomFile = writeProjectPom(folder.resolve("barrier"), "barrier");
+		cache.getLoadedMavenProject(pomFile).get(30, TimeUnit.SECONDS);
+	}
+
+	/*
+	 * Keeps the worker of the build manager busy until the returned gate is open
+	 */
+	private CountDownLatch occupyWorker(ProjectBuildManager buildManager) throws Exception {
+		CountDownLatch gate = new CountDownLatch(1);
+		File pomFile = writeProjectPom(folder.resolve("blocker"), "blocker");
+		buildManager.build(toURIString(pomFile), new GatedModelSource(pomFile, gate), null,
+				BuildPriority.ACTIVE_EDITOR);
+		for (int i = 0; i < 100 && buildManager.getQueueDepths().values().stream().anyMatch(depth -> depth > 0); i++) {
+			Thread.sleep(50);
+		}
+		return gate;
+	}
+
+	private CompletableFuture<LoadedMavenProject> build(ProjectBuildManager buildManager, String artifactId,
+			BuildPriority priority, List<String> started) throws IOException {
+		File pomFile = writeProjectPom(folder.resolve(artifactId), artifactId);
+		CompletableFuture<LoadedMavenProject> future = buildManager.build(toURIString(pomFile),
+				new FileModelSource(pomFile), null, priority);
+		// The builds are completed by the single worker in the order they're started
+		future.whenComplete((project, error) -> started.add(artifactId));
+		return future;
+	}
+
+	@Test
+	public void testEditedDocumentRebuildIsDebounced() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null, languageService);
+		ProjectBuildManager buildManager = plugin.getProjectCache().getProjectBuildManager();
+
+		File pomFile = writeParentPom(folder);
+		Map<String, DOMDocument> documents = new HashMap<>();
+		IXMLDocumentProvider documentProvider = new IXMLDocumentProvider() {
+
+			@Override
+			public DOMDocument getDocument(String uri) {
+				return documents.get(uri);
+			}
+		};
+		String uri = toURIString(pomFile);
+		documents.put(uri, createDocument(uri, "v1", 1));
+		LoadedMavenProjectProvider provider = new LoadedMavenProjectProvider(uri, documentProvider, buildManager,
+				null, 1000);
+		// The first build is not debounced
+		LoadedMavenProject built = provider.getLoadedMavenProject().get(30, TimeUnit.SECONDS);
+		assertEquals("v1", built.getMavenProject().getProperties().getProperty("parentProperty"));
+
+		// A burst of edits only rebuilds the last version, once the document is
+		// stable for the debounce delay
+		CompletableFuture<LoadedMavenProject> rebuilt = null;
+		for (int version = 2; version <= 4; version++) {
+			documents.put(uri, createDocument(uri, "v" + version, version));
+			rebuilt = provider.getLoadedMavenProject();
+		}
+		long lastEdit = System.currentTimeMillis();
+		assertFalse(rebuilt.isDone());
+
+		// The last built project is served, marked as stale, while debouncing
+		LoadedMavenProject stale = provider.getLastLoadedMavenProject();
+		assertTrue(stale.isStale());
+		assertEquals("v1", stale.getMavenProject().getProperties().getProperty("parentProperty"));
+
+		LoadedMavenProject latest = rebuilt.get(30, TimeUnit.SECONDS);
+		assertTrue(System.currentTimeMillis() - lastEdit >= 900);
+		assertFalse(latest.isStale());
+		assertEquals("v4", latest.getMavenProject().getProperties().getProperty("parentProperty"));
+		assertEquals(latest, provider.getLastLoadedMavenProject());
+	}
+
+	@Test
+	public void testSavedParentChangeReflectedToChild() throws Exception {
+		MavenProjectCache cache = startWithBuildSettings(Map.of("workers", 1)).getProjectCache();
+
+		File parentFile = writeParentPom(folder);
+		File childFile = writeChildPom(folder.resolve("child"), "child");
+		CompletableFuture<LoadedMavenProject> child = cache.getLoadedMavenProject(childFile);
+		assertEquals("parent", child.get(30, TimeUnit.SECONDS).getMavenProject().getProperties()
+				.getProperty("parentProperty"));
+
+		// The child reads its parent from the disk, so the parent edits don't rebuild it
+		DOMDocument parent = createDocument(toURIString(parentFile), "edited", 2);
+		languageService.didOpen(parent);
+		assertEquals("edited", cache.getLastSuccessfulMavenProject(parent).getProperties()
+				.getProperty("parentProperty"));
+		awaitBuildWorker(cache);
+		assertSame(child, cache.getLoadedMavenProject(childFile));
+
+		// Saving the parent rebuilds the child
+		Files.writeString(parentFile.toPath(), parent.getText());
+		cache.fileChanged(parentFile);
+		MavenProject rebuiltChild = cache.getLastSuccessfulMavenProject(childFile);
+		assertEquals("edited", rebuiltChild.getProperties().getProperty("parentProperty"));
+	}
+
+	@Test
+	public void testCachedProjectIsNotBuilt() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null, languageService);
+		MavenProjectCache cache = plugin.getProjectCache();
+
+		File pomFile = writeParentPom(folder);
+		assertNull(cache.getCachedMavenProject(pomFile));
+		assertTrue(cache.getBuildQueueDepths().values().stream().allMatch(depth -> depth == 0));
+
+		// A project built from a closed file is found
+		MavenProject project = cache.getLoadedMavenProject(pomFile).get(30, TimeUnit.SECONDS).getMavenProject();
+		assertSame(project, cache.getCachedMavenProject(pomFile));
+	}
+
+	@Test
+	public void testSnapshotProjectIsCached() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null, languageService);
+		MavenProjectCache cache = plugin.getProjectCache();
+
+		File parentFile = writeParentPom(folder);
+		DOMDocument parent = createDocument(toURIString(parentFile), "parent", 1);
+		MavenProject snapshot = cache.getSnapshotProject(parent, null, false);
+		assertEquals("parent", snapshot.getProperties().getProperty("parentProperty"));
+		assertSame(snapshot, cache.getSnapshotProject(parent, null, false));
+
+		// A new version of the document
+		DOMDocument editedParent = createDocument(toURIString(parentFile), "edited", 2);
+		MavenProject editedSnapshot = cache.getSnapshotProject(editedParent, null, false);
+		assertNotSame(snapshot, editedSnapshot);
+		assertEquals("edited", editedSnapshot.getProperties().getProperty("parentProperty"));
+		assertSame(editedSnapshot, cache.getSnapshotProject(editedParent, null, false));
+
+		// The same version of the document with a changed file
+		parentFile.setLastModified(parentFile.lastModified() + 2_000);
+		assertNotSame(editedSnapshot, cache.getSnapshotProject(editedParent, null, false));
+
+		// The snapshot requests are counted apart from the project builds
+		MavenProjectCacheStatistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.getSnapshotHitCount());
+		assertEquals(3, statistics.getSnapshotMissCount());
+	}
+
+	@Test
+	public void testSnapshotProjectIsInvalidatedByParentChange() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null, languageService);
+		MavenProjectCache cache = plugin.getProjectCache();
+
+		File parentFile = writeParentPom(folder);
+		File childFile = writeChildPom(folder.resolve("child"), "child");
+		// The built child is known to depend on its parent
+		cache.getLoadedMavenProject(childFile).get(30, TimeUnit.SECONDS);
+		TextDocument textDocument = new TextDocument(Files.readString(childFile.toPath()), toURIString(childFile));
+		textDocument.setVersion(1);
+		DOMDocument child = new DOMDocument(textDocument, null);
+		MavenProject snapshot = cache.getSnapshotProject(child, null, false);
+		assertEquals("parent", snapshot.getProperties().getProperty("parentProperty"));
+		assertSame(snapshot, cache.getSnapshotProject(child, null, false));
+
+		Files.writeString(parentFile.toPath(), createDocument(toURIString(parentFile), "saved", 1).getText());
+		cache.fileChanged(parentFile);
+		MavenProject rebuiltSnapshot = cache.getSnapshotProject(child, null, false);
+		assertNotSame(snapshot, rebuiltSnapshot);
+		assertEquals("saved", rebuiltSnapshot.getProperties().getProperty("parentProperty"));
+	}
+
+	@Test
+	public void testChildrenOfSameParentHitModelCache() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null, languageService);
+		MavenProjectCache cache = plugin.getProjectCache();
+
+		// The editor-aware model cache overrides the default factory of Maven, and it's
+		// registered before the components building the models are instantiated
+		PlexusContainer container = plugin.getPlexusContainer();
+		assertEditorAwareModelCacheFactory(container.lookup(ModelCacheFactory.class));
+		assertEditorAwareModelCacheFactory(getInjectedModelCacheFactory(container.lookup(ProjectBuilder.class)));
+		assertEditorAwareModelCacheFactory(
+				getInjectedModelCacheFactory(container.lookup(ArtifactDescriptorReader.class)));
+
+		// The parent is located in the workspace, so its model can be cached
+		File parentFile = writeParentPom(folder);
+		File first = writeChildPom(folder.resolve("first"), "first");
+		File second = writeChildPom(folder.resolve("second"), "second");
+		MavenLemminxWorkspaceReader workspaceReader = (MavenLemminxWorkspaceReader) plugin.getMavenSession()
+				.getRequest().getWorkspaceReader();
+		workspaceReader.addToWorkspace(List.of(parentFile.toURI()));
+		Artifact parentArtifact = new DefaultArtifact("org.test", "parent", "pom", "1.0");
+		workspaceReader.findArtifact(parentArtifact);
+		assertNotNull(workspaceReader.findCurrentWorkspaceArtifact(parentArtifact));
+
+		// The second child reads the parent model cached by the first one
+		MavenModelCache modelCache = cache.getModelCache();
+		cache.getLoadedMavenProject(first).get(30, TimeUnit.SECONDS);
+		long hitCount = modelCache.getHitCount();
+		MavenProject secondProject = cache.getLoadedMavenProject(second).get(30, TimeUnit.SECONDS).getMavenProject();
+		assertEquals("parent", secondProject.getProperties().getProperty("parentProperty"));
+		assertTrue(modelCache.getHitCount() > hitCount);
+	}
+
+	private static void assertEditorAwareModelCacheFactory(ModelCacheFactory factory) {
+		assertFalse(factory instanceof DefaultModelCacheFactory);
+		// The model cache of a build request is a view of the editor-aware model cache
+		assertEquals(MavenModelCache.class, factory.createCache(null).getClass().getEnclosingClass());
+	}
+
+	private static ModelCacheFactory getInjectedModelCacheFactory(Object component)
+			throws ReflectiveOperationException {
+		Field field = component.getClass().getDeclaredField("modelCacheFactory");
+		field.setAccessible(true);
+		return (ModelCacheFactory) field.get(component);
+	}
+
+	@Test
+	public void testSnapshotsAreEvictedBeforeProjects() throws Exception {
+		// The weight of a built project, the same for all the projects written below
+		MavenLemminxExtension defaultPlugin = new MavenLemminxExtension();
+		defaultPlugin.start(null, languageService);
+		long projectWeight = defaultPlugin.getProjectCache()
+				.getLoadedMavenProject(writeProjectPom(folder.resolve("measured"), "measured"))
+				.get(30, TimeUnit.SECONDS).getEstimatedWeight();
+
+		// The cache has room for two built projects
+		MavenProjectCache cache = startWithMaximumWeight(2 * projectWeight).getProjectCache();
+		File first = writeProjectPom(folder.resolve("first"), "first");
+		File second = writeProjectPom(folder.resolve("second"), "second");
+		cache.getLoadedMavenProject(first).get(30, TimeUnit.SECONDS);
+		cache.getLoadedMavenProject(second).get(30, TimeUnit.SECONDS);
+		assertEquals(0, cache.getStatistics().getEvictionCount());
+
+		// The snapshot exceeding the maximum weight is evicted before the projects
+		File parentFile = writeParentPom(folder);
+		assertNotNull(cache.getSnapshotProject(createDocument(toURIString(parentFile), "parent", 1), null, false));
+		assertEquals(1, cache.getStatistics().getEvictionCount());
+		assertNotNull(cache.getCachedMavenProject(first));
+		assertNotNull(cache.getCachedMavenProject(second));
+
+		// Then the least recently used project is evicted
+		File third = writeProjectPom(folder.resolve("third"), "third");
+		cache.getLoadedMavenProject(third).get(30, TimeUnit.SECONDS);
+		awaitEvictions(cache, 2);
+		assertNull(cache.getCachedMavenProject(first));
+		assertNotNull(cache.getCachedMavenProject(second));
+		assertNotNull(cache.getCachedMavenProject(third));
+	}
+
+	@Test
+	public void testOpenedAndUnbuiltProjectsAreNotEvicted() throws Exception {
+		// No project fits in the cache
+		MavenLemminxExtension plugin = startWithMaximumWeight(1);
+		MavenProjectCache cache = plugin.getProjectCache();
+
+		File openedFile = writeParentPom(folder);
+		DOMDocument opened = createDocument(toURIString(openedFile), "parent", 1);
+		languageService.didOpen(opened);
+		cache.getLoadedMavenProject(opened).get(30, TimeUnit.SECONDS);
+		File closedFile = writeProjectPom(folder.resolve("closed"), "closed");
+		cache.getLoadedMavenProject(closedFile).get(30, TimeUnit.SECONDS);
+		awaitEvictions(cache, 1);
+		assertNull(cache.getCachedMavenProject(closedFile));
+		assertNotNull(cache.getCachedMavenProject(openedFile));
+
+		// A project waiting for the build worker
+		CountDownLatch gate = occupyWorker(cache.getProjectBuildManager());
+		File unbuiltFile = writeProjectPom(folder.resolve("unbuilt"), "unbuilt");
+		CompletableFuture<LoadedMavenProject> unbuilt = cache.getLoadedMavenProject(unbuiltFile);
+		assertFalse(unbuilt.isDone());
+
+		// The snapshot triggers an eviction, in which only the snapshot itself is evicted
+		File snapshotFile = writeProjectPom(folder.resolve("snapshot"), "snapshot");
+		DOMDocument snapshot = new DOMDocument(
+				new TextDocument(Files.readString(snapshotFile.toPath()), toURIString(snapshotFile)), null);
+		assertNotNull(cache.getSnapshotProject(snapshot, null, false));
+		assertEquals(2, cache.getStatistics().getEvictionCount());
+		assertSame(unbuilt, cache.getLoadedMavenProject(unbuiltFile));
+		assertNotNull(cache.getCachedMavenProject(openedFile));
+
+		// Once built, the closed project is evicted
+		gate.countDown();
+		unbuilt.get(30, TimeUnit.SECONDS);
+		awaitEvictions(cache, 3);
+		assertNull(cache.getCachedMavenProject(unbuiltFile));
+		assertNotNull(cache.getCachedMavenProject(openedFile));
+	}
+
+	/*
+	 * Starts the extension with a single build worker and a Maven Project Cache
+	 * limited to the given weight
+	 */
+	private static MavenLemminxExtension startWithMaximumWeight(long maximumWeight) {
+		return startWithBuildSettings(Map.of("projectCacheMaxWeight", maximumWeight, "workers", 1));
+	}
+
+	/*
+	 * Starts the extension, with its own Plexus container and Maven Project Cache,
+	 * using the given build settings
+	 */
+	private static MavenLemminxExtension startWithBuildSettings(Map<String, Object> buildSettings) {
+		InitializeParams params = new InitializeParams();
+		params.setWorkspaceFolders(List.of());
+		params.setInitializationOptions(
+				Map.of("settings", Map.of("xml", Map.of("maven", Map.of("build", buildSettings)))));
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(params, languageService);
+		return plugin;
+	}
+
+	/*
+	 * Waits for the evictions which follow the project builds
+	 */
+	private static void awaitEvictions(MavenProjectCache cache, long evictionCount) throws InterruptedException {
+		for (int i = 0; i < 100 && cache.getStatistics().getEvictionCount() < evictionCount; i++) {
+			Thread.sleep(50);
+		}
+		assertEquals(evictionCount, cache.getStatistics().getEvictionCount());
+	}
+
+	private static DOMDocument createDocument(String uri, String propertyValue, int version) {
+		String content = """
+				<project>
+					<modelVersion>4.0.0</modelVersion>
+					<groupId>org.test</groupId>
+					<artifactId>parent</artifactId>
+					<version>1.0</version>
+					<packaging>pom</packaging>
+					<properties>
+						<parentProperty>%s</parentProperty>
+					</properties>
+				</project>
+				""".formatted(propertyValue);
+		TextDocument textDocument = new TextDocument(content, uri);
+		textDocument.setVersion(version);
+		return new DOMDocument(textDocument, null);
+	}
+
+	/*
+	 * A project source which can't be read until the gate is open, so the builds
+	 * are kept in the queue of the Maven Project build manager
+	 */
+	private static class GatedModelSource extends FileModelSource {
+		private final CountDownLatch gate;
+		private final CountDownLatch reads;
+
+		GatedModelSource(File pomFile, CountDownLatch gate) {
+			this(pomFile, gate, null);
+		}
+
+		/*
+		 * The reads latch, if any, is counted down on every read attempt, before
+		 * waiting for the gate
+		 */
+		GatedModelSource(File pomFile, CountDownLatch gate, CountDownLatch reads) {
+			super(pomFile);
+			this.gate = gate;
+			this.reads = reads;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			if (reads != null) {
+				reads.countDown();
+			}
+			try {
+				gate.await(30, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return super.getInputStream();
+		}
+	}
+
+	private static File writeParentPom(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		return Files.writeString(directory.resolve("pom.xml"), """
+				<project>
+					<modelVersion>4.0.0</modelVersion>
+					<groupId>org.test</groupId>
+					<artifactId>parent</artifactId>
+					<version>1.0</version>
+					<packaging>pom</packaging>
+					<properties>
+						<parentProperty>parent</parentProperty>
+					</properties>
+				</project>
+				""").toFile();
+	}
+
+	private static File writeProjectPom(Path directory, String artifactId) throws IOException {
+		Files.createDirectories(directory);
+		return Files.writeString(directory.resolve("pom.xml"), """
+				<project>
+					<modelVersion>4.0.0</modelVersion>
+					<groupId>org.test</groupId>
+					<artifactId>%s</artifactId>
+					<version>1.0</version>
+				</project>
+				""".formatted(artifactId)).toFile();
+	}
+
+	private static File writeChildPom(Path directory, String artifactId) throws IOException {
+		Files.createDirectories(directory);
+		return Files.writeString(directory.resolve("pom.xml"), """
+				<project>
+					<modelVersion>4.0.0</modelVersion>
+					<parent>
+						<groupId>org.test</groupId>
+						<artifactId>parent</artifactId>
+						<version>1.0</version>
+					</parent>
+					<artifactId>%s</artifactId>
+				</project>
+				""".formatted(artifactId)).toFile();
+	}
+
 	/*
 	 * This method creates a DOMDocument using a not normalized URI, is to be used in Maven Project Cache 
 	 * duplication test case.
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.building.DefaultModelProblem;
+import org.apache.maven.model.building.ModelProblem;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenProjectStoreTest {
+
+	private static final String URI_KEY = "file:///project/pom.xml";
+
+	@TempDir
+	Path folder;
+
+	private static volatile boolean unexpectedObjectRead;
+
+	/**
+	 * A class the store must never deserialize
+	 */
+	private static class UnexpectedObject implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			in.defaultReadObject();
+			unexpectedObjectRead = true;
+		}
+	}
+
+	private LoadedMavenProject createProject(File pomFile) {
+		Model model = new Model();
+		model.setGroupId("org.test");
+		model.setArtifactId("project");
+		model.setVersion("1.0");
+		MavenProject project = new MavenProject(model);
+		project.setFile(pomFile);
+		ModelProblem problem = new DefaultModelProblem("A problem", ModelProblem.Severity.WARNING,
+				ModelProblem.Version.BASE, pomFile.getAbsolutePath(), 3, 5, "org.test:project:1.0", null);
+		return new LoadedMavenProject(project, List.of(problem), null);
+	}
+
+	private File writePom(String content) throws IOException {
+		return Files.writeString(folder.resolve("pom.xml"), content).toFile();
+	}
+
+	private static LoadedMavenProject awaitRestore(MavenProjectStore store) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			LoadedMavenProject restored = store.restore(URI_KEY);
+			if (restored != null) {
+				return restored;
+			}
+			Thread.sleep(50);
+		}
+		return null;
+	}
+
+	private static boolean awaitRemoval(MavenProjectStore store) throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			if (store.restore(URI_KEY) == null) {
+				return true;
+			}
+			Thread.sleep(50);
+		}
+		return false;
+	}
+
+	private static List<Path> listSnapshots(Path directory) throws IOException {
+		if (!Files.isDirectory(directory)) {
+			return List.of();
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.toList();
+		}
+	}
+
+	@Test
+	public void testStoredProjectIsRestored() throws Exception {
+		File pomFile = writePom("<project/>");
+		MavenProjectStore store = new MavenProjectStore(folder.resolve("store"));
+		store.save(URI_KEY, createProject(pomFile), null);
+
+		LoadedMavenProject restored = awaitRestore(store);
+		assertNotNull(restored);
+		assertTrue(restored.isStale());
+		assertEquals(pomFile.getAbsoluteFile(), restored.getMavenProject().getFile());
+		assertEquals("org.test:project:jar:1.0", restored.getMavenProject().getId());
+		ModelProblem problem = restored.getProblems().iterator().next();
+		assertEquals("A problem", problem.getMessage());
+		assertEquals(ModelProblem.Severity.WARNING, problem.getSeverity());
+		assertEquals(3, problem.getLineNumber());
+
+		// The pom.xml is changed since the project was stored
+		writePom("<project><!-- changed --></project>");
+		assertNull(store.restore(URI_KEY));
+		store.stop();
+	}
+
+	@Test
+	public void testProjectBuiltFromUnsavedChangesIsNotStored() throws Exception {
+		File pomFile = writePom("<project/>");
+		Path directory = folder.resolve("store");
+		MavenProjectStore store = new MavenProjectStore(directory);
+		store.save(URI_KEY, createProject(pomFile), "<project><!-- unsaved --></project>");
+		// Stopping waits for the pending writes
+		store.stop();
+
+		assertNull(store.restore(URI_KEY));
+		assertTrue(listSnapshots(directory).isEmpty());
+	}
+
+	@Test
+	public void testUnexpectedClassIsRejected() throws Exception {
+		File pomFile = writePom("<project/>");
+		Path directory = folder.resolve("store");
+		MavenProjectStore store = new MavenProjectStore(directory);
+		store.save(URI_KEY, createProject(pomFile), null);
+		assertNotNull(awaitRestore(store));
+		store.stop();
+
+		// Replace the stored snapshot with an object outside of the allowed classes
+		List<Path> snapshots = listSnapshots(directory);
+		assertEquals(1, snapshots.size());
+		try (OutputStream out = Files.newOutputStream(snapshots.get(0));
+				ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+			objectOut.writeObject(new UnexpectedObject());
+		}
+
+		assertNull(store.restore(URI_KEY));
+		assertFalse(unexpectedObjectRead);
+	}
+
+	@Test
+	public void testPluginConfigurationAndDependenciesAreRestored() throws Exception {
+		File pomFile = writePom("<project/>");
+		LoadedMavenProject loadedProject = createProject(pomFile);
+		Model model = loadedProject.getMavenProject().getModel();
+		Dependency dependency = new Dependency();
+		dependency.setGroupId("org.test");
+		dependency.setArtifactId("dependency");
+		dependency.setVersion("2.0");
+		model.addDependency(dependency);
+		Xpp3Dom configuration = new Xpp3Dom("configuration");
+		Xpp3Dom release = new Xpp3Dom("release");
+		release.setValue("17");
+		configuration.addChild(release);
+		Plugin plugin = new Plugin();
+		plugin.setArtifactId("maven-compiler-plugin");
+		plugin.setConfiguration(configuration);
+		model.setBuild(new Build());
+		model.getBuild().addPlugin(plugin);
+
+		MavenProjectStore store = new MavenProjectStore(folder.resolve("store"));
+		store.save(URI_KEY, loadedProject, null);
+
+		LoadedMavenProject restored = awaitRestore(store);
+		assertNotNull(restored);
+		Model restoredModel = restored.getMavenProject().getModel();
+		assertEquals("dependency", restoredModel.getDependencies().get(0).getArtifactId());
+		Plugin restoredPlugin = restoredModel.getBuild().getPlugins().get(0);
+		assertEquals("maven-compiler-plugin", restoredPlugin.getArtifactId());
+		Xpp3Dom restoredConfiguration = (Xpp3Dom) restoredPlugin.getConfiguration();
+		assertEquals("17", restoredConfiguration.getChild("release").getValue());
+		store.stop();
+	}
+
+	@Test
+	public void testProjectIsNotRestoredForUnsavedDocument() throws Exception {
+		File pomFile = writePom("<project/>");
+		MavenProjectStore store = new MavenProjectStore(folder.resolve("store"));
+		store.save(URI_KEY, createProject(pomFile), null);
+		assertNotNull(awaitRestore(store));
+
+		assertNotNull(store.restore(URI_KEY, "<project/>"));
+		assertNull(store.restore(URI_KEY, "<project><!-- unsaved --></project>"));
+		store.stop();
+	}
+
+	@Test
+	public void testRemovedProjectIsDeleted() throws Exception {
+		File pomFile = writePom("<project/>");
+		Path directory = folder.resolve("store");
+		MavenProjectStore store = new MavenProjectStore(directory);
+		store.save(URI_KEY, createProject(pomFile), null);
+		assertNotNull(awaitRestore(store));
+
+		store.remove(URI_KEY);
+		assertTrue(awaitRemoval(store));
+		assertTrue(listSnapshots(directory).isEmpty());
+		store.stop();
+	}
+
+	@Test
+	public void testExpiredProjectIsPruned() throws Exception {
+		File pomFile = writePom("<project/>");
+		Path directory = folder.resolve("store");
+		MavenProjectStore store = new MavenProjectStore(directory);
+		store.save(URI_KEY, createProject(pomFile), null);
+		assertNotNull(awaitRestore(store));
+		store.stop();
+
+		List<Path> snapshots = listSnapshots(directory);
+		assertEquals(1, snapshots.size());
+		Files.setLastModifiedTime(snapshots.get(0), FileTime.from(Instant.now().minus(31, ChronoUnit.DAYS)));
+
+		// A new session prunes the projects not written for a month
+		MavenProjectStore newStore = new MavenProjectStore(directory);
+		assertTrue(awaitRemoval(newStore));
+		assertTrue(listSnapshots(directory).isEmpty());
+		newStore.stop();
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.searcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.Test;
+
+public class LocalArtifactPrefixIndexTest {
+
+	private final LocalArtifactPrefixIndex index = new LocalArtifactPrefixIndex(List.of(
+			new DefaultArtifact("org.apache.maven.plugins:maven-jar-plugin:3.3.0"),
+			new DefaultArtifact("org.apache.maven:maven-core:3.9.6"),
+			new DefaultArtifact("org.apache.commons:commons-lang3:3.14.0"),
+			new DefaultArtifact("org.apache.maven.plugins:maven-compiler-plugin:3.12.1"),
+			new DefaultArtifact("org.apache.maven:maven-model:3.9.6"),
+			new DefaultArtifact("junit:junit:4.13.2")));
+
+	private static List<String> artifactIds(List<Artifact> artifacts) {
+		return artifacts.stream().map(Artifact::getArtifactId).toList();
+	}
+
+	@Test
+	public void testGroupIds() {
+		assertEquals(List.of("junit", "org.apache.commons", "org.apache.maven", "org.apache.maven.plugins"),
+				index.getGroupIds(""));
+		assertEquals(List.of("org.apache.maven", "org.apache.maven.plugins"), index.getGroupIds("org.apache.m"));
+		assertEquals(List.of("org.apache.maven.plugins"), index.getPluginGroupIds("org"));
+		assertEquals(Collections.emptyList(), index.getGroupIds("com.example"));
+		assertEquals(Collections.emptyList(), index.getGroupIds("zzz"));
+	}
+
+	@Test
+	public void testGroupIdSegments() {
+		assertEquals(List.of("org.apache.commons", "org.apache.maven", "org.apache.maven.plugins"),
+				index.getGroupIds("apache"));
+		assertEquals(List.of("org.apache.maven", "org.apache.maven.plugins"), index.getGroupIds("maven"));
+		assertEquals(List.of("org.apache.maven.plugins"), index.getGroupIds("maven.p"));
+		assertEquals(List.of("org.apache.maven.plugins"), index.getPluginGroupIds("plug"));
+		// Only whole segments are matched
+		assertEquals(Collections.emptyList(), index.getGroupIds("pache"));
+	}
+
+	@Test
+	public void testArtifacts() {
+		assertEquals(List.of("maven-core", "maven-model"), artifactIds(index.getArtifacts("org.apache.maven", "")));
+		assertEquals(List.of("maven-model"), artifactIds(index.getArtifacts("org.apache.maven", "maven-m")));
+		assertEquals(List.of("maven-compiler-plugin", "maven-jar-plugin"),
+				artifactIds(index.getPluginArtifacts("org.apache.maven.plugins", "")));
+		assertEquals(Collections.emptyList(), index.getPluginArtifacts("org.apache.maven", ""));
+		assertEquals(6, index.getArtifacts().size());
+	}
+}
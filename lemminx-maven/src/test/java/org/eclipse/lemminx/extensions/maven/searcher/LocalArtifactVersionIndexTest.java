@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.searcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LocalArtifactVersionIndexTest {
+
+	@Test
+	public void testMavenOrder() {
+		LocalArtifactVersionIndex index = new LocalArtifactVersionIndex();
+		index.put("org.test", "lib", List.of("1.10", "1.2", "2.0-SNAPSHOT", "1.9-beta-1", "1.9"));
+		assertEquals(List.of("1.2", "1.9-beta-1", "1.9", "1.10", "2.0-SNAPSHOT"), index.getVersions("org.test", "lib"));
+		assertEquals("2.0-SNAPSHOT", index.getLatest("org.test", "lib"));
+		assertEquals("1.10", index.getLatestRelease("org.test", "lib"));
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		LocalArtifactVersionIndex index = new LocalArtifactVersionIndex();
+		index.add("org.test", "lib", "1.0-SNAPSHOT");
+		assertNull(index.getLatestRelease("org.test", "lib"));
+		index.add("org.test", "lib", "1.0");
+		index.add("org.test", "lib", "1.0.0");
+		index.add("org.test", "lib", "1.0");
+		// "1.0" and "1.0.0" are equivalent but both folders exist
+		assertEquals(3, index.getVersions("org.test", "lib").size());
+		assertEquals("1.0-SNAPSHOT", index.getVersions("org.test", "lib").get(0));
+		index.remove("org.test", "lib", "1.0.0");
+		index.remove("org.test", "lib", "1.0");
+		assertEquals("1.0-SNAPSHOT", index.getLatest("org.test", "lib"));
+		index.remove("org.test", "lib", "1.0-SNAPSHOT");
+		assertEquals(Collections.emptyList(), index.getVersions("org.test", "lib"));
+		assertEquals(0, index.size());
+	}
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.searcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.lemminx.extensions.maven.searcher.LocalRepositoryIndex.FolderEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LocalRepositoryIndexTest {
+
+	@TempDir
+	Path repository;
+
+	@TempDir
+	Path indexDirectory;
+
+	private static String pomName(Path folder) {
+		return Character.isDigit(folder.getFileName().toString().charAt(0)) ? "lib-" + folder.getFileName() + ".pom"
+				: null;
+	}
+
+	private Path addVersion(String version) throws IOException {
+		Path folder = Files.createDirectories(repository.resolve("org/test/lib/" + version));
+		Files.writeString(folder.resolve("lib-" + version + ".pom"), "<project/>");
+		return folder;
+	}
+
+	private static void scan(LocalRepositoryIndex index, Path folder) {
+		scan(index, folder, -1);
+	}
+
+	private static void scan(LocalRepositoryIndex index, Path folder, long lastModified) {
+		FolderEntry entry = index.list(folder, lastModified, pomName(folder));
+		for (int i = 0; i < entry.getSubfolders().size(); i++) {
+			scan(index, folder.resolve(entry.getSubfolders().get(i)), entry.getSubfolderLastModified(i));
+		}
+	}
+
+	@Test
+	public void testStoredArtifacts() throws IOException {
+		Path version = addVersion("1.0");
+		LocalRepositoryIndex index = LocalRepositoryIndex.open(repository, indexDirectory);
+		assertTrue(index.read().isEmpty());
+		scan(index, repository);
+		index.save();
+
+		assertEquals(List.of(version), LocalRepositoryIndex.open(repository, indexDirectory).read());
+	}
+
+	@Test
+	public void testChangedFolders() throws IOException {
+		addVersion("1.0");
+		LocalRepositoryIndex index = LocalRepositoryIndex.open(repository, indexDirectory);
+		scan(index, repository);
+		index.save();
+
+		Path artifactFolder = repository.resolve("org/test/lib");
+		FileTime lastModified = Files.getLastModifiedTime(artifactFolder);
+		Path version = addVersion("2.0");
+		Files.setLastModifiedTime(artifactFolder, FileTime.fromMillis(lastModified.toMillis() + 1000));
+		index = LocalRepositoryIndex.open(repository, indexDirectory);
+		index.read();
+		assertEquals(Set.of("1.0", "2.0"), Set.copyOf(index.list(artifactFolder, -1, null).getSubfolders()));
+		assertTrue(index.list(version, -1, pomName(version)).isArtifact());
+	}
+
+	@Test
+	public void testReadIndexIsReplaced() throws IOException {
+		Path version = addVersion("1.0");
+		LocalRepositoryIndex index = LocalRepositoryIndex.open(repository, indexDirectory);
+		scan(index, repository);
+		index.save();
+
+		Path artifactFolder = repository.resolve("org/test/lib");
+		FileTime lastModified = Files.getLastModifiedTime(artifactFolder);
+		Path newVersion = addVersion("2.0");
+		Files.setLastModifiedTime(artifactFolder, FileTime.fromMillis(lastModified.toMillis() + 1000));
+		// The index file just read is replaced by the next save, a failure of
+		// which would only be logged
+		assertEquals(List.of(version), index.read());
+		scan(index, repository);
+		index.save();
+
+		assertEquals(Set.of(version, newVersion), Set.copyOf(index.read()));
+		try (Stream<Path> files = Files.list(indexDirectory)) {
+			assertEquals(1, files.count());
+		}
+		assertEquals(Set.of(version, newVersion),
+				Set.copyOf(LocalRepositoryIndex.open(repository, indexDirectory).read()));
+	}
+
+	@Test
+	public void testFoldersAreLookedUpInTheStoredIndex() throws IOException {
+		List<Path> versions = new ArrayList<>();
+		for (String version : List.of("1.0", "1.1", "2.0", "10.0", "1.0-beta")) {
+			versions.add(addVersion(version));
+		}
+		LocalRepositoryIndex index = LocalRepositoryIndex.open(repository, indexDirectory);
+		scan(index, repository);
+		index.save();
+
+		index = LocalRepositoryIndex.open(repository, indexDirectory);
+		assertEquals(Set.copyOf(versions), Set.copyOf(index.read()));
+		// Unchanged folders are read from the index, without listing them
+		for (Path version : versions) {
+			FolderEntry entry = index.list(version, -1, pomName(version));
+			assertNotNull(entry);
+			assertTrue(entry.isArtifact());
+		}
+		FolderEntry entry = index.list(repository.resolve("org/test/lib"), -1, null);
+		assertEquals(Set.of("1.0", "1.1", "2.0", "10.0", "1.0-beta"), Set.copyOf(entry.getSubfolders()));
+		assertEquals(-1, entry.getSubfolderLastModified(0));
+	}
+
+	@Test
+	public void testCorruptedIndexIsIgnored() throws IOException {
+		Path version = addVersion("1.0");
+		LocalRepositoryIndex index = LocalRepositoryIndex.open(repository, indexDirectory);
+		scan(index, repository);
+		index.save();
+
+		Path indexFile;
+		try (Stream<Path> files = Files.list(indexDirectory)) {
+			indexFile = files.findFirst().orElseThrow();
+		}
+		byte[] content = Files.readAllBytes(indexFile);
+		Files.write(indexFile, Arrays.copyOf(content, content.length / 2));
+		index = LocalRepositoryIndex.open(repository, indexDirectory);
+		index.read();
+		// The folders are listed again
+		assertTrue(index.list(version, -1, pomName(version)).isArtifact());
+		assertTrue(index.list(repository, -1, null).getSubfolderLastModified(0) >= 0);
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.searcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LocalRepositorySearcherTest {
+
+	@TempDir
+	Path repository;
+
+	@TempDir
+	Path indexDirectory;
+
+	private LocalRepositorySearcher searcher;
+
+	@AfterEach
+	public void tearDown() {
+		if (searcher != null) {
+			searcher.stop();
+		}
+	}
+
+	private Path addVersion(String artifactId, String version) throws IOException {
+		return addVersion("org.test", artifactId, version);
+	}
+
+	private Path addVersion(String groupId, String artifactId, String version) throws IOException {
+		Path folder = Files.createDirectories(
+				repository.resolve(groupId.replace('.', '/') + "/" + artifactId + "/" + version));
+		Files.writeString(folder.resolve(artifactId + "-" + version + ".pom"), "<project/>");
+		return folder;
+	}
+
+	private List<String> awaitGroupIds(String prefix, boolean isPlugin, List<String> expected)
+			throws InterruptedException {
+		List<String> groupIds = searcher.searchGroupIds(prefix, isPlugin);
+		for (int i = 0; i < 200 && !groupIds.equals(expected); i++) {
+			Thread.sleep(50);
+			groupIds = searcher.searchGroupIds(prefix, isPlugin);
+		}
+		return groupIds;
+	}
+
+	private List<String> awaitVersions(String artifactId, List<String> expected) throws InterruptedException {
+		List<String> versions = searcher.getLocalArtifactVersions("org.test", artifactId);
+		for (int i = 0; i < 200 && !versions.equals(expected); i++) {
+			Thread.sleep(50);
+			versions = searcher.getLocalArtifactVersions("org.test", artifactId);
+		}
+		return versions;
+	}
+
+	@Test
+	public void testVersionFolderIsWatchedUntilItsPomIsDownloaded() throws Exception {
+		LocalRepositoryWatcherTest.assumeNativeEvents();
+		addVersion("lib", "1.0");
+		searcher = new LocalRepositorySearcher(Set.of(repository.toFile()), indexDirectory, null);
+		assertEquals(List.of("1.0"), awaitVersions("lib", List.of("1.0")));
+
+		// A version folder created before its pom file is downloaded, notified
+		// along with a new artifact
+		Path version = Files.createDirectories(repository.resolve("org/test/lib/2.0"));
+		addVersion("other", "1.0");
+		assertEquals(List.of("1.0"), awaitVersions("other", List.of("1.0")));
+		assertEquals(List.of("1.0"), searcher.getLocalArtifactVersions("org.test", "lib"));
+
+		// The pom file doesn't change the artifact folder, only the watched version
+		// folder
+		Files.writeString(version.resolve("lib-2.0.pom"), "<project/>");
+		assertEquals(List.of("1.0", "2.0"), awaitVersions("lib", List.of("1.0", "2.0")));
+	}
+
+	@Test
+	public void testGroupIdsAreSearchedByPrefix() throws Exception {
+		LocalRepositoryWatcherTest.assumeNativeEvents();
+		addVersion("lib", "1.0");
+		addVersion("org.other", "lib", "1.0");
+		addVersion("com.test", "test-maven-plugin", "1.0");
+		searcher = new LocalRepositorySearcher(Set.of(repository.toFile()), indexDirectory, null);
+		assertEquals(List.of("org.other", "org.test"), awaitGroupIds("org.", false, List.of("org.other", "org.test")));
+		assertEquals(List.of("com.test"), searcher.searchGroupIds("", true));
+		assertEquals(List.of(), searcher.searchGroupIds("org.test.", false));
+
+		// The index of the prefixes is built again once the artifacts changed
+		addVersion("org.test.sub", "lib", "1.0");
+		assertEquals(List.of("org.test", "org.test.sub"),
+				awaitGroupIds("org.test", false, List.of("org.test", "org.test.sub")));
+	}
+}
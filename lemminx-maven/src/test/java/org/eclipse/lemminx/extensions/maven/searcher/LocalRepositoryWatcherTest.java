@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.searcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LocalRepositoryWatcherTest {
+
+	@TempDir
+	Path repository;
+
+	private final BlockingQueue<Set<Path>> changes = new LinkedBlockingQueue<>();
+	private LocalRepositoryWatcher watcher;
+
+	@AfterEach
+	public void tearDown() {
+		if (watcher != null) {
+			watcher.stop();
+		}
+	}
+
+	/**
+	 * Skips the tests where the watcher doesn't watch anything
+	 */
+	static void assumeNativeEvents() throws IOException {
+		try (WatchService service = FileSystems.getDefault().newWatchService()) {
+			assumeFalse(LocalRepositoryWatcher.isPolling(service), "No native file system events");
+		}
+	}
+
+	private void startWatcher(int maxWatchedFolders) throws IOException {
+		watcher = new LocalRepositoryWatcher(repository, (touchedPaths, rescannedFolders) -> {
+			Set<Path> paths = new HashSet<>(touchedPaths);
+			paths.addAll(rescannedFolders);
+			changes.add(paths);
+		}, maxWatchedFolders);
+		watcher.start();
+	}
+
+	@Test
+	public void testEventsAreCoalesced() throws Exception {
+		assumeNativeEvents();
+		startWatcher(10);
+		Path group = Files.createDirectories(repository.resolve("org/test"));
+		assertTrue(watcher.watch(group));
+
+		// The folders downloaded by a build are notified at once
+		Set<Path> created = new HashSet<>();
+		for (int i = 0; i < 5; i++) {
+			created.add(Files.createDirectory(group.resolve("lib-" + i)));
+		}
+		Set<Path> touchedPaths = changes.poll(10, TimeUnit.SECONDS);
+		assertNotNull(touchedPaths, "No change notified");
+		assertEquals(created, touchedPaths);
+		assertNull(changes.poll(2, TimeUnit.SECONDS));
+
+		// The unwatched folders aren't notified
+		watcher.unwatch(group);
+		Files.createDirectory(group.resolve("other"));
+		assertNull(changes.poll(2, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testTooManyFoldersMakeTheWatchesIncomplete() throws Exception {
+		assumeNativeEvents();
+		startWatcher(2);
+		watcher.setComplete(true);
+		assertTrue(watcher.watch(Files.createDirectories(repository.resolve("a"))));
+		assertTrue(watcher.watch(Files.createDirectories(repository.resolve("b"))));
+		assertTrue(watcher.isComplete());
+
+		// The periodic update is needed
+		assertFalse(watcher.watch(Files.createDirectories(repository.resolve("c"))));
+		assertFalse(watcher.isComplete());
+
+		// Until the next scan watches all the folders
+		watcher.unwatch(repository.resolve("b"));
+		watcher.setComplete(true);
+		assertTrue(watcher.watch(repository.resolve("a")));
+		assertTrue(watcher.watch(repository.resolve("c")));
+		assertTrue(watcher.isComplete());
+
+		watcher.stop();
+		assertFalse(watcher.isComplete());
+	}
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class GitIgnoreRulesTest {
+
+	private static final Path ROOT = Path.of("/workspace");
+
+	@Test
+	public void testPatterns() {
+		GitIgnoreRules rules = GitIgnoreRules.parse(ROOT, List.of( //
+				"# comment", //
+				"node_modules/", //
+				"/build", //
+				"docs/**/generated", //
+				"*.log"), GitIgnoreRules.EMPTY);
+		assertTrue(rules.isIgnored(ROOT.resolve("node_modules"), true));
+		assertTrue(rules.isIgnored(ROOT.resolve("web/app/node_modules"), true));
+		assertFalse(rules.isIgnored(ROOT.resolve("node_modules"), false));
+		assertTrue(rules.isIgnored(ROOT.resolve("build"), true));
+		assertFalse(rules.isIgnored(ROOT.resolve("module/build"), true));
+		assertTrue(rules.isIgnored(ROOT.resolve("docs/generated"), true));
+		assertTrue(rules.isIgnored(ROOT.resolve("docs/a/b/generated"), true));
+		assertTrue(rules.isIgnored(ROOT.resolve("module/out.log"), false));
+		assertFalse(rules.isIgnored(ROOT.resolve("module"), true));
+	}
+
+	@Test
+	public void testNestedRulesAndNegation() {
+		GitIgnoreRules parent = GitIgnoreRules.parse(ROOT, List.of("gen*"), GitIgnoreRules.EMPTY);
+		GitIgnoreRules child = GitIgnoreRules.parse(ROOT.resolve("module"), List.of("!generator"), parent);
+		assertTrue(child.isIgnored(ROOT.resolve("module/generated"), true));
+		assertFalse(child.isIgnored(ROOT.resolve("module/generator"), true));
+		assertTrue(child.isIgnored(ROOT.resolve("other/generator"), true));
+	}
+}
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.lemminx.extensions.maven.utils.LatencyHistogram.Snapshot;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 0; i < 98; i++) {
+			histogram.record(3);
+		}
+		histogram.record(150);
+		histogram.record(70_000);
+		Snapshot snapshot = histogram.getSnapshot();
+		assertEquals(100, snapshot.getCount());
+		assertEquals(98 * 3 + 150 + 70_000, snapshot.getTotalMillis());
+		assertEquals(5, snapshot.getP50Millis());
+		assertEquals(5, snapshot.getP90Millis());
+		assertEquals(200, snapshot.getP99Millis());
+		assertEquals(70_000, snapshot.getMaxMillis());
+	}
+
+	@Test
+	public void testEmpty() {
+		Snapshot snapshot = new LatencyHistogram().getSnapshot();
+		assertEquals(0, snapshot.getCount());
+		assertEquals(0, snapshot.getP99Millis());
+	}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.maven.model.Dependency;
+import org.eclipse.lemminx.extensions.maven.utils.PomHeaderReader.PomHeader;
+import org.junit.jupiter.api.Test;
+
+public class PomHeaderReaderTest {
+
+	private static PomHeader read(String content) {
+		return PomHeaderReader.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void testInheritedCoordinates() {
+		PomHeader header = read("""
+				<project xmlns="http://maven.apache.org/POM/4.0.0">
+				  <modelVersion>4.0.0</modelVersion>
+				  <parent>
+				    <groupId>org.test</groupId>
+				    <artifactId>parent</artifactId>
+				    <version>1.0</version>
+				    <relativePath>../pom.xml</relativePath>
+				  </parent>
+				  <artifactId>child</artifactId>
+				  <dependencies>
+				    <dependency>
+				      <groupId>other</groupId>
+				      <artifactId>other</artifactId>
+				      <version>2.0</version>
+				    </dependency>
+				  </dependencies>
+				</project>
+				""");
+		assertNotNull(header);
+		Dependency artifact = header.getArtifact();
+		assertEquals("org.test", artifact.getGroupId());
+		assertEquals("child", artifact.getArtifactId());
+		assertEquals("1.0", artifact.getVersion());
+		assertEquals("parent", header.getParent().getArtifactId());
+	}
+
+	@Test
+	public void testMalformedBody() {
+		// The header is read even if the document is being edited
+		PomHeader header = read("""
+				<project>
+				  <groupId>org.test</groupId>
+				  <artifactId>edited</artifactId>
+				  <version>1.0</version>
+				  <dependencies>
+				    <dependency
+				""");
+		assertNotNull(header);
+		assertEquals("edited", header.getArtifact().getArtifactId());
+		assertNull(header.getParent());
+	}
+
+	@Test
+	public void testNotAProject() {
+		assertNull(read("<settings><localRepository>repo</localRepository></settings>"));
+	}
+}